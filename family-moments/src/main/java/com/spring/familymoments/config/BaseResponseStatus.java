@@ -106,14 +106,20 @@ public enum BaseResponseStatus {
      */
     POST_FAIL_S3(false,HttpStatus.NOT_FOUND.value(),"사진 업로드에 실패하였습니다."),
     DELETE_FAIL_S3(false,HttpStatus.NOT_FOUND.value(),"사진 삭제에 실패하였습니다."),
+    UPLOAD_INVALID_TYPE(false, HttpStatus.BAD_REQUEST.value(), "이미지 파일만 업로드할 수 있습니다."),
+    UPLOAD_TOO_LARGE(false, HttpStatus.BAD_REQUEST.value(), "이미지 크기가 너무 큽니다."),
+    UPLOAD_INVALID_KEY(false, HttpStatus.FORBIDDEN.value(), "업로드 url 을 발급받지 않았거나 만료된 이미지입니다."),
+    UPLOAD_NOT_FOUND(false, HttpStatus.NOT_FOUND.value(), "업로드된 이미지를 찾을 수 없습니다."),
 
     minnie_POSTS_EDIT_INVALID_USER(false, HttpStatus.FORBIDDEN.value(), "수정 권한이 없습니다."),
     minnie_POSTS_DELETE_INVALID_USER(false, HttpStatus.FORBIDDEN.value(), "삭제 권한이 없습니다."),
     minnie_POSTS_INVALID_POST_ID(false, HttpStatus.NOT_FOUND.value(), "유효하지 않은 postId 입니다."),
     minnie_POSTS_NON_EXISTS_POST(false, HttpStatus.NOT_FOUND.value(), "post가 존재하지 않습니다."),
+    minnie_POSTS_INVALID_CURSOR(false, HttpStatus.BAD_REQUEST.value(), "유효하지 않은 cursor 입니다."),
     minnie_POSTS_EMPTY_UPDATE(false, HttpStatus.BAD_REQUEST.value(), "수정할 내용을 보내주세요."),
     minnie_POSTS_EMPTY_CONTENT(false, HttpStatus.BAD_REQUEST.value(), "내용을 입력해주세요."),
     minnie_POSTS_EMPTY_IMAGE(false, HttpStatus.BAD_REQUEST.value(), "업로드할 이미지를 선택해주세요."),
+    minnie_POSTS_INVALID_ORIGIN_IMAGE(false, HttpStatus.BAD_REQUEST.value(), "게시물에 포함되지 않은 기존 이미지입니다."),
     minnie_POSTS_FULL_IMAGE(false, HttpStatus.BAD_REQUEST.value(), "한 게시물에 포함할 수 있는 이미지의 개수는 최대 4장입니다."),
     minnie_POSTS_EMPTY_POST_INFO(false, HttpStatus.BAD_REQUEST.value(), "postInfo가 포함되어야 합니다."),
     minnie_POST_SAVE_FAIL(false, HttpStatus.INTERNAL_SERVER_ERROR.value(), "게시물 저장에 실패했습니다."),
@@ -131,6 +137,7 @@ public enum BaseResponseStatus {
     FIND_FAIL_COMMENT(false, HttpStatus.NOT_FOUND.value(), "존재하지 않는 댓글입니다."),
     ALREADY_DELETE_COMMENT(false, HttpStatus.NOT_FOUND.value(), "이미 삭제된 댓글입니다."),
     COMMENTS_EMPTY_CONTENT(false, HttpStatus.NOT_FOUND.value(), "댓글 내용을 입력해주세요."),
+    COMMENTS_INVALID_CURSOR(false, HttpStatus.BAD_REQUEST.value(), "유효하지 않은 cursor 입니다."),
     COMMENTLOVE_ALREADY_EXISTS(false, HttpStatus.BAD_REQUEST.value(), "이미 좋아요를 누른 댓글입니다."),
     FIND_FAIL_COMMENTLOVE(false, HttpStatus.NOT_FOUND.value(), "좋아요를 누르지 않아 취소할 수 없습니다."),
 
@@ -3,6 +3,9 @@ package com.spring.familymoments.domain.alarmSetting;
 import com.spring.familymoments.domain.alarmSetting.entity.AlarmSetting;
 import com.spring.familymoments.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +13,9 @@ import java.util.Optional;
 public interface AlarmSettingRepository extends JpaRepository<AlarmSetting, Long> {
     Optional<AlarmSetting> findByUserAndAlarmType(User user, AlarmSetting.AlarmType alarmType);
     List<AlarmSetting> findAlarmSettingByUser(User user);
+
+    // [회원 탈퇴] 유저의 알림 설정 limit 개씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM AlarmSetting WHERE userId = :userId LIMIT :limit", nativeQuery = true)
+    int deleteByUserId(@Param("userId") long userId, @Param("limit") int limit);
 }
@@ -3,12 +3,16 @@ package com.spring.familymoments.domain.awsS3;
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.config.BaseResponse;
 import com.spring.familymoments.config.NoAuthCheck;
+import com.spring.familymoments.domain.awsS3.model.ImageDedupMetricsRes;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.util.List;
 
 
@@ -42,6 +46,24 @@ public class AwsS3Controller {
         return new BaseResponse<>(fileUrls);
     }
 
+    @ResponseBody
+    @PostMapping(value = "/image/stream", consumes = "image/*")
+    @Operation(summary = "이미지 스트리밍 등록", description = "요청 본문의 이미지 한 개를 버퍼링 없이 S3에 스트리밍 등록하고 URL을 반환합니다.")
+    @NoAuthCheck
+    public BaseResponse<String> uploadImageStream(@RequestParam(name = "fileName") String fileName,
+                                                  @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                  HttpServletRequest request) throws IOException {
+        String fileUrl = awsS3Service.uploadImageStream(fileName, contentType, request.getInputStream());
+        return new BaseResponse<>(fileUrl);
+    }
+
+    @ResponseBody
+    @GetMapping("/metrics/dedup")
+    @Operation(summary = "이미지 중복 제거 지표", description = "서버 시작 이후 이미지 중복 제거 비율과 절약한 용량을 반환합니다.")
+    public BaseResponse<ImageDedupMetricsRes> getDedupMetrics() {
+        return new BaseResponse<>(awsS3Service.getDedupMetrics());
+    }
+
     @ResponseBody
     @DeleteMapping("")
     @Operation(summary = "이미지 삭제", description = "이미지를 S3에서 삭제합니다.")
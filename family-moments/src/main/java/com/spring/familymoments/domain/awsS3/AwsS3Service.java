@@ -1,14 +1,10 @@
 package com.spring.familymoments.domain.awsS3;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.spring.familymoments.config.BaseException;
-import lombok.RequiredArgsConstructor;
+import com.spring.familymoments.domain.awsS3.model.DirectUploadFileReq;
+import com.spring.familymoments.domain.awsS3.model.DirectUploadRes;
+import com.spring.familymoments.domain.awsS3.model.ImageDedupMetricsRes;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -16,35 +12,139 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import javax.transaction.Transactional;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.List;
-import java.util.UUID;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
-import static com.spring.familymoments.config.BaseResponseStatus.DELETE_FAIL_S3;
-import static com.spring.familymoments.config.BaseResponseStatus.POST_FAIL_S3;
+import static com.spring.familymoments.config.BaseResponseStatus.*;
+import static com.spring.familymoments.utils.TransactionUtils.afterRollback;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class AwsS3Service {
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-    @Autowired
-    private final AmazonS3 amazonS3;
+    @Value("${cloud.aws.s3.upload.timeout-ms:30000}")
+    private long uploadTimeoutMs;
+    private final ObjectStorage objectStorage;
+    private final AwsS3UploadExecutor awsS3UploadExecutor;
+
+    // 스트리밍 업로드
+    @Value("${cloud.aws.s3.stream.max-bytes:52428800}")
+    private long streamMaxBytes;
+    @Value("${cloud.aws.s3.stream.wait-ms:3000}")
+    private long streamWaitMs;
+    private final Semaphore streamPermits;
+
+    // 직접 업로드
+    @Value("${cloud.aws.s3.direct-upload.expiry-seconds:600}")
+    private long directUploadExpirySeconds;
+    @Value("${cloud.aws.s3.direct-upload.max-bytes:20971520}")
+    private long directUploadMaxBytes;
+    private final DirectUploadReservationDao directUploadReservationDao;
+
+    // 내용 기반 중복 제거
+    private final ImageBlobService imageBlobService;
+    private final ImageDedupMetrics imageDedupMetrics;
+
+    public AwsS3Service(ObjectStorage objectStorage, AwsS3UploadExecutor awsS3UploadExecutor,
+                        @Value("${cloud.aws.s3.stream.max-concurrent:8}") int streamMaxConcurrent,
+                        DirectUploadReservationDao directUploadReservationDao,
+                        ImageBlobService imageBlobService, ImageDedupMetrics imageDedupMetrics) {
+        this.objectStorage = objectStorage;
+        this.awsS3UploadExecutor = awsS3UploadExecutor;
+        this.streamPermits = new Semaphore(streamMaxConcurrent);
+        this.directUploadReservationDao = directUploadReservationDao;
+        this.imageBlobService = imageBlobService;
+        this.imageDedupMetrics = imageDedupMetrics;
+    }
 
     private static final String ORIGIN_PREFIX = "fm-origin/";
+    // 내용 기반 key 로 옮기기 전의 임시 업로드 (썸네일 생성 대상이 아닌 prefix)
+    static final String UPLOAD_PREFIX = "fm-upload/";
     private static final String THUMBNAIL_PREFIX = "thumbnails/";
     private static final String PROFILE_PREFIX = "profile-";
 
+    /**
+     * uploadImage
+     * 게시물 이미지를 내용(SHA-256) 기반 key 로 저장
+     * multipart 스트림을 한 번만 읽으며 임시 key 로 업로드하는 동안 hash 를 계산하고,
+     * 같은 내용의 이미지가 이미 저장되어 있으면 임시 객체를 지우고 기존 이미지 url, 없으면 내용 기반 key 로 이동
+     * @return 썸네일 이미지 url
+     */
     public String uploadImage(MultipartFile image) {
-        String fileName = ORIGIN_PREFIX + createFileName(image.getOriginalFilename());
-        String originUrl = putImage(fileName, image);
-        String thumbnailUrl = originUrl.replace(ORIGIN_PREFIX, THUMBNAIL_PREFIX);
+        String extension = getFileExtension(image.getOriginalFilename()).toLowerCase();
+        String uploadKey = UPLOAD_PREFIX + UUID.randomUUID() + extension;
+        String hash = putImageHashing(uploadKey, image);
 
-        return thumbnailUrl;
+        String originUrl;
+        try {
+            originUrl = imageBlobService.find(hash)
+                    // 정리 작업이 먼저 삭제한 원본이면 업로드한 객체를 사용
+                    .filter(imageBlob -> imageBlobService.touch(hash))
+                    .map(imageBlob -> {
+                        deleteUpload(uploadKey);
+                        imageDedupMetrics.recordDedupHit(image.getSize());
+                        return objectStorage.getUrl(imageBlob.getObjectKey());
+                    })
+                    .orElseGet(() -> {
+                        String fileName = ORIGIN_PREFIX + ImageBlobService.CONTENT_PREFIX + hash + extension;
+                        moveImage(uploadKey, fileName);
+                        imageBlobService.register(hash, fileName, image.getSize());
+                        imageDedupMetrics.recordUpload(image.getSize());
+                        return objectStorage.getUrl(fileName);
+                    });
+        } catch (RuntimeException e) {
+            deleteUpload(uploadKey);
+            throw e;
+        }
+
+        return originUrl.replace(ORIGIN_PREFIX, THUMBNAIL_PREFIX);
+    }
+
+    public ImageDedupMetricsRes getDedupMetrics() {
+        return imageDedupMetrics.snapshot();
+    }
+
+    // multipart 스트림을 DigestInputStream 으로 감싸 업로드하며 SHA-256 계산
+    private String putImageHashing(String key, MultipartFile image) {
+        try(DigestInputStream inputStream = new DigestInputStream(image.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            objectStorage.put(key, inputStream, image.getSize(), image.getContentType());
+
+            StringBuilder hex = new StringBuilder();
+            for(byte b : inputStream.getMessageDigest().digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (Exception e) {
+            log.error("[putImageHashing] 이미지 업로드 실패. key: {}", key, e);
+            deleteUpload(key);
+            throw new BaseException(POST_FAIL_S3);
+        }
+    }
+
+    private void moveImage(String sourceKey, String targetKey) {
+        try {
+            objectStorage.move(sourceKey, targetKey);
+        } catch (IOException | RuntimeException e) {
+            log.error("[moveImage] 이미지 이동 실패. key: {}", targetKey, e);
+            throw new BaseException(POST_FAIL_S3);
+        }
+    }
+
+    // 남은 임시 객체는 ImageGcService 가 유예 기간 후 정리하므로 실패해도 무시
+    private void deleteUpload(String key) {
+        try {
+            objectStorage.delete(key);
+        } catch (IOException | RuntimeException e) {
+            log.warn("[deleteUpload] 임시 업로드 객체 삭제 실패. key: {}", key, e);
+        }
     }
 
     public String uploadProfileImage(MultipartFile image) throws BaseException {
@@ -55,61 +155,212 @@ public class AwsS3Service {
         return thumbnailUrl;
     }
 
+    /**
+     * uploadImages
+     * 게시물의 이미지를 업로드 전용 스레드 풀에서 동시에 업로드
+     * 하나라도 실패하거나 제한 시간을 넘기면 나머지 업로드를 취소하고 실패 처리
+     * @return 요청 순서와 같은 순서의 이미지 url
+     */
     public List<String> uploadImages(List<MultipartFile> images) {
-        List<String> fileUrlList = images.stream()
-                .map(file -> uploadImage(file))
-                .collect(Collectors.toList());
-
-//        List<String> fileNameList = new ArrayList<>();
-//        List<String> fileUrlList = new ArrayList<>();
-//
-//        images.forEach(file -> {
-//            String fileName = createFileName(file.getOriginalFilename());
-//            String fileUrl = amazonS3.getUrl(bucket, fileName).toString();
-//
-//            ObjectMetadata objectMetadata = new ObjectMetadata();
-//            objectMetadata.setContentLength(file.getSize());
-//            objectMetadata.setContentType(file.getContentType());
-//
-//            try(InputStream inputStream = file.getInputStream()) {
-//                amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-//                        .withCannedAcl(CannedAccessControlList.PublicRead));
-//            } catch(IOException e) {
-//                log.error(e.getMessage());
-//                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다.");
-//            }
-//
-//            fileNameList.add(fileName);
-//            fileUrlList.add(fileUrl);
-//        });
-//
-        return fileUrlList;
+        if(images.size() <= 1) {
+            return images.stream()
+                    .map(this::uploadImage)
+                    .collect(Collectors.toList());
+        }
+
+        CompletionService<String> completionService = new ExecutorCompletionService<>(awsS3UploadExecutor.getExecutor());
+        Map<Future<String>, Integer> indexes = new HashMap<>();
+        try {
+            for(int i = 0; i < images.size(); i++) {
+                MultipartFile image = images.get(i);
+                indexes.put(completionService.submit(() -> uploadImage(image)), i);
+            }
+
+            // 끝난 순서대로 확인해 먼저 실패한 업로드를 바로 감지
+            String[] urls = new String[images.size()];
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(uploadTimeoutMs);
+            for(int i = 0; i < images.size(); i++) {
+                Future<String> done = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if(done == null) {
+                    log.error("[uploadImages] 이미지 업로드 시간 초과. timeout: {}ms", uploadTimeoutMs);
+                    throw new BaseException(POST_FAIL_S3);
+                }
+                urls[indexes.get(done)] = done.get();
+            }
+            return Arrays.asList(urls);
+        } catch (RejectedExecutionException e) {
+            log.warn("[uploadImages] 업로드 대기열이 가득 찼습니다.");
+            throw new BaseException(POST_FAIL_S3);
+        } catch (ExecutionException e) {
+            // 순차 업로드와 같은 예외를 그대로 전달
+            if(e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BaseException(POST_FAIL_S3);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(POST_FAIL_S3);
+        } finally {
+            // 실패 시 진행 중이거나 대기 중인 업로드 취소 (성공한 경우 이미 끝난 작업이므로 영향 없음)
+            indexes.keySet().forEach(future -> future.cancel(true));
+        }
     }
 
     public String putImage(String fileName, MultipartFile image) {
+        try (InputStream inputStream = image.getInputStream()) {
+            objectStorage.put(fileName, inputStream, image.getSize(), image.getContentType());
+            return objectStorage.getUrl(fileName);
+        }
+        catch (Exception e){
+            log.error("[putImage] 이미지 업로드 실패. fileName: {}", fileName, e);
+            throw new BaseException(POST_FAIL_S3);
+        }
+    }
+
+    /**
+     * uploadImageStream
+     * 요청 본문 스트림을 저장소로 바로 전송 (S3 는 고정 크기 chunk 의 multipart upload, 로컬은 FileChannel)
+     * 서블릿의 multipart 버퍼(메모리, 임시 파일)를 거치지 않으며, 업로드 하나가 사용하는 메모리는 버퍼 크기로 고정
+     * 동시에 진행되는 스트리밍 업로드 수도 제한하여 전체 메모리 사용량을 일정하게 유지
+     * @return 썸네일 이미지 url
+     */
+    public String uploadImageStream(String originalFileName, String contentType, InputStream inputStream) {
+        if(contentType == null || !contentType.startsWith("image/")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다.");
+        }
+        String fileName = ORIGIN_PREFIX + createFileName(originalFileName);
+
+        boolean acquired = false;
         try {
-            String fileUrl = amazonS3.getUrl(bucket, fileName).toString();
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentLength(image.getSize());
-            objectMetadata.setContentType(image.getContentType());
-
-            try (InputStream inputStream = image.getInputStream()) {
-                amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, objectMetadata)
-                        .withCannedAcl(CannedAccessControlList.PublicRead));
-            } catch (IOException e) {
-                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 업로드에 실패했습니다.");
+            acquired = streamPermits.tryAcquire(streamWaitMs, TimeUnit.MILLISECONDS);
+            if(!acquired) {
+                log.warn("[uploadImageStream] 동시 스트리밍 업로드 수 초과");
+                throw new BaseException(POST_FAIL_S3);
+            }
+            String originUrl = putImageStream(fileName, contentType, inputStream);
+            return originUrl.replace(ORIGIN_PREFIX, THUMBNAIL_PREFIX);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(POST_FAIL_S3);
+        } finally {
+            if(acquired) {
+                streamPermits.release();
             }
+        }
+    }
 
-            return fileUrl;
+    private String putImageStream(String fileName, String contentType, InputStream inputStream) {
+        long length;
+        try {
+            length = objectStorage.putStream(fileName, inputStream, contentType, streamMaxBytes);
+        } catch (ObjectStorage.TooLargeException e) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "이미지 크기가 너무 큽니다.");
+        } catch (IOException | RuntimeException e) {
+            log.error("[uploadImageStream] 이미지 업로드 실패. fileName: {}", fileName, e);
+            throw new BaseException(POST_FAIL_S3);
         }
-        catch (Exception e){
+
+        if(length == 0) {
+            deleteImage(fileName);
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "빈 파일은 업로드할 수 없습니다.");
+        }
+        return objectStorage.getUrl(fileName);
+    }
+
+    /**
+     * issueDirectUploads
+     * 클라이언트가 저장소에 직접 업로드할 key 와 업로드 url 발급
+     * 발급한 key 는 만료 시각까지 요청한 유저에게만 예약되며, verifyDirectUploads 에서 한 번만 사용 가능
+     * @return 요청 순서와 같은 순서의 DirectUploadRes
+     */
+    public List<DirectUploadRes> issueDirectUploads(long userId, List<DirectUploadFileReq> files) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(directUploadExpirySeconds);
+        Date expiration = Date.from(expiresAt.atZone(ZoneId.systemDefault()).toInstant());
+
+        List<DirectUploadRes> uploads = new ArrayList<>();
+        for(DirectUploadFileReq file : files) {
+            if(file.getContentType() == null || !file.getContentType().startsWith("image/")) {
+                throw new BaseException(UPLOAD_INVALID_TYPE);
+            }
+            if(file.getSize() <= 0 || file.getSize() > directUploadMaxBytes) {
+                throw new BaseException(UPLOAD_TOO_LARGE);
+            }
+
+            String key = ORIGIN_PREFIX + createFileName(file.getFileName());
+            directUploadReservationDao.reserve(key, userId, directUploadExpirySeconds);
+
+            uploads.add(DirectUploadRes.builder()
+                    .key(key)
+                    .uploadUrl(objectStorage.createUploadUrl(key, file.getContentType(), expiration))
+                    .headers(objectStorage.getUploadHeaders(file.getContentType()))
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        return uploads;
+    }
+
+    /**
+     * verifyDirectUploads
+     * 유저에게 발급한 key 의 예약을 원자적으로 가져간 뒤, 저장소에 업로드되었는지, 크기가 제한 이내인지 확인
+     * 같은 key 로 동시에 요청해도 한 요청만 통과하며, 확인에 실패하거나 게시물 작성 트랜잭션이 롤백되면 예약을 되돌림
+     * @return 요청 순서와 같은 순서의 썸네일 이미지 url
+     */
+    public List<String> verifyDirectUploads(long userId, List<String> keys) {
+        List<String> claimedKeys = new ArrayList<>();
+        List<String> urls = new ArrayList<>();
+        try {
+            for(String key : keys) {
+                if(!directUploadReservationDao.claim(key, userId)) {
+                    throw new BaseException(UPLOAD_INVALID_KEY);
+                }
+                claimedKeys.add(key);
+
+                long size = getUploadedSize(key)
+                        .orElseThrow(() -> new BaseException(UPLOAD_NOT_FOUND));
+                if(size <= 0 || size > directUploadMaxBytes) {
+                    throw new BaseException(UPLOAD_TOO_LARGE);
+                }
+                urls.add(objectStorage.getUrl(key).replace(ORIGIN_PREFIX, THUMBNAIL_PREFIX));
+            }
+        } catch (RuntimeException e) {
+            restoreReservations(userId, claimedKeys);
+            throw e;
+        }
+
+        afterRollback(() -> restoreReservations(userId, claimedKeys));
+        return urls;
+    }
+
+    private Optional<Long> getUploadedSize(String key) {
+        try {
+            return objectStorage.getSize(key);
+        } catch (IOException e) {
+            log.error("[verifyDirectUploads] 업로드 확인 실패. key: {}", key, e);
             throw new BaseException(POST_FAIL_S3);
         }
     }
 
+    private void restoreReservations(long userId, List<String> keys) {
+        for(String key : keys) {
+            directUploadReservationDao.restore(key, userId, directUploadExpirySeconds);
+        }
+    }
+
+    /**
+     * getImageBytes
+     * 저장된 이미지를 읽음 (variant 생성용, 직접 업로드 최대 크기를 넘는 이미지는 읽지 않음)
+     */
+    public byte[] getImageBytes(String key) throws IOException {
+        return objectStorage.read(key, directUploadMaxBytes);
+    }
+
+    public void putImageBytes(String key, byte[] bytes, String contentType) throws IOException {
+        objectStorage.put(key, new ByteArrayInputStream(bytes), bytes.length, contentType);
+    }
+
     public void deleteImage(String fileName) throws BaseException {
         try {
-            amazonS3.deleteObject(new DeleteObjectRequest(bucket, fileName));
+            objectStorage.delete(fileName);
         }
         catch (Exception e){
             throw new BaseException(DELETE_FAIL_S3);
@@ -0,0 +1,41 @@
+package com.spring.familymoments.domain.awsS3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * S3 이미지 업로드 전용 스레드 풀
+ * 서버당 동시 업로드 수를 pool-size 로, 대기 업로드 수를 queue-capacity 로 제한하고
+ * 가득 찬 경우 대기하지 않고 바로 거절(TaskRejectedException)
+ */
+@Slf4j
+@Component
+public class AwsS3UploadExecutor implements DisposableBean {
+    private final ThreadPoolTaskExecutor executor;
+
+    public AwsS3UploadExecutor(@Value("${cloud.aws.s3.upload.pool-size:8}") int poolSize,
+                               @Value("${cloud.aws.s3.upload.queue-capacity:32}") int queueCapacity) {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
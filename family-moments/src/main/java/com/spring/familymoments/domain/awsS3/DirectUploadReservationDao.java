@@ -0,0 +1,53 @@
+package com.spring.familymoments.domain.awsS3;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 직접 업로드 key 예약 (Redis, 값은 key 를 발급받은 userId)
+ * 게시물 작성 시 claim 으로 예약을 가져가며, 같은 key 는 한 요청만 가져갈 수 있음
+ */
+@Repository
+@RequiredArgsConstructor
+public class DirectUploadReservationDao {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String PREFIX = "DIRECT_UPLOAD(";
+    // 값이 userId 인 경우에만 삭제 (조회와 삭제 사이에 다른 요청이 가져가지 못함)
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0", Long.class);
+
+    public void reserve(String key, long userId, long expirySeconds) {
+        redisTemplate.opsForValue().set(reservationKey(key), String.valueOf(userId), expirySeconds, TimeUnit.SECONDS);
+    }
+
+    // 예약이 남아 있는 key 인지 확인 (가져가지 않음, 로컬 직접 업로드 API 의 업로드 권한 확인용)
+    public boolean isReserved(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(reservationKey(key)));
+    }
+
+    /**
+     * claim
+     * userId 에게 발급한 key 의 예약을 원자적으로 가져감
+     * @return 예약이 없거나 다른 유저의 key, 이미 다른 요청이 가져간 key 이면 false
+     */
+    public boolean claim(String key, long userId) {
+        Long deleted = redisTemplate.execute(CLAIM_SCRIPT, List.of(reservationKey(key)), String.valueOf(userId));
+        return deleted != null && deleted > 0;
+    }
+
+    // 가져간 예약을 되돌림 (게시물 작성이 실패한 경우, 그 사이 다시 발급된 예약은 덮어쓰지 않음)
+    public void restore(String key, long userId, long expirySeconds) {
+        redisTemplate.opsForValue().setIfAbsent(reservationKey(key), String.valueOf(userId), expirySeconds, TimeUnit.SECONDS);
+    }
+
+    private static String reservationKey(String key) {
+        return PREFIX + key + "):";
+    }
+}
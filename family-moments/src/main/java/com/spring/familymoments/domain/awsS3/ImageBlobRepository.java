@@ -0,0 +1,50 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.domain.awsS3.entity.ImageBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    // 업로드한 이미지 등록 (이미 있으면 무시)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO ImageBlob (hash, objectKey, size, refCount, createdAt, updatedAt) " +
+            "VALUES (:hash, :objectKey, :size, 0, NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("objectKey") String objectKey, @Param("size") long size);
+
+    @Modifying
+    @Query(value = "UPDATE ImageBlob SET refCount = refCount + :count, updatedAt = NOW() WHERE hash = :hash", nativeQuery = true)
+    int increaseRefCount(@Param("hash") String hash, @Param("count") int count);
+
+    @Modifying
+    @Query(value = "UPDATE ImageBlob SET refCount = GREATEST(CAST(refCount AS SIGNED) - :count, 0), updatedAt = NOW() " +
+            "WHERE hash = :hash", nativeQuery = true)
+    int decreaseRefCount(@Param("hash") String hash, @Param("count") int count);
+
+    // 중복 업로드로 다시 사용할 원본의 정리 유예 시작 시각 갱신
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE ImageBlob SET updatedAt = NOW() WHERE hash = :hash", nativeQuery = true)
+    int touch(@Param("hash") String hash);
+
+    // [이미지 정리] 참조가 없고 유예 기간 동안 사용되지 않은 원본
+    @Query("SELECT b FROM ImageBlob b WHERE b.hash IN :hashes AND b.refCount = 0 AND b.updatedAt < :cutoff")
+    List<ImageBlob> findUnreferenced(@Param("hashes") Collection<String> hashes, @Param("cutoff") LocalDateTime cutoff);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ImageBlob b WHERE b.hash IN :hashes AND b.refCount = 0 AND b.updatedAt < :cutoff")
+    List<ImageBlob> findUnreferencedForUpdate(@Param("hashes") Collection<String> hashes, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT b.hash FROM ImageBlob b WHERE b.hash IN :hashes")
+    List<String> findHashesIn(@Param("hashes") Collection<String> hashes);
+}
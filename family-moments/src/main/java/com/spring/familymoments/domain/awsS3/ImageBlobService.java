@@ -0,0 +1,126 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.domain.awsS3.entity.ImageBlob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 내용 기반 이미지 원본의 참조 수 관리
+ * 이미지 이름이 sha256-{hash}.{확장자} 인 이미지만 관리 대상이며, 그 외(이전 UUID 이름, 프로필 이미지 등)는 무시
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageBlobService {
+    private final ImageBlobRepository imageBlobRepository;
+
+    public static final String CONTENT_PREFIX = "sha256-";
+
+    @Transactional(readOnly = true)
+    public Optional<ImageBlob> find(String hash) {
+        return imageBlobRepository.findById(hash);
+    }
+
+    /**
+     * touch
+     * 중복 업로드로 기존 원본을 다시 사용하기 전에 호출, 정리 작업이 먼저 삭제했다면 false
+     */
+    public boolean touch(String hash) {
+        return imageBlobRepository.touch(hash) > 0;
+    }
+
+    /**
+     * findUnreferenced
+     * [이미지 정리] 참조가 없고 cutoff 이후 사용되지 않은 원본 (dry-run 용, 잠금 없음)
+     */
+    @Transactional(readOnly = true)
+    public List<ImageBlob> findUnreferenced(Collection<String> hashes, LocalDateTime cutoff) {
+        return imageBlobRepository.findUnreferenced(hashes, cutoff);
+    }
+
+    /**
+     * deleteUnreferenced
+     * [이미지 정리] 참조가 없고 cutoff 이후 사용되지 않은 원본 행을 잠근 채 deleteObjects 로 객체를 삭제한 뒤 행 삭제
+     * 잠금이 끝날 때까지 같은 원본의 중복 업로드(touch)와 참조 증가가 대기하므로, 삭제 중인 원본을 다시 사용하지 않음
+     * @return 삭제한 원본
+     */
+    @Transactional
+    public List<ImageBlob> deleteUnreferenced(Collection<String> hashes, LocalDateTime cutoff, Consumer<List<ImageBlob>> deleteObjects) {
+        List<ImageBlob> imageBlobs = imageBlobRepository.findUnreferencedForUpdate(hashes, cutoff);
+        if(!imageBlobs.isEmpty()) {
+            deleteObjects.accept(imageBlobs);
+            imageBlobRepository.deleteAllInBatch(imageBlobs);
+        }
+        return imageBlobs;
+    }
+
+    /**
+     * adoptOrphans
+     * [이미지 정리] 등록 전에 실패해 행이 없는 원본 객체를 참조 0 으로 등록 (이미 있으면 무시, 유예 기간이 지나면 삭제)
+     * 행이 없는 객체를 바로 지우면 같은 내용을 동시에 다시 업로드한 객체를 지울 수 있음
+     * @return 새로 등록한 원본 수
+     */
+    @Transactional
+    public int adoptOrphans(Map<String, ObjectStorage.StoredObject> objectsByHash) {
+        int adopted = 0;
+        for(Map.Entry<String, ObjectStorage.StoredObject> entry : objectsByHash.entrySet()) {
+            adopted += imageBlobRepository.insertIfAbsent(entry.getKey(), entry.getValue().getKey(), entry.getValue().getSize());
+        }
+        return adopted;
+    }
+
+    @Transactional(readOnly = true)
+    public Set<String> findRegisteredHashes(Collection<String> hashes) {
+        return new HashSet<>(imageBlobRepository.findHashesIn(hashes));
+    }
+
+    public void register(String hash, String objectKey, long size) {
+        imageBlobRepository.insertIfAbsent(hash, objectKey, size);
+    }
+
+    /**
+     * retain
+     * 게시물에 추가된 이미지의 참조 수 증가 (게시물 저장 트랜잭션에서 호출)
+     */
+    @Transactional
+    public void retain(Collection<String> imgUrls) {
+        countByHash(imgUrls).forEach(imageBlobRepository::increaseRefCount);
+    }
+
+    /**
+     * release
+     * 게시물에서 빠진 이미지의 참조 수 감소 (참조 수가 0 인 원본은 정리 대상)
+     */
+    @Transactional
+    public void release(Collection<String> imgUrls) {
+        countByHash(imgUrls).forEach(imageBlobRepository::decreaseRefCount);
+    }
+
+    // 이미지 url 의 hash 별 개수 (같은 이미지가 한 게시물에 여러 번 포함될 수 있음)
+    private static Map<String, Integer> countByHash(Collection<String> imgUrls) {
+        return imgUrls.stream()
+                .map(ImageBlobService::hashOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(Function.identity(), hash -> 1, Integer::sum));
+    }
+
+    // 이미지 url(.../thumbnails/sha256-{hash}.{확장자}) 의 hash, 내용 기반 이름이 아니면 null
+    public static String hashOf(String imgUrl) {
+        return hashOfName(ImageVariant.nameOf(imgUrl));
+    }
+
+    // 이미지 이름(sha256-{hash}.{확장자}) 의 hash, 내용 기반 이름이 아니면 null
+    public static String hashOfName(String name) {
+        if(name == null || !name.startsWith(CONTENT_PREFIX)) {
+            return null;
+        }
+        int extension = name.lastIndexOf('.');
+        return name.substring(CONTENT_PREFIX.length(), extension < 0 ? name.length() : extension);
+    }
+}
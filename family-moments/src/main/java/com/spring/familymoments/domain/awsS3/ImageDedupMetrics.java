@@ -0,0 +1,40 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.domain.awsS3.model.ImageDedupMetricsRes;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이미지 중복 제거 지표 (서버 시작 이후 누적)
+ */
+@Component
+public class ImageDedupMetrics {
+    private final LongAdder uploads = new LongAdder();
+    private final LongAdder dedupHits = new LongAdder();
+    private final LongAdder bytesUploaded = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    public void recordUpload(long size) {
+        uploads.increment();
+        bytesUploaded.add(size);
+    }
+
+    public void recordDedupHit(long size) {
+        uploads.increment();
+        dedupHits.increment();
+        bytesSaved.add(size);
+    }
+
+    public ImageDedupMetricsRes snapshot() {
+        long totalUploads = uploads.sum();
+        long hits = dedupHits.sum();
+        return ImageDedupMetricsRes.builder()
+                .uploads(totalUploads)
+                .dedupHits(hits)
+                .dedupRate(totalUploads == 0 ? 0.0 : (double) hits / totalUploads)
+                .bytesUploaded(bytesUploaded.sum())
+                .bytesSaved(bytesSaved.sum())
+                .build();
+    }
+}
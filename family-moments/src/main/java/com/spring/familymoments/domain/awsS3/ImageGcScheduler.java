@@ -0,0 +1,30 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.domain.awsS3.model.ImageGcReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ImageGcScheduler {
+    private final ImageGcService imageGcService;
+
+    /**
+     * 참조되지 않는 이미지 정리
+     * storage.gc.dry-run=true(기본값) 이면 삭제 대상만 집계해 기록
+     */
+    @Scheduled(cron = "${storage.gc.cron:0 0 5 * * *}")
+    public void collectOrphanImages() {
+        log.info("=== ORPHAN IMAGE GC START ===");
+        try {
+            ImageGcReport report = imageGcService.collect();
+            log.info("[collectOrphanImages] {}", report);
+        } catch (RuntimeException e) {
+            log.error("[collectOrphanImages] 이미지 정리 실패", e);
+        }
+        log.info("=== ORPHAN IMAGE GC END ===");
+    }
+}
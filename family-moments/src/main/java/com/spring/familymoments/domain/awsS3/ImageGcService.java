@@ -0,0 +1,331 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.domain.awsS3.ObjectStorage.StoredObject;
+import com.spring.familymoments.domain.awsS3.entity.ImageBlob;
+import com.spring.familymoments.domain.awsS3.model.ImageGcReport;
+import com.spring.familymoments.domain.family.FamilyRepository;
+import com.spring.familymoments.domain.post.PostContentStore;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.post.model.SinglePostDocumentRes;
+import com.spring.familymoments.domain.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 참조되지 않는 이미지 정리 (mark and sweep)
+ * 1. ACTIVE 게시물의 이미지, ACTIVE 유저의 프로필 이미지, ACTIVE 가족의 대표 이미지에서 참조하는 이미지 이름 수집
+ * 2. 원본(fm-origin/), 썸네일(thumbnails/), variant(variants/) 를 key 순서로 batch 조회하며
+ *    유예 기간이 지났고 참조되지 않은 객체를 batch 마다 요청 한 번으로 삭제
+ *    내용 기반 key 로 옮기지 못하고 남은 임시 업로드(fm-upload/) 도 같이 정리
+ * 내용 기반 원본은 ImageBlob 행을 잠근 채 삭제해 동시에 같은 이미지를 다시 사용하는 업로드와 겹치지 않도록 함
+ * 참조 이름은 메모리에 모아 두므로 이미지 수에 비례한 메모리를 사용
+ */
+@Slf4j
+@Service
+public class ImageGcService {
+    private final ObjectStorage objectStorage;
+    private final ImageBlobService imageBlobService;
+    private final PostRepository postRepository;
+    private final PostContentStore postContentStore;
+    private final UserRepository userRepository;
+    private final FamilyRepository familyRepository;
+
+    @Value("${storage.gc.dry-run:true}")
+    private boolean dryRun;
+    // 업로드 후 게시물 저장 전, 직접 업로드 예약 중인 이미지를 보호
+    @Value("${storage.gc.grace-hours:24}")
+    private long graceHours;
+    // S3 multi-object delete 는 요청 한 번에 최대 1000개
+    @Value("${storage.gc.batch-size:1000}")
+    private int batchSize;
+    @Value("${storage.gc.batch-delay-ms:1000}")
+    private long batchDelayMs;
+    @Value("${storage.gc.max-deletes:10000}")
+    private long maxDeletes;
+    @Value("${storage.gc.report-sample-size:20}")
+    private int reportSampleSize;
+
+    private static final String ORIGIN_PREFIX = "fm-origin/";
+    private static final String THUMBNAIL_PREFIX = "thumbnails/";
+    private static final String VARIANT_PREFIX = "variants/";
+    private static final String UPLOAD_PREFIX = AwsS3Service.UPLOAD_PREFIX;
+
+    public ImageGcService(ObjectStorage objectStorage, ImageBlobService imageBlobService,
+                          PostRepository postRepository, PostContentStore postContentStore,
+                          UserRepository userRepository, FamilyRepository familyRepository) {
+        this.objectStorage = objectStorage;
+        this.imageBlobService = imageBlobService;
+        this.postRepository = postRepository;
+        this.postContentStore = postContentStore;
+        this.userRepository = userRepository;
+        this.familyRepository = familyRepository;
+    }
+
+    /**
+     * collect
+     * 참조되지 않는 이미지 정리, 원본을 먼저 정리해 같은 실행에서 썸네일과 variant 도 정리되도록 함
+     * 한 번에 maxDeletes 개까지 삭제하며, 삭제 요청 사이마다 batchDelayMs 동안 대기
+     * @return ImageGcReport
+     */
+    public ImageGcReport collect() {
+        ImageGcReport report = new ImageGcReport(dryRun, reportSampleSize);
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(graceHours);
+
+        Set<String> referencedNames = collectReferencedNames(report);
+        if(report.isAborted()) {
+            return report;
+        }
+        report.addReferencedImages(referencedNames.size());
+        Set<String> referencedBaseNames = referencedNames.stream()
+                .map(ImageGcService::baseNameOf)
+                .collect(Collectors.toSet());
+
+        try {
+            for(String prefix : List.of(ORIGIN_PREFIX, THUMBNAIL_PREFIX, VARIANT_PREFIX, UPLOAD_PREFIX)) {
+                if(!sweep(prefix, cutoff, referencedNames, referencedBaseNames, report)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            log.error("[ImageGcService] 이미지 정리 실패", e);
+            report.abort();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.abort();
+        }
+        return report;
+    }
+
+    private Set<String> collectReferencedNames(ImageGcReport report) {
+        Set<String> names = new HashSet<>();
+
+        long lastPostId = 0L;
+        List<Long> postIds;
+        do {
+            postIds = postRepository.findActivePostIdsAfter(lastPostId, PageRequest.of(0, batchSize));
+            if(postIds.isEmpty()) {
+                break;
+            }
+            Map<Long, SinglePostDocumentRes> contents = postContentStore.findAll(postIds);
+            // 본문이 없는 게시물이 있으면 그 이미지를 지울 수 있으므로 중단
+            if(contents.size() < postIds.size()) {
+                log.warn("[ImageGcService] 본문이 없는 게시물이 있어 정리를 중단합니다. postIds: {} ~ {}",
+                        postIds.get(0), postIds.get(postIds.size() - 1));
+                report.abort();
+                return names;
+            }
+            contents.values().forEach(content -> addNames(names, content.getUrls()));
+            lastPostId = postIds.get(postIds.size() - 1);
+        } while(postIds.size() == batchSize);
+
+        collectUrls(names, userRepository::findActiveProfileImgsAfter);
+        collectUrls(names, familyRepository::findActiveRepresentImgsAfter);
+        return names;
+    }
+
+    // url 순서로 batch 조회하는 이미지 url 의 이름 수집
+    private void collectUrls(Set<String> names, BiFunction<String, Pageable, List<String>> findUrlsAfter) {
+        String lastUrl = "";
+        List<String> urls;
+        do {
+            urls = findUrlsAfter.apply(lastUrl, PageRequest.of(0, batchSize));
+            if(urls.isEmpty()) {
+                break;
+            }
+            addNames(names, urls);
+            lastUrl = urls.get(urls.size() - 1);
+        } while(urls.size() == batchSize);
+    }
+
+    private static void addNames(Set<String> names, Collection<String> urls) {
+        if(urls == null) {
+            return;
+        }
+        for(String url : urls) {
+            String name = ImageVariant.nameOf(url);
+            if(name != null) {
+                names.add(name);
+            }
+        }
+    }
+
+    /**
+     * sweep
+     * prefix 의 객체를 batch 단위로 조회하며 삭제 대상 정리
+     * @return 최대 삭제 수에 도달하지 않아 다음 prefix 를 계속 정리할 수 있으면 true
+     */
+    private boolean sweep(String prefix, LocalDateTime cutoff, Set<String> referencedNames, Set<String> referencedBaseNames,
+                          ImageGcReport report) throws IOException, InterruptedException {
+        Instant cutoffInstant = cutoff.atZone(ZoneId.systemDefault()).toInstant();
+        String startAfter = null;
+        List<StoredObject> objects;
+        do {
+            objects = objectStorage.list(prefix, startAfter, batchSize);
+            if(objects.isEmpty()) {
+                break;
+            }
+            startAfter = objects.get(objects.size() - 1).getKey();
+            report.addScanned(objects.size());
+
+            List<StoredObject> candidates = objects.stream()
+                    .filter(object -> object.getLastModified().isBefore(cutoffInstant))
+                    .filter(object -> !isReferenced(prefix, object.getKey(), referencedNames, referencedBaseNames))
+                    .collect(Collectors.toList());
+            if(candidates.isEmpty()) {
+                continue;
+            }
+
+            if(prefix.equals(ORIGIN_PREFIX)) {
+                deleteOrigins(candidates, cutoff, report);
+            } else {
+                deleteDerived(prefix, candidates, report);
+            }
+
+            if((dryRun ? report.getCandidates() : report.getDeletedObjects()) >= maxDeletes) {
+                log.info("[ImageGcService] 최대 삭제 수({})에 도달해 다음 실행에서 이어서 정리합니다.", maxDeletes);
+                return false;
+            }
+            if(!dryRun) {
+                Thread.sleep(batchDelayMs);
+            }
+        } while(objects.size() == batchSize);
+        return true;
+    }
+
+    private static boolean isReferenced(String prefix, String key, Set<String> referencedNames, Set<String> referencedBaseNames) {
+        String name = nameOf(prefix, key);
+        if(prefix.equals(VARIANT_PREFIX)) {
+            return referencedBaseNames.contains(baseNameOf(name));
+        }
+        return referencedNames.contains(name);
+    }
+
+    /**
+     * deleteOrigins
+     * 이전 UUID 이름, 프로필 이미지 원본은 바로 삭제하고
+     * 내용 기반 원본은 참조 수가 0 이고 유예 기간 동안 사용되지 않은 행만 잠근 채 삭제
+     */
+    private void deleteOrigins(List<StoredObject> candidates, LocalDateTime cutoff, ImageGcReport report) throws IOException {
+        Map<String, StoredObject> contentObjects = new HashMap<>();
+        List<StoredObject> plainObjects = new ArrayList<>();
+        for(StoredObject object : candidates) {
+            String hash = ImageBlobService.hashOfName(nameOf(ORIGIN_PREFIX, object.getKey()));
+            if(hash == null) {
+                plainObjects.add(object);
+            } else {
+                contentObjects.put(hash, object);
+            }
+        }
+        deleteObjects(plainObjects, report);
+        if(contentObjects.isEmpty()) {
+            return;
+        }
+
+        Set<String> registered = imageBlobService.findRegisteredHashes(contentObjects.keySet());
+        if(registered.size() < contentObjects.size()) {
+            Map<String, StoredObject> orphans = new HashMap<>(contentObjects);
+            orphans.keySet().removeAll(registered);
+            report.addAdoptedBlobs(dryRun ? orphans.size() : imageBlobService.adoptOrphans(orphans));
+        }
+        if(registered.isEmpty()) {
+            return;
+        }
+
+        if(dryRun) {
+            List<ImageBlob> unreferenced = imageBlobService.findUnreferenced(registered, cutoff);
+            unreferenced.forEach(imageBlob -> {
+                StoredObject object = contentObjects.get(imageBlob.getHash());
+                report.addCandidate(object.getKey(), object.getSize());
+            });
+            report.addSkippedBlobs(registered.size() - unreferenced.size());
+            return;
+        }
+
+        List<ImageBlob> deleted;
+        try {
+            deleted = imageBlobService.deleteUnreferenced(registered, cutoff, imageBlobs -> {
+                List<StoredObject> objects = imageBlobs.stream()
+                        .map(imageBlob -> contentObjects.get(imageBlob.getHash()))
+                        .collect(Collectors.toList());
+                try {
+                    deleteObjects(objects, report);
+                } catch (IOException e) {
+                    // 행 삭제도 rollback
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        report.addSkippedBlobs(registered.size() - deleted.size());
+    }
+
+    /**
+     * deleteDerived
+     * 썸네일, variant 삭제
+     * 내용 기반 이미지는 원본 행이 남아 있으면(다시 사용 중이거나 유예 중) 삭제하지 않음
+     */
+    private void deleteDerived(String prefix, List<StoredObject> candidates, ImageGcReport report) throws IOException {
+        Map<String, List<StoredObject>> contentObjects = new HashMap<>();
+        List<StoredObject> objects = new ArrayList<>();
+        for(StoredObject object : candidates) {
+            String hash = ImageBlobService.hashOfName(nameOf(prefix, object.getKey()));
+            if(hash == null) {
+                objects.add(object);
+            } else {
+                contentObjects.computeIfAbsent(hash, key -> new ArrayList<>()).add(object);
+            }
+        }
+
+        if(!contentObjects.isEmpty()) {
+            Set<String> registered = imageBlobService.findRegisteredHashes(contentObjects.keySet());
+            contentObjects.forEach((hash, hashObjects) -> {
+                if(!registered.contains(hash)) {
+                    objects.addAll(hashObjects);
+                }
+            });
+        }
+        deleteObjects(objects, report);
+    }
+
+    private void deleteObjects(List<StoredObject> objects, ImageGcReport report) throws IOException {
+        if(objects.isEmpty()) {
+            return;
+        }
+        objects.forEach(object -> report.addCandidate(object.getKey(), object.getSize()));
+        if(dryRun) {
+            return;
+        }
+
+        objectStorage.deleteAll(objects.stream()
+                .map(StoredObject::getKey)
+                .collect(Collectors.toList()));
+        report.addDeleted(objects.size(), objects.stream().mapToLong(StoredObject::getSize).sum());
+    }
+
+    // fm-origin/{name}, thumbnails/{name} 의 name, variants/{variant}/{name}.jpg 의 name
+    private static String nameOf(String prefix, String key) {
+        String name = key.substring(prefix.length());
+        if(prefix.equals(VARIANT_PREFIX)) {
+            name = baseNameOf(name.substring(name.indexOf('/') + 1));
+        }
+        return name;
+    }
+
+    private static String baseNameOf(String name) {
+        int extension = name.lastIndexOf('.');
+        return extension < 0 ? name : name.substring(0, extension);
+    }
+}
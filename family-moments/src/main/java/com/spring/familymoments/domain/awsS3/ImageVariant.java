@@ -0,0 +1,84 @@
+package com.spring.familymoments.domain.awsS3;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 이미지 variant
+ * 원본(fm-origin/{name})을 한 번 디코딩해 고정 너비의 JPEG 로 variants/{variant}/{name 의 확장자를 .jpg 로 바꾼 이름} 에 저장
+ * 원본이 variant 너비보다 작으면 확대하지 않고 원본 크기로 저장
+ */
+public enum ImageVariant {
+    FULL(2048),     // 상세 화면
+    FEED(1080),     // 피드
+    ALBUM(360);     // 앨범 타일
+
+    private static final String THUMBNAIL_PREFIX = "thumbnails/";
+    private static final String VARIANT_PREFIX = "variants/";
+    private static final String DELIMITER = ",";
+
+    private final int width;
+
+    ImageVariant(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    // 이미지 url(.../thumbnails/{name}) 에서 이름 추출, 형식이 다르면 null
+    public static String nameOf(String imgUrl) {
+        int index = imgUrl == null ? -1 : imgUrl.lastIndexOf(THUMBNAIL_PREFIX);
+        return index < 0 ? null : imgUrl.substring(index + THUMBNAIL_PREFIX.length());
+    }
+
+    public String keyOf(String name) {
+        int extension = name.lastIndexOf('.');
+        String baseName = extension < 0 ? name : name.substring(0, extension);
+        return VARIANT_PREFIX + name().toLowerCase() + "/" + baseName + ".jpg";
+    }
+
+    // 이미지 url 의 variant url, 형식이 다르면 원래 url
+    public String urlOf(String imgUrl) {
+        String name = nameOf(imgUrl);
+        if(name == null) {
+            return imgUrl;
+        }
+        return imgUrl.substring(0, imgUrl.length() - THUMBNAIL_PREFIX.length() - name.length()) + keyOf(name);
+    }
+
+    /**
+     * urlsOf
+     * 생성된 variant 별 이미지 url 목록 (이미지 순서 유지), 생성된 variant 가 없으면 null
+     */
+    public static Map<String, List<String>> urlsOf(Set<ImageVariant> variants, List<String> imgUrls) {
+        if(variants.isEmpty() || imgUrls == null) {
+            return null;
+        }
+        Map<String, List<String>> variantUrls = new LinkedHashMap<>();
+        for(ImageVariant variant : variants) {
+            variantUrls.put(variant.name().toLowerCase(), imgUrls.stream()
+                    .map(variant::urlOf)
+                    .collect(Collectors.toList()));
+        }
+        return variantUrls;
+    }
+
+    public static Set<ImageVariant> parse(String variants) {
+        Set<ImageVariant> parsed = EnumSet.noneOf(ImageVariant.class);
+        if(variants == null || variants.isEmpty()) {
+            return parsed;
+        }
+        for(String variant : variants.split(DELIMITER)) {
+            parsed.add(ImageVariant.valueOf(variant));
+        }
+        return parsed;
+    }
+
+    public static String join(Set<ImageVariant> variants) {
+        return variants.stream()
+                .map(Enum::name)
+                .collect(Collectors.joining(DELIMITER));
+    }
+}
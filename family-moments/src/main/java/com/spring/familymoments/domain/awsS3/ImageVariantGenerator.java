@@ -0,0 +1,195 @@
+package com.spring.familymoments.domain.awsS3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 원본 이미지를 한 번 디코딩해 variant 별 JPEG 생성
+ * EXIF orientation 을 픽셀에 적용하고, 메타데이터 없이 인코딩하므로 EXIF(위치 정보 등)는 제거됨
+ * 큰 variant 부터 순서대로 이전 결과를 축소해 만들어 디코딩, 축소 비용을 줄임
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    @Value("${image.variant.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${image.variant.max-pixels:40000000}")
+    private long maxPixels;
+
+    /**
+     * generate
+     * @return variant 별 JPEG, 디코딩할 수 없는 이미지는 IOException
+     */
+    public Map<ImageVariant, byte[]> generate(byte[] original) throws IOException {
+        BufferedImage image = orient(decode(original), readOrientation(original));
+
+        Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        // ImageVariant 는 너비가 큰 순서로 선언되어 있음
+        for(ImageVariant variant : ImageVariant.values()) {
+            image = resize(image, variant.getWidth());
+            variants.put(variant, encode(image));
+        }
+        return variants;
+    }
+
+    private BufferedImage decode(byte[] original) throws IOException {
+        try(ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if(!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // 디코딩 전에 크기를 확인해 지나치게 큰 이미지로 메모리가 고갈되지 않도록 함
+                if((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new IOException("이미지 해상도가 너무 큽니다.");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // orientation 을 적용하며 RGB 로 변환 (투명 영역은 흰색)
+    private BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean swap = orientation >= 5 && orientation <= 8;
+        AffineTransform transform;
+        switch(orientation) {
+            case 2: transform = new AffineTransform(-1, 0, 0, 1, w, 0); break;
+            case 3: transform = new AffineTransform(-1, 0, 0, -1, w, h); break;
+            case 4: transform = new AffineTransform(1, 0, 0, -1, 0, h); break;
+            case 5: transform = new AffineTransform(0, 1, 1, 0, 0, 0); break;
+            case 6: transform = new AffineTransform(0, 1, -1, 0, h, 0); break;
+            case 7: transform = new AffineTransform(0, -1, -1, 0, h, w); break;
+            case 8: transform = new AffineTransform(0, -1, 1, 0, 0, w); break;
+            default: transform = new AffineTransform(); break;
+        }
+
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, oriented.getWidth(), oriented.getHeight());
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private BufferedImage resize(BufferedImage image, int width) {
+        if(image.getWidth() <= width) {
+            return image;
+        }
+        int height = Math.max(1, Math.round((float) image.getHeight() * width / image.getWidth()));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try(ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(imageOutput);
+            // 메타데이터 없이 픽셀만 기록
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * readOrientation
+     * JPEG APP1(Exif) 세그먼트의 IFD0 에서 Orientation(0x0112) 태그를 읽음
+     * @return 1 ~ 8, 없거나 읽을 수 없으면 1
+     */
+    static int readOrientation(byte[] jpeg) {
+        try {
+            if(jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+                return 1;
+            }
+            int offset = 2;
+            while(offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+                int marker = jpeg[offset + 1] & 0xFF;
+                int length = ((jpeg[offset + 2] & 0xFF) << 8) | (jpeg[offset + 3] & 0xFF);
+                if(marker == 0xDA) { // SOS: 이후는 이미지 데이터
+                    return 1;
+                }
+                if(marker == 0xE1 && isExifHeader(jpeg, offset + 4)) {
+                    return readTiffOrientation(jpeg, offset + 10);
+                }
+                offset += 2 + length;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            log.debug("[readOrientation] 잘못된 EXIF 세그먼트");
+        }
+        return 1;
+    }
+
+    private static boolean isExifHeader(byte[] jpeg, int offset) {
+        return jpeg[offset] == 'E' && jpeg[offset + 1] == 'x' && jpeg[offset + 2] == 'i' && jpeg[offset + 3] == 'f'
+                && jpeg[offset + 4] == 0 && jpeg[offset + 5] == 0;
+    }
+
+    private static int readTiffOrientation(byte[] jpeg, int tiff) {
+        boolean littleEndian = jpeg[tiff] == 'I';
+        int ifd = tiff + readInt(jpeg, tiff + 4, littleEndian);
+        int entries = readShort(jpeg, ifd, littleEndian);
+        for(int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if(readShort(jpeg, entry, littleEndian) == 0x0112) {
+                int orientation = readShort(jpeg, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] bytes, int offset, boolean littleEndian) {
+        int high = readShort(bytes, littleEndian ? offset + 2 : offset, littleEndian);
+        int low = readShort(bytes, littleEndian ? offset : offset + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -0,0 +1,106 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReadModelService;
+import com.spring.familymoments.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 게시물 이미지 variant 생성
+ * 게시물 저장이 커밋된 뒤 전용 스레드 풀에서 원본을 읽어 variant 를 생성, 업로드하고
+ * 모든 이미지에 대해 생성된 variant 를 Post.variants 와 post document 에 기록
+ * 풀과 대기열이 가득 차면 생성을 건너뛰며, 이 경우 클라이언트는 기존 이미지 url 을 사용
+ */
+@Slf4j
+@Service
+public class ImageVariantService implements DisposableBean {
+    private final AwsS3Service awsS3Service;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PostReadModelService postReadModelService;
+    private final PostFeedCacheDao postFeedCacheDao;
+    private final ThreadPoolTaskExecutor executor;
+
+    private static final String ORIGIN_PREFIX = "fm-origin/";
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+
+    public ImageVariantService(AwsS3Service awsS3Service, ImageVariantGenerator imageVariantGenerator,
+                               PostReadModelService postReadModelService, PostFeedCacheDao postFeedCacheDao,
+                               @Value("${image.variant.pool-size:2}") int poolSize,
+                               @Value("${image.variant.queue-capacity:100}") int queueCapacity) {
+        this.awsS3Service = awsS3Service;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.postReadModelService = postReadModelService;
+        this.postFeedCacheDao = postFeedCacheDao;
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.initialize();
+    }
+
+    /**
+     * generateAfterCommit
+     * 트랜잭션 커밋 이후 imgUrls 의 variant 생성을 예약
+     * @param contentVersion 생성을 시작한 게시물 버전, 생성이 끝났을 때 게시물이 수정되어 버전이 다르면 기록하지 않음
+     * @param existingVariants imgUrls 외의 기존 이미지가 가지고 있는 variant (기존 이미지가 없으면 모든 variant)
+     */
+    public void generateAfterCommit(long postId, long familyId, int contentVersion, List<String> imgUrls,
+                                    Set<ImageVariant> existingVariants) {
+        List<String> urls = new ArrayList<>(imgUrls);
+        Set<ImageVariant> variants = EnumSet.noneOf(ImageVariant.class);
+        variants.addAll(existingVariants);
+
+        Runnable submit = () -> {
+            try {
+                executor.execute(() -> generate(postId, familyId, contentVersion, urls, variants));
+            } catch (TaskRejectedException e) {
+                log.warn("[ImageVariantService] variant 생성 대기열이 가득 찼습니다. postId: {}", postId);
+            }
+        };
+
+        TransactionUtils.afterCommit(submit);
+    }
+
+    private void generate(long postId, long familyId, int contentVersion, List<String> imgUrls, Set<ImageVariant> variants) {
+        for(String imgUrl : imgUrls) {
+            String name = ImageVariant.nameOf(imgUrl);
+            if(name == null) {
+                log.warn("[ImageVariantService] variant 를 만들 수 없는 url 입니다. postId: {}, url: {}", postId, imgUrl);
+                return;
+            }
+
+            try {
+                Map<ImageVariant, byte[]> generated = imageVariantGenerator.generate(awsS3Service.getImageBytes(ORIGIN_PREFIX + name));
+                for(Map.Entry<ImageVariant, byte[]> entry : generated.entrySet()) {
+                    awsS3Service.putImageBytes(entry.getKey().keyOf(name), entry.getValue(), JPEG_CONTENT_TYPE);
+                }
+                // 모든 이미지에 생성된 variant 만 기록
+                variants.retainAll(generated.keySet());
+            } catch (IOException | RuntimeException e) {
+                log.error("[ImageVariantService] variant 생성 실패. postId: {}, url: {}", postId, imgUrl, e);
+                return;
+            }
+        }
+
+        if(!postReadModelService.updateVariants(postId, familyId, contentVersion, variants)) {
+            log.info("[ImageVariantService] 생성 중 게시물이 수정되어 variant 를 기록하지 않습니다. postId: {}", postId);
+            return;
+        }
+        postFeedCacheDao.evictFamily(familyId);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,184 @@
+package com.spring.familymoments.domain.awsS3;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Repository;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일 시스템에 저장하는 구현 (storage.type=local)
+ * 같은 디렉터리의 임시 파일에 FileChannel 로 기록한 뒤 이름을 바꾸어, 읽는 쪽에 기록 중인 파일이 보이지 않도록 함
+ * 저장한 파일은 LocalObjectStorageController 가 zero-copy 로 제공
+ */
+@Repository
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_PREFIX = ".upload-";
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(@Value("${storage.local.root:./storage}") String root,
+                              @Value("${storage.local.base-url:http://localhost:8080}") String baseUrl) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        write(key, inputStream, Long.MAX_VALUE);
+    }
+
+    @Override
+    public long putStream(String key, InputStream inputStream, String contentType, long maxBytes) throws IOException {
+        return write(key, inputStream, maxBytes);
+    }
+
+    @Override
+    public Optional<Long> getSize(String key) throws IOException {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(Files.size(path)) : Optional.empty();
+    }
+
+    @Override
+    public byte[] read(String key, long maxBytes) throws IOException {
+        Path path = resolve(key);
+        if(!Files.isRegularFile(path)) {
+            throw new FileNotFoundException(key);
+        }
+        if(Files.size(path) > maxBytes) {
+            throw new TooLargeException(key, maxBytes);
+        }
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        Path source = resolve(sourceKey);
+        if(!Files.isRegularFile(source)) {
+            throw new FileNotFoundException(sourceKey);
+        }
+        Path target = resolve(targetKey);
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) throws IOException {
+        for(String key : keys) {
+            delete(key);
+        }
+    }
+
+    /**
+     * list
+     * prefix 가 속한 디렉터리 아래를 모두 탐색해 정렬하므로 호출마다 디렉터리 크기에 비례 (로컬 개발 환경용)
+     */
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int limit) throws IOException {
+        Path directory = root.resolve(prefix.substring(0, prefix.lastIndexOf('/') + 1)).normalize();
+        if(!directory.startsWith(root) || !Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try(Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_PREFIX))
+                    .map(path -> root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/"))
+                    .filter(key -> key.startsWith(prefix) && (startAfter == null || key.compareTo(startAfter) > 0))
+                    .sorted()
+                    .limit(limit)
+                    .map(this::toStoredObject)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl + LocalObjectStorageController.PATH_PREFIX + key;
+    }
+
+    // 조회와 같은 경로로 PUT (만료는 업로드 API 가 key 예약으로 확인)
+    @Override
+    public String createUploadUrl(String key, String contentType, Date expiration) {
+        return getUrl(key);
+    }
+
+    @Override
+    public Map<String, String> getUploadHeaders(String contentType) {
+        return Map.of(HttpHeaders.CONTENT_TYPE, contentType);
+    }
+
+    /**
+     * resolve
+     * key 에 해당하는 파일 경로, 저장소 디렉터리 밖을 가리키는 key 는 거부
+     */
+    public Path resolve(String key) throws IOException {
+        Path path = root.resolve(key).normalize();
+        if(!path.startsWith(root) || path.equals(root)) {
+            throw new IOException("잘못된 key 입니다. key: " + key);
+        }
+        return path;
+    }
+
+    private StoredObject toStoredObject(String key) {
+        try {
+            Path path = resolve(key);
+            return new StoredObject(key, Files.size(path), Files.getLastModifiedTime(path).toInstant());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long write(String key, InputStream inputStream, long maxBytes) throws IOException {
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        Path temp = Files.createTempFile(path.getParent(), TEMP_PREFIX, ".tmp");
+        try {
+            long written = 0L;
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            ReadableByteChannel source = Channels.newChannel(inputStream);
+            try(FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while(source.read(buffer) >= 0) {
+                    buffer.flip();
+                    written += buffer.remaining();
+                    if(written > maxBytes) {
+                        throw new TooLargeException(key, maxBytes);
+                    }
+                    while(buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                target.force(false);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return written;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
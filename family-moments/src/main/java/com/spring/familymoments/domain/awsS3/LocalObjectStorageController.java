@@ -0,0 +1,192 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.config.NoAuthCheck;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 저장소 이미지 조회, 직접 업로드 API (storage.type=local 인 경우에만 등록)
+ * 파일 내용을 힙에 올리지 않고 sendfile(Tomcat) 또는 FileChannel.transferTo 로 전송하며, 단일 Range 요청을 지원
+ * 직접 업로드는 S3 presigned url 대신 LocalObjectStorage.createUploadUrl 이 발급한 같은 경로로 PUT
+ * presigned url 의 서명 대신 예약(DirectUploadReservationDao)이 남아 있는 key 만 받음
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Tag(name = "S3", description = "S3 API Document")
+public class LocalObjectStorageController {
+    public static final String PATH_PREFIX = "/storage/";
+    private static final String ORIGIN_PREFIX = "fm-origin/";
+    private static final String THUMBNAIL_PREFIX = "thumbnails/";
+
+    // Tomcat NIO connector 의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalObjectStorage localObjectStorage;
+    private final DirectUploadReservationDao directUploadReservationDao;
+
+    @Value("${cloud.aws.s3.direct-upload.max-bytes:20971520}")
+    private long directUploadMaxBytes;
+
+    @PutMapping(PATH_PREFIX + "**")
+    @Operation(summary = "로컬 이미지 직접 업로드", description = "발급받은 key 로 이미지를 로컬 저장소에 업로드합니다.")
+    @NoAuthCheck
+    public void putObject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = getKey(request);
+        // 직접 업로드 key 는 원본 경로에만 발급되며, 만료되었거나 게시물 작성에 사용한 key 는 거부
+        if(!key.startsWith(ORIGIN_PREFIX) || !directUploadReservationDao.isReserved(key)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        try {
+            localObjectStorage.putStream(key, request.getInputStream(), request.getContentType(), directUploadMaxBytes);
+        } catch (ObjectStorage.TooLargeException e) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        }
+    }
+
+    @GetMapping(PATH_PREFIX + "**")
+    @Operation(summary = "로컬 이미지 조회", description = "로컬 저장소의 이미지를 반환합니다. Range 헤더로 일부만 요청할 수 있습니다.")
+    @NoAuthCheck
+    public void getObject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = getKey(request);
+        Path path = findFile(key);
+        if(path == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long size = Files.size(path);
+        long start = 0L;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if(range != null) {
+            long[] bounds = parseRange(range, size);
+            if(bounds == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if(bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(length);
+        if(length == 0 || HttpMethod.HEAD.matches(request.getMethod())) {
+            return;
+        }
+
+        // 커널이 파일을 소켓으로 바로 전송 (응답 스트림에 쓰지 않아야 함)
+        if(Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try(FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while(remaining > 0) {
+                long transferred = file.transferTo(position, remaining, out);
+                if(transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static String getKey(HttpServletRequest request) {
+        return UriUtils.decode(request.getRequestURI()
+                .substring(request.getContextPath().length() + PATH_PREFIX.length()), StandardCharsets.UTF_8);
+    }
+
+    // 썸네일은 로컬에서 별도로 생성하지 않으므로 없으면 원본으로 대체
+    private Path findFile(String key) {
+        try {
+            Path path = localObjectStorage.resolve(key);
+            if(!Files.isRegularFile(path) && key.startsWith(THUMBNAIL_PREFIX)) {
+                path = localObjectStorage.resolve(ORIGIN_PREFIX + key.substring(THUMBNAIL_PREFIX.length()));
+            }
+            return Files.isRegularFile(path) ? path : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    static final long[] UNSATISFIABLE = new long[0];
+
+    /**
+     * parseRange
+     * "bytes=start-end", "bytes=start-", "bytes=-suffix" 형식의 단일 범위 해석
+     * 형식이 다르거나 여러 범위를 요청하면 전체를 응답하도록 null
+     * @return {start, end} (end 포함), 파일 범위를 벗어나면 UNSATISFIABLE
+     */
+    static long[] parseRange(String range, long size) {
+        if(!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if(dash < 0) {
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if(first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if(suffix <= 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(0, size - suffix), size - 1};
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if(start >= size) {
+                return UNSATISFIABLE;
+            }
+            return start <= end ? new long[]{start, end} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
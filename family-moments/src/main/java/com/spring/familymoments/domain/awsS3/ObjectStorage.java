@@ -0,0 +1,81 @@
+package com.spring.familymoments.domain.awsS3;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이미지 원본 저장소
+ * storage.type 설정에 따라 S3(S3ObjectStorage, 기본값) 또는 로컬 파일 시스템(LocalObjectStorage) 구현을 사용
+ * 모든 구현은 ObjectStorageContractTest 의 동작을 만족해야 함
+ */
+public interface ObjectStorage {
+
+    // 크기를 아는 객체 저장 (같은 key 가 있으면 덮어씀)
+    void put(String key, InputStream inputStream, long contentLength, String contentType) throws IOException;
+
+    /**
+     * putStream
+     * 크기를 모르는 스트림을 고정 크기 버퍼로 나누어 저장
+     * maxBytes 를 넘으면 저장하던 내용을 버리고 TooLargeException
+     * @return 저장한 byte 수
+     */
+    long putStream(String key, InputStream inputStream, String contentType, long maxBytes) throws IOException;
+
+    // 객체 크기, 없으면 empty
+    Optional<Long> getSize(String key) throws IOException;
+
+    // 객체 전체를 읽음, 없으면 FileNotFoundException, maxBytes 를 넘으면 TooLargeException
+    byte[] read(String key, long maxBytes) throws IOException;
+
+    // 객체를 다른 key 로 옮김 (같은 key 가 있으면 덮어씀, 원본이 없으면 FileNotFoundException)
+    void move(String sourceKey, String targetKey) throws IOException;
+
+    // 객체 삭제 (없어도 성공)
+    void delete(String key) throws IOException;
+
+    // 여러 객체를 요청 한 번(S3 multi-object delete, 최대 1000개)으로 삭제
+    void deleteAll(Collection<String> keys) throws IOException;
+
+    /**
+     * list
+     * prefix 로 시작하는 객체를 key 순서로 조회
+     * @return startAfter 다음 key 부터 최대 limit 개 (startAfter 가 null 이면 처음부터)
+     */
+    List<StoredObject> list(String prefix, String startAfter, int limit) throws IOException;
+
+    String getUrl(String key);
+
+    /**
+     * createUploadUrl
+     * 클라이언트가 key 에 직접 업로드(PUT)할 url (S3 는 presigned url, 로컬은 LocalObjectStorageController)
+     * 업로드 후 크기는 getSize 로 확인
+     * @return expiration 까지 유효한 업로드 url
+     */
+    String createUploadUrl(String key, String contentType, Date expiration);
+
+    // 업로드 요청에 함께 보내야 하는 헤더
+    Map<String, String> getUploadHeaders(String contentType);
+
+    @Getter
+    @AllArgsConstructor
+    class StoredObject {
+        private final String key;
+        private final long size;
+        private final Instant lastModified;
+    }
+
+    class TooLargeException extends IOException {
+        public TooLargeException(String key, long maxBytes) {
+            super("객체 크기가 제한(" + maxBytes + " bytes)을 넘었습니다. key: " + key);
+        }
+    }
+}
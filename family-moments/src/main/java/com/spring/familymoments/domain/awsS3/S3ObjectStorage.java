@@ -0,0 +1,212 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * S3 버킷에 공개 읽기 권한으로 저장하는 구현 (storage.type=s3, 기본값)
+ */
+@Repository
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final int chunkSize;
+
+    public S3ObjectStorage(AmazonS3 amazonS3,
+                           @Value("${cloud.aws.s3.bucket}") String bucket,
+                           // S3 multipart upload 의 최소 part 크기는 5MB
+                           @Value("${cloud.aws.s3.stream.chunk-size:5242880}") int chunkSize) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long contentLength, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(contentLength);
+        objectMetadata.setContentType(contentType);
+        amazonS3.putObject(new PutObjectRequest(bucket, key, inputStream, objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    /**
+     * putStream
+     * 버퍼 하나(chunkSize)에 읽은 내용을 multipart upload 의 part 로 전송하고 같은 버퍼에 다음 chunk 를 읽음
+     * chunk 하나에 모두 들어가는 객체는 요청 한 번으로 저장
+     */
+    @Override
+    public long putStream(String key, InputStream inputStream, String contentType, long maxBytes) throws IOException {
+        byte[] buffer = new byte[chunkSize];
+        int length = readChunk(inputStream, buffer);
+        if(length < buffer.length) {
+            if(length > maxBytes) {
+                throw new TooLargeException(key, maxBytes);
+            }
+            put(key, new ByteArrayInputStream(buffer, 0, length), length, contentType);
+            return length;
+        }
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, objectMetadata)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            long totalBytes = 0L;
+            int partNumber = 1;
+            while(length > 0) {
+                totalBytes += length;
+                if(totalBytes > maxBytes) {
+                    throw new TooLargeException(key, maxBytes);
+                }
+                UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length);
+                partETags.add(amazonS3.uploadPart(uploadPartRequest).getPartETag());
+
+                length = readChunk(inputStream, buffer);
+            }
+
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+            return totalBytes;
+        } catch (IOException | RuntimeException e) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Long> getSize(String key) {
+        try {
+            return Optional.of(amazonS3.getObjectMetadata(bucket, key).getContentLength());
+        } catch (AmazonS3Exception e) {
+            if(e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public byte[] read(String key, long maxBytes) throws IOException {
+        S3Object s3Object;
+        try {
+            s3Object = amazonS3.getObject(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if(e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new FileNotFoundException(key);
+            }
+            throw e;
+        }
+
+        try(s3Object) {
+            if(s3Object.getObjectMetadata().getContentLength() > maxBytes) {
+                throw new TooLargeException(key, maxBytes);
+            }
+            return s3Object.getObjectContent().readAllBytes();
+        }
+    }
+
+    // S3 에는 이동 API 가 없으므로 같은 버킷 안에서 복사한 뒤 원본 삭제
+    @Override
+    public void move(String sourceKey, String targetKey) throws IOException {
+        try {
+            amazonS3.copyObject(new CopyObjectRequest(bucket, sourceKey, bucket, targetKey)
+                    .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+        } catch (AmazonS3Exception e) {
+            if(e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new FileNotFoundException(sourceKey);
+            }
+            throw e;
+        }
+        delete(sourceKey);
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3.deleteObject(new DeleteObjectRequest(bucket, key));
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        if(keys.isEmpty()) {
+            return;
+        }
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(new String[0]))
+                .withQuiet(true);
+        try {
+            amazonS3.deleteObjects(request);
+        } catch (MultiObjectDeleteException e) {
+            // 일부 실패: 실패한 key 만 남기고 나머지는 삭제된 상태
+            throw new IllegalStateException("객체 " + e.getErrors().size() + "개 삭제 실패. 첫 번째 key: "
+                    + e.getErrors().get(0).getKey(), e);
+        }
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix, String startAfter, int limit) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix)
+                .withStartAfter(startAfter)
+                .withMaxKeys(limit);
+        return amazonS3.listObjectsV2(request).getObjectSummaries().stream()
+                .map(summary -> new StoredObject(summary.getKey(), summary.getSize(), summary.getLastModified().toInstant()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public String createUploadUrl(String key, String contentType, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiration)
+                .withContentType(contentType);
+        // 서버 업로드와 같이 공개 읽기 권한으로 저장되도록 ACL 헤더도 서명에 포함
+        request.putCustomRequestHeader(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+        return amazonS3.generatePresignedUrl(request).toString();
+    }
+
+    @Override
+    public Map<String, String> getUploadHeaders(String contentType) {
+        return Map.of(HttpHeaders.CONTENT_TYPE, contentType,
+                Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+    }
+
+    // 버퍼가 가득 차거나 스트림이 끝날 때까지 읽음
+    private static int readChunk(InputStream inputStream, byte[] buffer) throws IOException {
+        int length = 0;
+        while(length < buffer.length) {
+            int read = inputStream.read(buffer, length, buffer.length - length);
+            if(read < 0) {
+                break;
+            }
+            length += read;
+        }
+        return length;
+    }
+}
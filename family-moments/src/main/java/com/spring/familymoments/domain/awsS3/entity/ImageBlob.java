@@ -0,0 +1,34 @@
+package com.spring.familymoments.domain.awsS3.entity;
+
+import com.spring.familymoments.domain.common.BaseTime;
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 내용 기반 key 로 저장된 이미지 원본
+ * 같은 내용(SHA-256)의 이미지는 한 번만 저장하고, 이미지를 사용하는 게시물 수를 refCount 로 관리
+ * 업로드 시 refCount 0 으로 생성되고, 게시물 저장/수정/삭제 트랜잭션에서 증감
+ */
+@Entity
+@Table(name = "ImageBlob")
+@Getter
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Builder
+public class ImageBlob extends BaseTime {
+
+    // SHA-256 (hex)
+    @Id
+    @Column(name = "hash", nullable = false, updatable = false, length = 64)
+    private String hash;
+
+    @Column(name = "objectKey", nullable = false, updatable = false)
+    private String objectKey;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "refCount", nullable = false)
+    private int refCount;
+}
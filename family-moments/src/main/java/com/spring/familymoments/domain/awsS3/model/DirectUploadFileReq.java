@@ -0,0 +1,18 @@
+package com.spring.familymoments.domain.awsS3.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "직접 업로드할 이미지 정보 Request")
+public class DirectUploadFileReq {
+    @Schema(description = "원본 파일 이름", example = "photo.jpg")
+    private String fileName;
+    @Schema(description = "이미지 Content-Type", example = "image/jpeg")
+    private String contentType;
+    @Schema(description = "이미지 크기(byte)", example = "1048576")
+    private long size;
+}
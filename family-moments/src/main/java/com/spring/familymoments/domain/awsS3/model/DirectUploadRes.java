@@ -0,0 +1,23 @@
+package com.spring.familymoments.domain.awsS3.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "직접 업로드 url Response")
+public class DirectUploadRes {
+    @Schema(description = "게시물 등록 시 보낼 이미지 key")
+    private String key;
+    @Schema(description = "이미지를 PUT 할 url")
+    private String uploadUrl;
+    @Schema(description = "업로드 요청에 함께 보낼 헤더")
+    private Map<String, String> headers;
+    @Schema(description = "업로드 url 만료 시각")
+    private LocalDateTime expiresAt;
+}
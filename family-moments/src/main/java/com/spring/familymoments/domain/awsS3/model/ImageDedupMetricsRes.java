@@ -0,0 +1,22 @@
+package com.spring.familymoments.domain.awsS3.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "이미지 중복 제거 지표 Response")
+public class ImageDedupMetricsRes {
+    @Schema(description = "업로드 요청 이미지 수", example = "100")
+    private long uploads;
+    @Schema(description = "이미 저장된 이미지라 업로드를 생략한 수", example = "12")
+    private long dedupHits;
+    @Schema(description = "중복 제거 비율", example = "0.12")
+    private double dedupRate;
+    @Schema(description = "실제로 업로드한 byte 수", example = "104857600")
+    private long bytesUploaded;
+    @Schema(description = "업로드를 생략해 절약한 byte 수", example = "12582912")
+    private long bytesSaved;
+}
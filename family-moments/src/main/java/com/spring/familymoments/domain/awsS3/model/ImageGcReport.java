@@ -0,0 +1,69 @@
+package com.spring.familymoments.domain.awsS3.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이미지 정리 작업 한 번의 결과
+ * dry-run 이면 삭제 대상만 집계하고 실제로 삭제하지 않음
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class ImageGcReport {
+    private final boolean dryRun;
+    private final int sampleSize;
+
+    // 게시물, 프로필, 가족 대표 이미지에서 참조하는 이미지 수
+    private long referencedImages;
+    private long scannedObjects;
+    // 유예 기간이 지났고 참조되지 않은 객체
+    private long candidates;
+    private long candidateBytes;
+    private long deletedObjects;
+    private long deletedBytes;
+    // 참조 수가 남아 있거나 유예 기간 중이라 삭제하지 않은 내용 기반 원본
+    private long skippedBlobs;
+    // 행 없이 남아 있어 새로 등록한 내용 기반 원본 (다음 실행부터 삭제 대상)
+    private long adoptedBlobs;
+    // 참조 수집이 불완전해 삭제하지 않고 중단
+    private boolean aborted;
+    private final List<String> sampleKeys = new ArrayList<>();
+
+    public void addReferencedImages(long count) {
+        referencedImages += count;
+    }
+
+    public void addScanned(long count) {
+        scannedObjects += count;
+    }
+
+    public void addCandidate(String key, long size) {
+        candidates++;
+        candidateBytes += size;
+        if(sampleKeys.size() < sampleSize) {
+            sampleKeys.add(key);
+        }
+    }
+
+    public void addDeleted(long count, long bytes) {
+        deletedObjects += count;
+        deletedBytes += bytes;
+    }
+
+    public void addSkippedBlobs(long count) {
+        skippedBlobs += count;
+    }
+
+    public void addAdoptedBlobs(long count) {
+        adoptedBlobs += count;
+    }
+
+    public void abort() {
+        aborted = true;
+    }
+}
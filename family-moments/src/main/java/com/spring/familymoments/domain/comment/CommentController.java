@@ -46,13 +46,28 @@ public class CommentController {
      * @return BaseResponse<GetCommentsRes>
      */
     @GetMapping("")
-    @Operation(summary = "특정 게시물의 댓글 목록 조회", description = "특정 게시물의 댓글 목록을 조회합니다.")
+    @Operation(summary = "특정 게시물의 댓글 목록 조회", description = "특정 게시물의 댓글 중 처음 20건을 작성 순서대로 조회합니다.")
     public BaseResponse<List<GetCommentsRes>> getCommentsByPostId(@AuthenticationPrincipal @Parameter(hidden = true) User user,
                                                                   @RequestParam("postId") Long postId) {
         List<GetCommentsRes> getCommentsRes = commentService.getCommentsByPostId(user, postId);
         return new BaseResponse<>(getCommentsRes);
     }
 
+    /**
+     * 특정 게시물의 댓글 목록 조회 API (cursor 기반)
+     * [GET] /comments?postId={게시글인덱스}&cursor={이전 페이지 마지막 댓글의 cursor}
+     *
+     * @return BaseResponse<GetCommentsRes>
+     */
+    @GetMapping(value = "", params = {"postId", "cursor"})
+    @Operation(summary = "특정 게시물의 댓글 목록 조회(with cursor)", description = "cursor 이후에 작성된 댓글 20건을 조회합니다.")
+    public BaseResponse<List<GetCommentsRes>> getNextCommentsByPostId(@AuthenticationPrincipal @Parameter(hidden = true) User user,
+                                                                      @RequestParam("postId") Long postId,
+                                                                      @RequestParam("cursor") String cursor) {
+        List<GetCommentsRes> getCommentsRes = commentService.getCommentsByPostId(user, postId, cursor);
+        return new BaseResponse<>(getCommentsRes);
+    }
+
     /**
      * 댓글 삭제 API
      * [DELETE] /comments/:{댓글인덱스}
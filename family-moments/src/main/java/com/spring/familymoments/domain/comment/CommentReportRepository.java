@@ -3,9 +3,17 @@ package com.spring.familymoments.domain.comment;
 import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.comment.entity.CommentReport;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface CommentReportRepository extends JpaRepository<CommentReport, Long>  {
     List<CommentReport> findCommentReportByComment(Comment comment);
+
+    // [회원 탈퇴] 유저의 신고 내역 limit 개씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM CommentReport WHERE userId = :userId LIMIT :limit", nativeQuery = true)
+    int deleteByUserId(@Param("userId") long userId, @Param("limit") int limit);
 }
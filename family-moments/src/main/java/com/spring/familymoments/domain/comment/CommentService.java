@@ -3,21 +3,25 @@ package com.spring.familymoments.domain.comment;
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.comment.entity.CommentReport;
+import com.spring.familymoments.domain.comment.model.CommentCursor;
 import com.spring.familymoments.domain.comment.model.GetCommentsRes;
 import com.spring.familymoments.domain.comment.model.PatchCommentReq;
 import com.spring.familymoments.domain.comment.model.PostCommentReq;
-import com.spring.familymoments.domain.commentLove.CommentLoveRepository;
+import com.spring.familymoments.domain.commentLove.CommentLoveService;
 import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.post.PostReadModelService;
 import com.spring.familymoments.domain.post.PostWithUserRepository;
 import com.spring.familymoments.domain.post.entity.Post;
 import com.spring.familymoments.domain.post.entity.ReportReason;
 import com.spring.familymoments.domain.post.model.ContentReportReq;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.spring.familymoments.config.BaseResponseStatus.*;
@@ -29,7 +33,10 @@ public class CommentService {
     private final CommentWithUserRepository commentWithUserRepository;
     private final PostWithUserRepository postWithUserRepository;
     private final CommentReportRepository commentReportRepository;
-    private final CommentLoveRepository commentLoveRepository;
+    private final CommentLoveService commentLoveService;
+    private final PostReadModelService postReadModelService;
+
+    private static final int COMMENT_PAGES = 20;
 
     // 댓글 생성하기
     @Transactional
@@ -55,39 +62,67 @@ public class CommentService {
 
             // 댓글 저장
             commentWithUserRepository.save(comment);
+            postReadModelService.refreshCountComment(List.of(postId));
         } else {
             // 게시글이 INACTIVE일 경우
             throw new BaseException(FIND_FAIL_POST);
         }
     }
 
-    // 특정 게시물의 댓글 목록 조회
+    // 특정 게시물의 댓글 중 처음 20개를 작성 순서대로 조회
     @Transactional(readOnly = true)
     public List<GetCommentsRes> getCommentsByPostId(User user, Long postId) throws BaseException{
 
         // 게시글 존재 확인
-        postWithUserRepository.findById(postId)
-                .orElseThrow(() -> new BaseException(FIND_FAIL_POST));
+        checkPostExists(postId);
 
-        List<Comment> activeComments = commentWithUserRepository.findActiveCommentsByPostId(postId);
+        List<GetCommentsRes> comments = commentWithUserRepository.findCommentPage(postId, PageRequest.of(0, COMMENT_PAGES));
 
-        if(activeComments.isEmpty() || activeComments == null) {
+        if(comments.isEmpty()) {
             throw new BaseException(NO_ACTIVE_COMMENTS);
         }
 
-        List<GetCommentsRes> getCommentsResList = activeComments.stream()
-                .map(comment -> new GetCommentsRes(
-                        comment.getPostId().getPostId(),
-                        comment.getCommentId(),
-                        comment.getWriter().getNickname(),
-                        comment.getWriter().getProfileImg(),
-                        comment.getContent(),
-                        commentLoveRepository.existsByCommentIdAndUserId(comment, user),
-                        comment.getCreatedAt()
-                ))
+        return fillHearts(user, comments);
+    }
+
+    // 특정 게시물의 댓글 중 cursor 이후에 작성된 20개를 조회
+    @Transactional(readOnly = true)
+    public List<GetCommentsRes> getCommentsByPostId(User user, Long postId, String cursor) throws BaseException{
+        CommentCursor commentCursor = CommentCursor.decode(cursor);
+
+        // 게시글 존재 확인
+        checkPostExists(postId);
+
+        List<GetCommentsRes> comments = commentWithUserRepository.findCommentPageAfterCursor(postId,
+                commentCursor.getCreatedAt(), commentCursor.getCommentId(), PageRequest.of(0, COMMENT_PAGES));
+
+        // 마지막 페이지 이후는 빈 목록
+        if(comments.isEmpty()) {
+            return comments;
+        }
+
+        return fillHearts(user, comments);
+    }
+
+    private void checkPostExists(Long postId) {
+        if(!postWithUserRepository.existsById(postId)) {
+            throw new BaseException(FIND_FAIL_POST);
+        }
+    }
+
+    /**
+     * fillHearts
+     * 로그인 유저의 댓글 좋아요 여부를 페이지 단위로 한 번에 조회해 채움
+     * @return List<GetCommentsRes>
+     */
+    private List<GetCommentsRes> fillHearts(User user, List<GetCommentsRes> comments) {
+        List<Long> commentIds = comments.stream()
+                .map(GetCommentsRes::getCommentId)
                 .collect(Collectors.toList());
+        Set<Long> lovedCommentIds = commentLoveService.getLovedCommentIds(user.getUserId(), commentIds);
 
-        return getCommentsResList;
+        comments.forEach(comment -> comment.setHeart(lovedCommentIds.contains(comment.getCommentId())));
+        return comments;
     }
 
     // 댓글 삭제
@@ -116,6 +151,7 @@ public class CommentService {
         // 댓글 삭제
         comment.updateStatus(BaseEntity.Status.INACTIVE);
         commentWithUserRepository.save(comment);
+        postReadModelService.refreshCountComment(List.of(comment.getPostId().getPostId()));
 
     }
 
@@ -146,6 +182,7 @@ public class CommentService {
         //누적 횟수 3회차일 때 댓글 삭제
         if(comment.getReported() == 2) {
             commentWithUserRepository.delete(comment);
+            postReadModelService.refreshCountComment(List.of(comment.getPostId().getPostId()));
         } else {
             //신고 횟수 업데이트
             comment.updateReported(comment.getReported() + 1);
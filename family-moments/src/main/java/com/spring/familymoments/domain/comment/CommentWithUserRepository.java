@@ -1,11 +1,17 @@
 package com.spring.familymoments.domain.comment;
 
 import com.spring.familymoments.domain.comment.entity.Comment;
+import com.spring.familymoments.domain.comment.model.GetCommentsRes;
+import com.spring.familymoments.domain.comment.model.PostCommentCount;
 import com.spring.familymoments.domain.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,10 +25,81 @@ public interface CommentWithUserRepository extends JpaRepository<Comment, Long>
     @Query("SELECT c FROM Comment c WHERE c.postId IN (SELECT p FROM Post p WHERE p.writer.userId = :userId)")
     List<Comment> findByPostUserID(Long userId);
 
-    // 게시글의 ACTIVE 댓글 목록 조회
-    @Query("SELECT c FROM Comment c WHERE c.postId.postId = :postId AND c.status = 'ACTIVE'")
-    List<Comment> findActiveCommentsByPostId(Long postId);
+    // [Comment] 댓글 첫 페이지: 작성자를 join 한 projection 으로 조회 (탈퇴한 작성자의 댓글 포함)
+    @Query("SELECT new com.spring.familymoments.domain.comment.model.GetCommentsRes(" +
+            "c.postId.postId, c.commentId, w.nickname, w.profileImg, c.content, c.createdAt) " +
+            "FROM Comment c LEFT JOIN c.writer w " +
+            "WHERE c.postId.postId = :postId AND c.status = 'ACTIVE' " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<GetCommentsRes> findCommentPage(@Param("postId") long postId, Pageable pageable);
+
+    // [Comment] Paging by cursor (createdAt, commentId)
+    @Query("SELECT new com.spring.familymoments.domain.comment.model.GetCommentsRes(" +
+            "c.postId.postId, c.commentId, w.nickname, w.profileImg, c.content, c.createdAt) " +
+            "FROM Comment c LEFT JOIN c.writer w " +
+            "WHERE c.postId.postId = :postId AND c.status = 'ACTIVE' " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.commentId > :commentId)) " +
+            "ORDER BY c.createdAt ASC, c.commentId ASC")
+    List<GetCommentsRes> findCommentPageAfterCursor(@Param("postId") long postId, @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("commentId") long commentId, Pageable pageable);
 
     // 게시글 내의 모든 댓글 조회
     List<Comment> findByPostId(Post post);
-}
\ No newline at end of file
+
+    // [Read model] 게시글별 ACTIVE 댓글 수
+    @Query("SELECT new com.spring.familymoments.domain.comment.model.PostCommentCount(c.postId.postId, COUNT(c)) " +
+            "FROM Comment c WHERE c.postId.postId IN :postIds AND c.status = 'ACTIVE' " +
+            "GROUP BY c.postId.postId")
+    List<PostCommentCount> countActiveCommentsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // [Love] write-behind 카운터의 변화량 반영 (음수가 되지 않도록 0 으로 제한)
+    @Modifying
+    @Query(value = "UPDATE Comment SET countLove = GREATEST(CAST(countLove AS SIGNED) + :delta, 0) " +
+            "WHERE commentId IN :commentIds", nativeQuery = true)
+    int addCountLove(@Param("delta") long delta, @Param("commentIds") Collection<Long> commentIds);
+
+    // [Reconcile] commentId 순서로 batch 크기만큼 commentId 조회
+    @Query("SELECT c.commentId FROM Comment c WHERE c.commentId > :lastCommentId ORDER BY c.commentId ASC")
+    List<Long> findCommentIdsAfter(@Param("lastCommentId") long lastCommentId, Pageable pageable);
+
+    // [Reconcile] countLove 가 실제 좋아요 수와 다른 commentId 조회 (반영되지 않은 변화량이 있는 댓글 제외)
+    @Query(value = "SELECT c.commentId FROM Comment c WHERE c.commentId IN :commentIds " +
+            "AND c.countLove <> (SELECT COUNT(*) FROM CommentLove cl WHERE cl.commentId = c.commentId AND cl.status = 'ACTIVE') " +
+            "AND NOT EXISTS (SELECT 1 FROM LoveCountDelta d WHERE d.target = 'COMMENT' AND d.targetId = c.commentId)", nativeQuery = true)
+    List<Long> findDriftedCountLoveCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // [Reconcile] countLove 를 실제 좋아요 수로 갱신
+    @Modifying
+    @Query(value = "UPDATE Comment c " +
+            "SET c.countLove = (SELECT COUNT(*) FROM CommentLove cl WHERE cl.commentId = c.commentId AND cl.status = 'ACTIVE') " +
+            "WHERE c.commentId IN :commentIds " +
+            "AND NOT EXISTS (SELECT 1 FROM LoveCountDelta d WHERE d.target = 'COMMENT' AND d.targetId = c.commentId)", nativeQuery = true)
+    int repairCountLove(@Param("commentIds") Collection<Long> commentIds);
+
+    // [가족 삭제] 게시물들의 commentId 조회 (상태 무관, 좋아요 인덱스 정리용)
+    @Query("SELECT c.commentId FROM Comment c WHERE c.postId.postId IN :postIds")
+    List<Long> findCommentIdsByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // [가족 삭제] 게시물들의 댓글 일괄 비활성화
+    @Modifying
+    @Query(value = "UPDATE Comment SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE postId IN :postIds AND status = 'ACTIVE'", nativeQuery = true)
+    int inactivateByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // [가족 탈퇴] 가족 안에서 탈퇴하는 멤버들이 댓글을 단 게시물
+    @Query("SELECT DISTINCT c.postId.postId FROM Comment c WHERE c.postId.familyId.familyId = :familyId " +
+            "AND c.writer.userId IN :userIds AND c.status = 'ACTIVE'")
+    List<Long> findActivePostIdsByFamilyIdAndWriterIdIn(@Param("familyId") long familyId, @Param("userIds") Collection<Long> userIds);
+
+    // [가족 탈퇴] 가족 안에서 탈퇴하는 멤버들의 댓글 일괄 비활성화
+    @Modifying
+    @Query(value = "UPDATE Comment c JOIN Post p ON c.postId = p.postId " +
+            "SET c.status = 'INACTIVE', c.updatedAt = NOW() " +
+            "WHERE p.familyId = :familyId AND c.writer IN :userIds AND c.status = 'ACTIVE'", nativeQuery = true)
+    int inactivateByFamilyIdAndWriterIdIn(@Param("familyId") long familyId, @Param("userIds") Collection<Long> userIds);
+
+    // [회원 탈퇴] 유저의 댓글을 limit 개씩 '알수없음' 처리
+    @Modifying
+    @Query(value = "UPDATE Comment SET writer = NULL, updatedAt = NOW() WHERE writer = :userId LIMIT :limit", nativeQuery = true)
+    int clearWriterByUserId(@Param("userId") long userId, @Param("limit") int limit);
+}
@@ -11,7 +11,10 @@ import org.hibernate.annotations.DynamicUpdate;
 import javax.persistence.*;
 
 @Entity
-@Table(name = "Comment")
+@Table(name = "Comment", indexes = {
+        // 댓글 cursor 페이징용 인덱스
+        @Index(name = "idx_comment_post_status_created", columnList = "postId, status, createdAt, commentId")
+})
 @Getter
 @NoArgsConstructor(force = true)
 @ToString
@@ -68,14 +71,6 @@ public class Comment extends BaseEntity {
     }
 
 
-    public void increaseCountLove() {
-        this.countLove = countLove + 1;
-    }
-
-    public void decreaseCountLove() {
-        this.countLove = countLove - 1;
-    }
-
     /**
      * 댓글 신고 API 관련 메소드
      */
@@ -0,0 +1,49 @@
+package com.spring.familymoments.domain.comment.model;
+
+import com.spring.familymoments.config.BaseException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.spring.familymoments.config.BaseResponseStatus.COMMENTS_INVALID_CURSOR;
+
+/**
+ * 댓글 페이징에 사용하는 cursor
+ * (createdAt, commentId) 쌍을 base64 문자열로 인코딩해 클라이언트에게는 불투명한 토큰으로 전달
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentCursor {
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final long commentId;
+
+    public static CommentCursor of(LocalDateTime createdAt, long commentId) {
+        return new CommentCursor(createdAt, commentId);
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + commentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+
+            return new CommentCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            throw new BaseException(COMMENTS_INVALID_CURSOR);
+        }
+    }
+}
@@ -35,4 +35,17 @@ public class GetCommentsRes {
     @Schema(description = "생성 시각" , example = "2023-08-01T00:47:39")
     private LocalDateTime createdAt;
 
+    @Schema(description = "다음 페이지 조회에 사용할 cursor", example = "MjAyMy0wOC0wMVQwMDo0NzozOV8xMjM0Mw")
+    private String cursor;
+
+    // 댓글 페이지 조회 projection (좋아요 여부는 페이지 단위로 따로 채움, 탈퇴한 작성자는 nickname, profileImg 가 null)
+    public GetCommentsRes(Long postId, Long commentId, String nickname, String profileImg, String content, LocalDateTime createdAt) {
+        this.postId = postId;
+        this.commentId = commentId;
+        this.nickname = nickname;
+        this.profileImg = profileImg;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.cursor = CommentCursor.of(createdAt, commentId).encode();
+    }
 }
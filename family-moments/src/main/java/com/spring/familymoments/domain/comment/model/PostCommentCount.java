@@ -0,0 +1,14 @@
+package com.spring.familymoments.domain.comment.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글별 ACTIVE 댓글 수 projection
+ */
+@Getter
+@AllArgsConstructor
+public class PostCommentCount {
+    private Long postId;
+    private Long count;
+}
@@ -2,13 +2,53 @@ package com.spring.familymoments.domain.commentLove;
 
 import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.commentLove.entity.CommentLove;
+import com.spring.familymoments.domain.postLove.model.LoveIndexEntry;
 import com.spring.familymoments.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentLoveRepository extends JpaRepository<CommentLove, Long> {
     Optional<CommentLove> findByCommentIdAndUserId(Comment comment, User user);
 
     boolean existsByCommentIdAndUserId(Comment comment, User user);
+
+    // 댓글 목록 내에서 유저가 좋아요를 누른 commentId 일괄 조회
+    @Query("SELECT cl.commentId.commentId FROM CommentLove cl " +
+            "WHERE cl.userId.userId = :userId " +
+            "AND cl.commentId.commentId IN :commentIds")
+    List<Long> findLovedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
+    // 좋아요 인덱스 재구성: commentLoveId 순서로 batch 조회
+    @Query("SELECT new com.spring.familymoments.domain.postLove.model.LoveIndexEntry(cl.commentLoveId, cl.commentId.commentId, cl.userId.userId) " +
+            "FROM CommentLove cl WHERE cl.commentLoveId > :lastCommentLoveId AND cl.status = 'ACTIVE' " +
+            "ORDER BY cl.commentLoveId ASC")
+    List<LoveIndexEntry> findActiveLovesAfter(@Param("lastCommentLoveId") long lastCommentLoveId, Pageable pageable);
+
+    @Query("SELECT cl.commentLoveId FROM CommentLove cl WHERE cl.commentLoveId IN :commentLoveIds AND cl.status = 'ACTIVE'")
+    List<Long> findActiveLoveIdsByIdIn(@Param("commentLoveIds") Collection<Long> commentLoveIds);
+
+    // [가족 삭제] 게시물들의 댓글 좋아요 일괄 비활성화
+    @Modifying
+    @Query(value = "UPDATE CommentLove cl JOIN Comment c ON cl.commentId = c.commentId " +
+            "SET cl.status = 'INACTIVE', cl.updatedAt = NOW() " +
+            "WHERE c.postId IN :postIds AND cl.status = 'ACTIVE'", nativeQuery = true)
+    int inactivateByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // [회원 탈퇴] loveId 순서로 유저의 ACTIVE 댓글 좋아요 조회
+    @Query("SELECT new com.spring.familymoments.domain.postLove.model.LoveIndexEntry(cl.commentLoveId, cl.commentId.commentId, cl.userId.userId) " +
+            "FROM CommentLove cl WHERE cl.userId.userId = :userId AND cl.status = 'ACTIVE' " +
+            "ORDER BY cl.commentLoveId ASC")
+    List<LoveIndexEntry> findActiveLovesByUserId(@Param("userId") long userId, Pageable pageable);
+
+    // [회원 탈퇴] 남은(비활성화된) 댓글 좋아요 limit 개씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM CommentLove WHERE userId = :userId LIMIT :limit", nativeQuery = true)
+    int deleteByUserId(@Param("userId") long userId, @Param("limit") int limit);
 }
@@ -5,19 +5,34 @@ import com.spring.familymoments.domain.comment.CommentWithUserRepository;
 import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.commentLove.entity.CommentLove;
 import com.spring.familymoments.domain.commentLove.model.CommentLoveReq;
+import com.spring.familymoments.domain.postLove.LoveCounterService;
+import com.spring.familymoments.domain.postLove.LoveIndexService;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static com.spring.familymoments.config.BaseResponseStatus.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentLoveService {
 
     private final CommentLoveRepository commentLoveRepository;
     private final CommentWithUserRepository commentWithUserRepository;
+    private final LoveCounterService loveCounterService;
+    private final LoveIndexService loveIndexService;
+
+    public static final long RECONCILE_DONE = -1L;
 
     @Transactional
     public void createLove(User user, CommentLoveReq commentLoveReq) {
@@ -34,8 +49,9 @@ public class CommentLoveService {
                 .userId(user)
                 .build();
 
-        comment.increaseCountLove();
         commentLoveRepository.save(commentLove);
+        loveCounterService.increase(LoveCountDelta.Target.COMMENT, comment.getCommentId());
+        loveIndexService.add(LoveCountDelta.Target.COMMENT, comment.getCommentId(), user.getUserId());
     }
 
     @Transactional
@@ -46,10 +62,48 @@ public class CommentLoveService {
         CommentLove commentLove = commentLoveRepository.findByCommentIdAndUserId(comment, user)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_COMMENTLOVE));
 
-        comment.decreaseCountLove();
         commentLoveRepository.delete(commentLove);
+        loveCounterService.decrease(LoveCountDelta.Target.COMMENT, comment.getCommentId());
+        loveIndexService.remove(LoveCountDelta.Target.COMMENT, comment.getCommentId(), user.getUserId());
+    }
+
+
+    /**
+     * getLovedCommentIds
+     * 댓글 목록 중 유저가 좋아요를 누른 commentId 를 한 번에 조회
+     * 좋아요 인덱스(Redis)가 준비된 경우 pipeline 1회로, 아니면 IN 쿼리 1회로 조회
+     * @return 좋아요를 누른 commentId 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getLovedCommentIds(Long userId, List<Long> commentIds) {
+        if(commentIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return loveIndexService.getLovedIds(LoveCountDelta.Target.COMMENT, userId, commentIds)
+                .orElseGet(() -> new HashSet<>(commentLoveRepository.findLovedCommentIds(userId, commentIds)));
     }
 
+    /**
+     * reconcileCountLove
+     * lastCommentId 이후 batchSize 개의 댓글 중 countLove 가 실제 좋아요 수와 다른 댓글을 찾아 보정
+     * @return 다음 batch 의 기준 commentId, 더 이상 조회할 댓글이 없으면 RECONCILE_DONE
+     */
+    @Transactional
+    public long reconcileCountLove(long lastCommentId, int batchSize) {
+        List<Long> commentIds = commentWithUserRepository.findCommentIdsAfter(lastCommentId, PageRequest.of(0, batchSize));
+        if(commentIds.isEmpty()) {
+            return RECONCILE_DONE;
+        }
+
+        List<Long> driftedCommentIds = commentWithUserRepository.findDriftedCountLoveCommentIds(commentIds);
+        if(!driftedCommentIds.isEmpty()) {
+            commentWithUserRepository.repairCountLove(driftedCommentIds);
+            log.info("[reconcileCountLove] 댓글 countLove 보정: {}", driftedCommentIds);
+        }
+
+        return commentIds.size() < batchSize ? RECONCILE_DONE : commentIds.get(commentIds.size() - 1);
+    }
 
     /**
      * 댓글 좋아요 중복 확인
@@ -6,9 +6,11 @@ import com.spring.familymoments.domain.family.model.GetFamilyAllResInterface;
 import com.spring.familymoments.domain.user.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,4 +52,28 @@ public interface UserFamilyRepository extends JpaRepository<UserFamily, Long> {
 
     @Query("SELECT f.familyName FROM UserFamily uf JOIN Family f ON uf.familyId.familyId = f.familyId WHERE uf.userId.userId = :userId")
     String findFamilyNameByUserId(@Param("userId") Long userId);
+
+    // [가족 탈퇴] 가족에 속한(상태 무관) 유저 수
+    @Query("SELECT COUNT(DISTINCT uf.userId.userId) FROM UserFamily uf " +
+            "WHERE uf.familyId.familyId = :familyId AND uf.userId.userId IN :userIds")
+    long countByFamilyIdAndUserIdIn(@Param("familyId") Long familyId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM UserFamily uf WHERE uf.familyId.familyId = :familyId AND uf.userId.userId IN :userIds")
+    int deleteByFamilyIdAndUserIdIn(@Param("familyId") Long familyId, @Param("userIds") Collection<Long> userIds);
+
+    // [회원 탈퇴] 유저의 가족 매핑 limit 개씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM UserFamily WHERE userId = :userId LIMIT :limit", nativeQuery = true)
+    int deleteByUserId(@Param("userId") long userId, @Param("limit") int limit);
+
+    // [회원 탈퇴] 유저가 보낸 초대의 초대자 limit 개씩 비우기
+    @Modifying
+    @Query(value = "UPDATE UserFamily SET inviteUserId = NULL, updatedAt = NOW() WHERE inviteUserId = :userId LIMIT :limit", nativeQuery = true)
+    int clearInviteUserByUserId(@Param("userId") long userId, @Param("limit") int limit);
+
+    // [유저 검색] 가족에 이미 속해 있거나 초대 대기 중인 userId 일괄 조회
+    @Query("SELECT uf.userId.userId FROM UserFamily uf WHERE uf.familyId.familyId = :familyId " +
+            "AND uf.userId.userId IN :userIds AND uf.status IN ('ACTIVE', 'DEACCEPT')")
+    List<Long> findJoinedOrInvitedUserIds(@Param("familyId") Long familyId, @Param("userIds") Collection<Long> userIds);
 }
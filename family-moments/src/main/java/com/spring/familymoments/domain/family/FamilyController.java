@@ -206,7 +206,7 @@ public class FamilyController {
      * @return BaseResponse<String>
      */
     @DeleteMapping("/{familyId}")
-    @Operation(summary = "가족 삭제", description = "가족을 삭제합니다. 댓글, 게시글, 가족이 일괄 삭제됩니다.")
+    @Operation(summary = "가족 삭제", description = "가족을 삭제합니다. 댓글, 게시글, 좋아요는 백그라운드에서 일괄 삭제됩니다.")
     public BaseResponse<String> deleteFamily(
             @AuthenticationPrincipal @Parameter(hidden = true) User user,
             @PathVariable Long familyId) {
@@ -214,6 +214,21 @@ public class FamilyController {
         return new BaseResponse<>("가족이 삭제되었습니다.");
     }
 
+    /**
+     * 가족 삭제 진행 상황 조회 API
+     * [GET] /:familyId/deletion
+     *
+     * @return BaseResponse<FamilyDeletionRes>
+     */
+    @GetMapping("/{familyId}/deletion")
+    @Operation(summary = "가족 삭제 진행 상황 조회", description = "삭제한 가족의 게시글, 댓글 삭제 진행 상황을 조회합니다.")
+    public BaseResponse<FamilyDeletionRes> getDeletionProgress(
+            @AuthenticationPrincipal @Parameter(hidden = true) User user,
+            @PathVariable Long familyId) {
+        FamilyDeletionRes familyDeletionRes = familyService.getDeletionProgress(user, familyId);
+        return new BaseResponse<>(familyDeletionRes);
+    }
+
     /**
      * 가족 정보수정 API
      * [GET] /families/{familyId}
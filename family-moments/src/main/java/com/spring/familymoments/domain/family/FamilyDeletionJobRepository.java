@@ -0,0 +1,29 @@
+package com.spring.familymoments.domain.family;
+
+import com.spring.familymoments.domain.family.entity.FamilyDeletionJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface FamilyDeletionJobRepository extends JpaRepository<FamilyDeletionJob, Long> {
+
+    // 다시 시도할 시각이 지난 가장 오래된 PENDING 작업부터 조회 (잠금 없이 조회하고, 처리할 때 jobId 로 잠근 뒤 상태를 다시 확인)
+    @Query("SELECT j.jobId FROM FamilyDeletionJob j WHERE j.status = 'PENDING' " +
+            "AND (j.nextAttemptAt IS NULL OR j.nextAttemptAt <= :now) ORDER BY j.jobId ASC")
+    List<Long> findRunnableJobIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 작업 잠금 조회: 여러 서버가 같은 작업의 같은 chunk 를 처리하지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM FamilyDeletionJob j WHERE j.jobId = :jobId")
+    Optional<FamilyDeletionJob> findByIdForUpdate(@Param("jobId") long jobId);
+
+    @Query("SELECT j FROM FamilyDeletionJob j WHERE j.familyId = :familyId")
+    Optional<FamilyDeletionJob> findByFamilyId(@Param("familyId") Long familyId);
+}
@@ -0,0 +1,41 @@
+package com.spring.familymoments.domain.family;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Optional;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class FamilyDeletionScheduler {
+    private final FamilyDeletionService familyDeletionService;
+
+    @Value("${family.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 가족 삭제 작업 처리
+     * 남은 작업이 없을 때까지 chunk 단위로 반복 처리 (chunk 마다 별도 트랜잭션)
+     * 실패한 작업은 실패를 기록해 backoff 동안 건너뛰고, 다음 작업을 계속 처리
+     */
+    @Scheduled(fixedDelayString = "${family.deletion.delay-ms:1000}")
+    public void processFamilyDeletion() {
+        try {
+            Optional<Long> jobId;
+            while((jobId = familyDeletionService.findNextJobId()).isPresent()) {
+                try {
+                    familyDeletionService.processChunk(jobId.get(), chunkSize);
+                } catch (RuntimeException e) {
+                    log.error("[processFamilyDeletion] 가족 삭제 작업 실패. jobId: {}", jobId.get(), e);
+                    familyDeletionService.recordFailure(jobId.get(), e);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("[processFamilyDeletion] 가족 삭제 작업 실패", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.spring.familymoments.domain.family;
+
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.commentLove.CommentLoveRepository;
+import com.spring.familymoments.domain.family.entity.FamilyDeletionJob;
+import com.spring.familymoments.domain.post.PostCalendarService;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.postLove.LoveIndexService;
+import com.spring.familymoments.domain.postLove.PostLoveRepository;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 가족 삭제 작업 처리
+ * 게시물 chunk 마다 트랜잭션을 나누어 댓글 좋아요, 댓글, 게시물 좋아요, 게시물을 postId IN 조건의 일괄 UPDATE 로 비활성화
+ * 한 트랜잭션이 잠그는 행 수는 chunk 크기의 게시물과 그 댓글, 좋아요로 제한됨
+ * 일괄 UPDATE 는 좋아요 인덱스(Redis)를 거치지 않으므로, chunk 의 게시물, 댓글의 좋아요 집합은 커밋 후 삭제
+ * (비활성화된 게시물, 댓글의 좋아요 수는 다시 조회되지 않으므로 조정하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FamilyDeletionService {
+    private final FamilyDeletionJobRepository familyDeletionJobRepository;
+    private final PostRepository postRepository;
+    private final CommentWithUserRepository commentWithUserRepository;
+    private final PostLoveRepository postLoveRepository;
+    private final CommentLoveRepository commentLoveRepository;
+    private final PostCalendarService postCalendarService;
+    private final PostFeedCacheDao postFeedCacheDao;
+    private final LoveIndexService loveIndexService;
+
+    @Value("${family.deletion.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${family.deletion.retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    // 가족 삭제 요청 트랜잭션에서 호출
+    public void enqueue(long familyId) {
+        familyDeletionJobRepository.save(FamilyDeletionJob.builder()
+                .familyId(familyId)
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<FamilyDeletionJob> find(long familyId) {
+        return familyDeletionJobRepository.findByFamilyId(familyId);
+    }
+
+    /**
+     * findNextJobId
+     * 다시 시도할 시각이 지난 가장 오래된 삭제 작업 (backoff 중인 작업은 건너뜀)
+     * @return 처리할 작업이 없으면 Optional.empty()
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findNextJobId() {
+        return familyDeletionJobRepository.findRunnableJobIds(LocalDateTime.now(), PageRequest.of(0, 1)).stream()
+                .findFirst();
+    }
+
+    /**
+     * processChunk
+     * 삭제 작업의 다음 게시물 chunk 처리, 남은 게시물이 없으면 작업 완료 처리
+     * @return 작업이 그 사이 다른 서버에서 끝났거나 backoff 중이면 false
+     */
+    @Transactional
+    public boolean processChunk(long jobId, int chunkSize) {
+        FamilyDeletionJob job = familyDeletionJobRepository.findByIdForUpdate(jobId).orElse(null);
+        if(job == null || job.getStatus() != FamilyDeletionJob.Status.PENDING
+                || (job.getNextAttemptAt() != null && job.getNextAttemptAt().isAfter(LocalDateTime.now()))) {
+            return false;
+        }
+        long familyId = job.getFamilyId();
+        job.succeed();
+
+        List<Long> postIds = postRepository.findActivePostIdsByFamilyIdAfter(familyId, job.getLastPostId(),
+                PageRequest.of(0, chunkSize));
+        if(postIds.isEmpty()) {
+            job.finish();
+            postCalendarService.rebuild(Set.of(familyId));
+            postFeedCacheDao.evictFamily(familyId);
+            log.info("[FamilyDeletionService] 가족 삭제 완료. familyId: {}, posts: {}, comments: {}",
+                    familyId, job.getDeletedPosts(), job.getDeletedComments());
+            return true;
+        }
+
+        List<Long> commentIds = commentWithUserRepository.findCommentIdsByPostIdIn(postIds);
+
+        // 자식 행부터 비활성화
+        commentLoveRepository.inactivateByPostIdIn(postIds);
+        int deletedComments = commentWithUserRepository.inactivateByPostIdIn(postIds);
+        postLoveRepository.inactivateByPostIdIn(postIds);
+        int deletedPosts = postRepository.inactivateByPostIdIn(postIds);
+
+        loveIndexService.removeTargets(Target.POST, postIds);
+        loveIndexService.removeTargets(Target.COMMENT, commentIds);
+
+        job.advance(postIds.get(postIds.size() - 1), deletedPosts, deletedComments);
+        // 진행 중에도 남은 게시물만 조회되도록 피드 캐시 무효화
+        postFeedCacheDao.evictFamily(familyId);
+        return true;
+    }
+
+    /**
+     * recordFailure
+     * chunk 처리 트랜잭션이 롤백된 뒤 별도 트랜잭션에서 실패를 기록
+     * 연속으로 family.deletion.max-attempts 번 실패하면 FAILED 로 남기고 다음 작업 처리
+     */
+    @Transactional
+    public void recordFailure(long jobId, RuntimeException e) {
+        familyDeletionJobRepository.findByIdForUpdate(jobId)
+                .filter(job -> job.getStatus() == FamilyDeletionJob.Status.PENDING)
+                .ifPresent(job -> {
+                    job.fail(e.toString(), maxAttempts, Duration.ofMillis(retryDelayMs));
+                    if(job.getStatus() == FamilyDeletionJob.Status.FAILED) {
+                        log.error("[FamilyDeletionService] 가족 삭제 작업 중단. jobId: {}, familyId: {}, lastPostId: {}, attempts: {}",
+                                jobId, job.getFamilyId(), job.getLastPostId(), job.getAttempts());
+                    }
+                });
+    }
+}
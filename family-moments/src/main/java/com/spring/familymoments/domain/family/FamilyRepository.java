@@ -2,6 +2,7 @@ package com.spring.familymoments.domain.family;
 
 import com.spring.familymoments.domain.family.entity.Family;
 import com.spring.familymoments.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -29,6 +30,14 @@ public interface FamilyRepository extends JpaRepository<Family, Long> {
     @Query("SELECT f FROM Family f JOIN f.userFamilies uf WHERE uf.userId = :user AND uf.status = 'ACTIVE' ORDER BY uf.createdAt ASC")
     List<Family> findActiveFamilyByUserId(@Param("user") User user);
 
+    // [이미지 정리] ACTIVE 가족의 대표 이미지 url 을 url 순서로 batch 조회
+    @Query("SELECT DISTINCT f.representImg FROM Family f WHERE f.status = 'ACTIVE' AND f.representImg > :lastUrl ORDER BY f.representImg ASC")
+    List<String> findActiveRepresentImgsAfter(@Param("lastUrl") String lastUrl, Pageable pageable);
+
+    // [캘린더 백필] familyId 순서로 batch 조회 (상태 무관)
+    @Query("SELECT f.familyId FROM Family f WHERE f.familyId > :lastFamilyId ORDER BY f.familyId ASC")
+    List<Long> findFamilyIdsAfter(@Param("lastFamilyId") long lastFamilyId, Pageable pageable);
+
     @Query(value = "SELECT f.createdAt  " +
             "FROM Family f " +
             "WHERE f.familyId = :familyId " +
@@ -2,14 +2,16 @@ package com.spring.familymoments.domain.family;
 
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.domain.comment.CommentWithUserRepository;
-import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.common.BaseEntity;
 import com.spring.familymoments.domain.common.UserFamilyRepository;
 import com.spring.familymoments.domain.common.entity.UserFamily;
 import com.spring.familymoments.domain.family.entity.Family;
 import com.spring.familymoments.domain.family.model.*;
-import com.spring.familymoments.domain.post.PostWithUserRepository;
-import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.PostCalendarService;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReadModelService;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.post.model.PostDayCount;
 import com.spring.familymoments.domain.user.UserRepository;
 import com.spring.familymoments.domain.user.entity.User;
 import com.spring.familymoments.utils.CustomDateTimeUtils;
@@ -31,8 +33,12 @@ public class FamilyService {
     private final FamilyRepository familyRepository;
     private final UserFamilyRepository userFamilyRepository;
     private final UserRepository userRepository;
-    private final PostWithUserRepository postWithUserRepository;
+    private final PostRepository postRepository;
     private final CommentWithUserRepository commentWithUserRepository;
+    private final PostCalendarService postCalendarService;
+    private final PostFeedCacheDao postFeedCacheDao;
+    private final PostReadModelService postReadModelService;
+    private final FamilyDeletionService familyDeletionService;
 
     private static final int MAX_FAMILY_COUNT = 5;
 
@@ -195,11 +201,16 @@ public class FamilyService {
     }
 
     // 가족 삭제
+    // 가족과 생성자 매핑은 바로 비활성화하고, 게시글, 댓글, 좋아요는 FamilyDeletionScheduler 가 chunk 단위로 비활성화
     @Transactional
     public void deleteFamily(User user, Long familyId) {
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
 
+        if (family.getStatus() == BaseEntity.Status.INACTIVE) {
+            throw new BaseException(FIND_FAIL_FAMILY);
+        }
+
         // 생성자 권한 확인
         if (!family.isOwner(user)) {
             throw new BaseException(FAILED_USERSS_UNATHORIZED);
@@ -209,30 +220,35 @@ public class FamilyService {
         UserFamily userFamily = userFamilyRepository.findActiveUserFamilyByUserIdAndFamilyId(user, family)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_USER_IN_FAMILY));
 
-        // 1. 가족 내 게시글의 댓글 일괄 삭제
-        List<Post> postsToDelete = postWithUserRepository.findByFamilyId(family);
-        for (Post post : postsToDelete) {
-            // 해당 게시글의 댓글들의 상태를 일괄적으로 INACTIVE로 변경
-            List<Comment> commentsToDelete = commentWithUserRepository.findByPostId(post);
-            for (Comment comment : commentsToDelete) {
-                comment.updateStatus(Comment.Status.INACTIVE);
-            }
-        }
-
-        // 2. 가족 내 게시글 일괄 삭제
-        for (Post post : postsToDelete) {
-            post.updateStatus(BaseEntity.Status.INACTIVE);
-        }
+        // 1. 가족 내 게시글, 댓글, 좋아요 삭제 작업 등록
+        familyDeletionService.enqueue(familyId);
+        postReadModelService.updateFamilyStatus(familyId, BaseEntity.Status.INACTIVE);
+        postFeedCacheDao.evictFamily(familyId);
 
         // +. 가족-유저 매핑 삭제
         userFamily.updateStatus(UserFamily.Status.INACTIVE);
         userFamilyRepository.save(userFamily);
 
-        // 3. 가족 삭제
+        // 2. 가족 삭제
         family.updateStatus(BaseEntity.Status.INACTIVE);
         familyRepository.save(family);
     }
 
+    // 가족 삭제 진행 상황 조회
+    @Transactional(readOnly = true)
+    public FamilyDeletionRes getDeletionProgress(User user, Long familyId) {
+        Family family = familyRepository.findById(familyId)
+                .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
+
+        if (!family.isOwner(user)) {
+            throw new BaseException(FAILED_USERSS_UNATHORIZED);
+        }
+
+        return familyDeletionService.find(familyId)
+                .map(FamilyDeletionRes::of)
+                .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
+    }
+
     //가족 정보 수정
     @Transactional
     public FamilyRes updateFamily(User user, Long familyId, FamilyUpdateReq familyUpdateReq, String fileUrl) {
@@ -255,20 +271,7 @@ public class FamilyService {
         Family family = familyRepository.findById(familyId)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
 
-        List<Post> posts = postWithUserRepository.findPostByUserId(user.getUserId());
-        for (Post post : posts) {
-            post.updateStatus(BaseEntity.Status.INACTIVE);
-        }
-
-        List<Comment> comments = commentWithUserRepository.findCommentsByUserId(user.getUserId());
-        for (Comment comment : comments) {
-            comment.updateStatus(Comment.Status.INACTIVE);
-        }
-
-        UserFamily userFamily = userFamilyRepository.findByUserIdAndFamilyId(user, family)
-                .orElseThrow(() -> new BaseException(FIND_FAIL_USER_IN_FAMILY));
-
-        userFamilyRepository.delete(userFamily);
+        withdrawMembers(family, List.of(user.getUserId()));
     }
 
     // 가족 강제 탈퇴
@@ -281,17 +284,48 @@ public class FamilyService {
             throw new BaseException(NOT_FAMILY_OWNER);
         }
 
-        String requestUserId = user.getId();
-        for (String userId : userIds) {
-            if (requestUserId.equals(userId)) {
-                throw new BaseException(CANNOT_EMISSION_SELF);
-            }
+        Set<String> emissionIds = new HashSet<>(userIds);
+        if (emissionIds.contains(user.getId())) {
+            throw new BaseException(CANNOT_EMISSION_SELF);
+        }
 
-            User emissionUser = userRepository.findById(userId)
-                    .orElseThrow(() -> new BaseException(FIND_FAIL_USER));
+        List<Long> emissionUserIds = userRepository.findUserIdsByIdIn(emissionIds);
+        if (emissionUserIds.size() < emissionIds.size()) {
+            throw new BaseException(FIND_FAIL_USER);
+        }
+
+        withdrawMembers(family, emissionUserIds);
+    }
+
+    /**
+     * withdrawMembers
+     * 가족 안에서 멤버들이 작성한 게시글, 댓글만 일괄 UPDATE 로 비활성화하고 가족 매핑 삭제
+     * 멤버 수와 관계없이 같은 수의 쿼리를 실행하며, 다른 가족의 게시글, 댓글은 변경하지 않음
+     */
+    private void withdrawMembers(Family family, Collection<Long> userIds) {
+        long familyId = family.getFamilyId();
+        if (userFamilyRepository.countByFamilyIdAndUserIdIn(familyId, userIds) < userIds.size()) {
+            throw new BaseException(FIND_FAIL_USER_IN_FAMILY);
+        }
 
-            withdrawFamily(emissionUser, familyId);
+        // read model 의 댓글 수를 다시 계산할 게시물 (read model 을 사용하지 않으면 조회하지 않음)
+        List<Long> commentedPostIds = postReadModelService.isEnabled()
+                ? commentWithUserRepository.findActivePostIdsByFamilyIdAndWriterIdIn(familyId, userIds)
+                : Collections.emptyList();
+        // 비활성화 전 일자별 게시물 수 (캘린더 감소용)
+        List<PostDayCount> dayCounts = postRepository.countActiveByDayAndFamilyIdAndWriterIdIn(familyId, userIds);
+        commentWithUserRepository.inactivateByFamilyIdAndWriterIdIn(familyId, userIds);
+        int inactivatedPosts = postRepository.inactivateByFamilyIdAndWriterIdIn(familyId, userIds);
+
+        userFamilyRepository.deleteByFamilyIdAndUserIdIn(familyId, userIds);
+
+        // 비활성화된 게시물 수만큼 캘린더 감소
+        if (inactivatedPosts > 0) {
+            postCalendarService.decrease(dayCounts);
+            postReadModelService.updateMemberStatus(familyId, userIds, BaseEntity.Status.INACTIVE);
         }
+        postFeedCacheDao.evictFamily(familyId);
+        postReadModelService.refreshCountComment(commentedPostIds);
     }
 
     // 가족 권한 수정
@@ -0,0 +1,96 @@
+package com.spring.familymoments.domain.family.entity;
+
+import com.spring.familymoments.domain.common.BaseTime;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 가족 삭제 작업
+ * 가족 삭제 요청 시 생성되고, FamilyDeletionScheduler 가 게시물 chunk 단위로 게시물, 댓글, 좋아요를 비활성화하며 진행 상황 기록
+ * chunk 처리에 실패하면 backoff 후 다시 시도하고, 연속으로 maxAttempts 번 실패하면 FAILED 로 남겨 다음 작업을 막지 않음
+ */
+@Entity
+@Table(name = "FamilyDeletionJob")
+@Getter
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Builder
+public class FamilyDeletionJob extends BaseTime {
+
+    public enum Status {
+        PENDING, DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "jobId", nullable = false, updatable = false)
+    private Long jobId;
+
+    @Column(name = "familyId", nullable = false, updatable = false, unique = true)
+    private Long familyId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status = Status.PENDING;
+
+    // 마지막으로 처리한 postId (다음 chunk 는 이후부터)
+    @Builder.Default
+    @Column(name = "lastPostId", nullable = false)
+    private long lastPostId = 0L;
+
+    @Column(name = "deletedPosts", nullable = false)
+    private long deletedPosts;
+
+    @Column(name = "deletedComments", nullable = false)
+    private long deletedComments;
+
+    @Column(name = "finishedAt")
+    private LocalDateTime finishedAt;
+
+    // 연속 실패 횟수 (chunk 처리에 성공하면 0)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "lastError")
+    private String lastError;
+
+    // 실패 후 다시 시도할 시각
+    @Column(name = "nextAttemptAt")
+    private LocalDateTime nextAttemptAt;
+
+    public void advance(long lastPostId, int deletedPosts, int deletedComments) {
+        this.lastPostId = lastPostId;
+        this.deletedPosts += deletedPosts;
+        this.deletedComments += deletedComments;
+    }
+
+    public void finish() {
+        this.status = Status.DONE;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void succeed() {
+        this.attempts = 0;
+        this.nextAttemptAt = null;
+    }
+
+    /**
+     * fail
+     * 실패를 기록하고 retryDelay * 2^(연속 실패 횟수 - 1) 뒤에 다시 시도, maxAttempts 번 연속 실패하면 FAILED
+     */
+    public void fail(String error, int maxAttempts, Duration retryDelay) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+        if(attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+            this.nextAttemptAt = null;
+            this.finishedAt = LocalDateTime.now();
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(retryDelay.multipliedBy(1L << Math.min(attempts - 1, 16)));
+    }
+}
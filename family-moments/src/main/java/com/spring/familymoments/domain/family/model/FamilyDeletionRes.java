@@ -0,0 +1,44 @@
+package com.spring.familymoments.domain.family.model;
+
+import com.spring.familymoments.domain.family.entity.FamilyDeletionJob;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Schema(description = "가족 삭제 진행 상황 dto")
+public class FamilyDeletionRes {
+
+    @Schema(description = "가족 id")
+    private Long familyId;
+
+    @Schema(description = "진행 상태 (PENDING, DONE, FAILED)", example = "PENDING")
+    private FamilyDeletionJob.Status status;
+
+    @Schema(description = "삭제한 게시글 수")
+    private long deletedPosts;
+
+    @Schema(description = "삭제한 댓글 수")
+    private long deletedComments;
+
+    @Schema(description = "삭제 요청 시각")
+    private LocalDateTime requestedAt;
+
+    @Schema(description = "삭제 완료 시각")
+    private LocalDateTime finishedAt;
+
+    public static FamilyDeletionRes of(FamilyDeletionJob job) {
+        return FamilyDeletionRes.builder()
+                .familyId(job.getFamilyId())
+                .status(job.getStatus())
+                .deletedPosts(job.getDeletedPosts())
+                .deletedComments(job.getDeletedComments())
+                .requestedAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
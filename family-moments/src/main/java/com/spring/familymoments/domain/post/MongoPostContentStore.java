@@ -0,0 +1,153 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.post.document.PostDocument;
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.entity.PostOutbox;
+import com.spring.familymoments.domain.post.entity.PostOutbox.EventType;
+import com.spring.familymoments.domain.post.model.PostOutboxPayload;
+import com.spring.familymoments.domain.post.model.SinglePostDocumentRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mongo post 컬렉션에 게시물 본문을 저장하는 구현 (post.storage=mongo, 기본값)
+ * 저장 시 피드 조회용 read model 필드도 함께 채움
+ * 저장, 수정, 삭제는 MySQL 트랜잭션 안에서 outbox 에 기록되고 PostOutboxScheduler 가 Mongo 에 반영 (post.outbox.relay-delay-ms 정도 늦음)
+ * 본문 조회(find, findAll)는 아직 반영되지 않은 outbox 의 변경을 post document 위에 덧씌워, 작성, 수정 직후에도 커밋된 내용을 반환
+ * 대표 이미지 조회, read model 피드(PostReadModelService)는 Mongo 에 반영된 뒤부터 보임
+ */
+@Repository
+@RequiredArgsConstructor
+public class MongoPostContentStore implements PostContentStore {
+    private final PostDocumentRepository postDocumentRepository;
+    private final PostOutboxService postOutboxService;
+
+    @Override
+    public void save(Post post, String content, List<String> urls) {
+        PostOutboxPayload payload = PostOutboxPayload.builder()
+                .content(content)
+                .urls(urls)
+                // 피드 조회용 read model
+                .createdAt(post.getCreatedAt())
+                .status(BaseEntity.Status.ACTIVE)
+                .writerId(post.getWriter().getUserId())
+                .writerNickname(post.getWriter().getNickname())
+                .writerProfileImg(post.getWriter().getProfileImg())
+                .version(post.getContentVersion())
+                .build();
+
+        postOutboxService.enqueue(EventType.UPSERT, post.getPostId(), post.getFamilyId().getFamilyId(), payload);
+    }
+
+    @Override
+    public Optional<SinglePostDocumentRes> find(long postId) {
+        return Optional.ofNullable(findAll(List.of(postId)).get(postId));
+    }
+
+    @Override
+    public Map<Long, SinglePostDocumentRes> findAll(Collection<Long> postIds) {
+        if(postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, PostDocument> postDocuments = postDocumentRepository.findByEntityIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostDocument::getEntityId, Function.identity(), (origin, duplicate) -> origin));
+        Map<Long, List<PostOutbox>> pendingContents = postOutboxService.findPendingContents(postIds);
+
+        Map<Long, SinglePostDocumentRes> contents = new HashMap<>();
+        for(Long postId : postIds) {
+            merge(postId, postDocuments.get(postId), pendingContents.getOrDefault(postId, Collections.emptyList()))
+                    .ifPresent(content -> contents.put(postId, content));
+        }
+        return contents;
+    }
+
+    /**
+     * merge
+     * relay 와 같은 규칙(UPSERT 는 문서가 없을 때만, UPDATE_CONTENT 는 더 새 version 만)으로 반영 전 변경을 덧씌움
+     * @return 문서도 없고 반영 전 UPSERT 도 없으면 empty
+     */
+    private Optional<SinglePostDocumentRes> merge(long postId, PostDocument postDocument, List<PostOutbox> pending) {
+        if(postDocument == null && pending.isEmpty()) {
+            return Optional.empty();
+        }
+        boolean exists = postDocument != null;
+        String content = exists ? postDocument.getContent() : null;
+        List<String> urls = exists ? postDocument.getUrls() : null;
+        Integer version = exists ? postDocument.getVersion() : null;
+
+        for(PostOutbox outbox : pending) {
+            PostOutboxPayload payload = postOutboxService.readPayload(outbox);
+            boolean newer = payload.getVersion() == null || version == null || payload.getVersion() > version;
+            if(outbox.getEventType() == EventType.UPSERT) {
+                if(exists) {
+                    continue;
+                }
+                exists = true;
+            } else if(!exists || !newer) {
+                continue;
+            }
+            if(payload.getContent() != null) {
+                content = payload.getContent();
+            }
+            if(payload.getUrls() != null) {
+                urls = payload.getUrls();
+            }
+            version = payload.getVersion();
+        }
+
+        if(!exists) {
+            return Optional.empty();
+        }
+        return Optional.of(SinglePostDocumentRes.builder()
+                .entityId(postId)
+                .content(content)
+                .urls(urls)
+                .build());
+    }
+
+    @Override
+    public Map<Long, String> findCoverUrls(Collection<Long> postIds) {
+        Map<Long, String> coverUrls = new HashMap<>();
+        for(PostDocument postDocument : postDocumentRepository.findCoverUrlsByEntityIdIn(postIds)) {
+            if(postDocument.getUrls() != null && !postDocument.getUrls().isEmpty()) {
+                coverUrls.putIfAbsent(postDocument.getEntityId(), postDocument.getUrls().get(0));
+            }
+        }
+        return coverUrls;
+    }
+
+    @Override
+    public void update(Post post, String content, List<String> urls) {
+        PostOutboxPayload payload = PostOutboxPayload.builder()
+                .content(content)
+                .urls(urls)
+                .variants(post.getVariants())
+                .version(post.getContentVersion())
+                .build();
+
+        postOutboxService.enqueue(EventType.UPDATE_CONTENT, post.getPostId(), post.getFamilyId().getFamilyId(), payload);
+    }
+
+    @Override
+    public void delete(Post post) {
+        postOutboxService.enqueue(EventType.DELETE, post.getPostId(), post.getFamilyId().getFamilyId(), PostOutboxPayload.builder()
+                .version(post.getContentVersion())
+                .build());
+    }
+
+    @Override
+    public void deleteAllByFamily(long familyId) {
+        postOutboxService.enqueue(EventType.DELETE_FAMILY, familyId, familyId, null);
+    }
+
+    // 게시물마다 DELETE 를 기록 (writerId 가 백필되지 않은 이전 문서도 entityId 로 삭제됨)
+    @Override
+    public void deleteAll(Collection<Post> posts) {
+        posts.forEach(this::delete);
+    }
+}
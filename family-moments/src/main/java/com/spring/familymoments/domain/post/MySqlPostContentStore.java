@@ -0,0 +1,133 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.entity.PostContent;
+import com.spring.familymoments.domain.post.model.SinglePostDocumentRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL PostContent 테이블에 게시물 본문을 저장하는 구현 (post.storage=mysql)
+ * Post 와 같은 트랜잭션에서 저장/수정/삭제되며, 피드 조회 시 Mongo 를 거치지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class MySqlPostContentStore implements PostContentStore {
+    private final PostContentRepository postContentRepository;
+
+    @Value("${post.bulk-chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public void save(Post post, String content, List<String> urls) {
+        postContentRepository.save(PostContent.of(post.getPostId(), content, urls));
+    }
+
+    @Override
+    public Optional<SinglePostDocumentRes> find(long postId) {
+        return postContentRepository.findById(postId)
+                .map(MySqlPostContentStore::toSinglePostDocumentRes);
+    }
+
+    @Override
+    public Map<Long, SinglePostDocumentRes> findAll(Collection<Long> postIds) {
+        if(postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return postContentRepository.findByPostIdIn(postIds).stream()
+                .map(MySqlPostContentStore::toSinglePostDocumentRes)
+                .collect(Collectors.toMap(SinglePostDocumentRes::getEntityId, Function.identity()));
+    }
+
+    @Override
+    public Map<Long, String> findCoverUrls(Collection<Long> postIds) {
+        Map<Long, String> coverUrls = new HashMap<>();
+        for(PostContent postContent : postContentRepository.findByPostIdIn(postIds)) {
+            List<String> urls = postContent.getUrls();
+            if(urls != null && !urls.isEmpty()) {
+                coverUrls.put(postContent.getPostId(), urls.get(0));
+            }
+        }
+        return coverUrls;
+    }
+
+    // 본문 행이 없으면(이관 전 게시물 등) 새로 저장해 수정 내용을 잃지 않음
+    @Override
+    public void update(Post post, String content, List<String> urls) {
+        postContentRepository.findById(post.getPostId())
+                .ifPresentOrElse(postContent -> postContent.update(content, urls),
+                        () -> postContentRepository.save(PostContent.of(post.getPostId(), content, urls)));
+    }
+
+    @Override
+    public void delete(Post post) {
+        postContentRepository.deleteByPostId(post.getPostId());
+    }
+
+    @Override
+    public void deleteAllByFamily(long familyId) {
+        deleteInChunks(() -> postContentRepository.findPostIdsByFamilyId(familyId, PageRequest.of(0, chunkSize)));
+    }
+
+    @Override
+    public void deleteAll(Collection<Post> posts) {
+        if(posts.isEmpty()) {
+            return;
+        }
+        postContentRepository.deleteByPostIdIn(posts.stream()
+                .map(Post::getPostId)
+                .collect(Collectors.toList()));
+    }
+
+    // 삭제한 행은 다음 조회에서 빠지므로 남은 행이 없을 때까지 chunkSize 개씩 삭제
+    private void deleteInChunks(Supplier<List<Long>> nextChunk) {
+        List<Long> postIds = nextChunk.get();
+        while(!postIds.isEmpty()) {
+            postContentRepository.deleteByPostIdIn(postIds);
+            if(postIds.size() < chunkSize) {
+                return;
+            }
+            postIds = nextChunk.get();
+        }
+    }
+
+    /**
+     * importBatch
+     * Mongo post 컬렉션의 본문을 PostContent 로 옮겨 담음 (이미 있는 postId 는 덮어씀)
+     */
+    @Transactional
+    public void importBatch(List<SinglePostDocumentRes> postDocuments) {
+        Map<Long, PostContent> existing = postContentRepository.findByPostIdIn(postDocuments.stream()
+                        .map(SinglePostDocumentRes::getEntityId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(PostContent::getPostId, Function.identity()));
+
+        List<PostContent> newContents = new ArrayList<>();
+        for(SinglePostDocumentRes postDocument : postDocuments) {
+            List<String> urls = postDocument.getUrls() == null ? Collections.emptyList() : postDocument.getUrls();
+            PostContent postContent = existing.get(postDocument.getEntityId());
+            if(postContent != null) {
+                postContent.update(postDocument.getContent(), urls);
+            } else {
+                newContents.add(PostContent.of(postDocument.getEntityId(), postDocument.getContent(), urls));
+            }
+        }
+        postContentRepository.saveAll(newContents);
+    }
+
+    private static SinglePostDocumentRes toSinglePostDocumentRes(PostContent postContent) {
+        return SinglePostDocumentRes.builder()
+                .entityId(postContent.getPostId())
+                .content(postContent.getContent())
+                .urls(postContent.getUrls())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.spring.familymoments.domain.post;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostCalendar 백필 완료 표시 (Redis)
+ * 표시가 없으면 캘린더 조회 측에서 Post 테이블로 대체
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCalendarBackfillDao {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String BUILT_KEY = "POST_CALENDAR_BUILT";
+
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY));
+    }
+
+    public void markBuilt() {
+        redisTemplate.opsForValue().set(BUILT_KEY, "1");
+    }
+}
@@ -0,0 +1,32 @@
+package com.spring.familymoments.domain.post;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostCalendar 백필
+ * PostCalendar 가 없던 버전에서 배포하는 경우 --post.calendar.backfill-on-startup=true 로 한 번 실행
+ * 끝나기 전까지 캘린더 조회는 Post 테이블 집계로 대체됨
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.calendar.backfill-on-startup", havingValue = "true")
+public class PostCalendarBackfillRunner implements ApplicationRunner {
+    private final PostCalendarService postCalendarService;
+
+    @Value("${post.calendar.backfill-batch-size:100}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastFamilyId = 0L;
+        while(lastFamilyId != PostCalendarService.BACKFILL_DONE) {
+            lastFamilyId = postCalendarService.backfill(lastFamilyId, batchSize);
+        }
+        postCalendarService.markBackfilled();
+    }
+}
@@ -0,0 +1,56 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.entity.PostCalendar;
+import com.spring.familymoments.domain.post.model.AlbumMonthRes;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PostCalendarRepository extends JpaRepository<PostCalendar, Long> {
+
+    @Query("SELECT pc FROM PostCalendar pc WHERE pc.familyId = :familyId " +
+            "AND pc.postDate BETWEEN :startDate AND :endDate " +
+            "AND pc.postCount > 0 " +
+            "ORDER BY pc.postDate ASC")
+    List<PostCalendar> findByFamilyIdAndMonth(@Param("familyId") Long familyId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 앨범 월별 그룹핑: 월별 게시물 수 합계
+    @Query("SELECT new com.spring.familymoments.domain.post.model.AlbumMonthRes(YEAR(pc.postDate), MONTH(pc.postDate), SUM(pc.postCount)) " +
+            "FROM PostCalendar pc WHERE pc.familyId = :familyId AND pc.postCount > 0 " +
+            "GROUP BY YEAR(pc.postDate), MONTH(pc.postDate) " +
+            "ORDER BY YEAR(pc.postDate) DESC, MONTH(pc.postDate) DESC")
+    List<AlbumMonthRes> findMonthlyCountsByFamilyId(@Param("familyId") Long familyId);
+
+    @Modifying
+    @Query(value = "INSERT INTO PostCalendar (familyId, postDate, postCount) " +
+            "VALUES (:familyId, :postDate, 1) " +
+            "ON DUPLICATE KEY UPDATE postCount = postCount + 1", nativeQuery = true)
+    void increasePostCount(@Param("familyId") Long familyId, @Param("postDate") LocalDate postDate);
+
+    @Modifying
+    @Query(value = "UPDATE PostCalendar SET postCount = postCount - 1 " +
+            "WHERE familyId = :familyId AND postDate = :postDate AND postCount > 0", nativeQuery = true)
+    void decreasePostCount(@Param("familyId") Long familyId, @Param("postDate") LocalDate postDate);
+
+    // 일괄 삭제, 비활성화한 게시물 수만큼 감소
+    @Modifying
+    @Query(value = "UPDATE PostCalendar SET postCount = GREATEST(postCount - :count, 0) " +
+            "WHERE familyId = :familyId AND postDate = :postDate", nativeQuery = true)
+    void decreasePostCountBy(@Param("familyId") Long familyId, @Param("postDate") LocalDate postDate, @Param("count") long count);
+
+    // 가족의 캘린더 재구성
+    @Modifying
+    @Query(value = "DELETE FROM PostCalendar WHERE familyId = :familyId", nativeQuery = true)
+    void deleteByFamilyId(@Param("familyId") Long familyId);
+
+    @Modifying
+    @Query(value = "INSERT INTO PostCalendar (familyId, postDate, postCount) " +
+            "SELECT p.familyId, DATE(p.createdAt), COUNT(*) FROM Post p " +
+            "WHERE p.familyId = :familyId AND p.status = 'ACTIVE' " +
+            "GROUP BY p.familyId, DATE(p.createdAt)", nativeQuery = true)
+    void insertFromPosts(@Param("familyId") Long familyId);
+}
@@ -0,0 +1,139 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.domain.family.FamilyRepository;
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.model.AlbumMonthRes;
+import com.spring.familymoments.domain.post.model.PostCalendarRes;
+import com.spring.familymoments.domain.post.model.PostDayCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.spring.familymoments.config.BaseResponseStatus.minnie_POSTS_NON_EXISTS_POST;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCalendarService {
+    private final PostCalendarRepository postCalendarRepository;
+    private final PostCalendarBackfillDao postCalendarBackfillDao;
+    private final PostRepository postRepository;
+    private final FamilyRepository familyRepository;
+
+    public static final long BACKFILL_DONE = -1L;
+
+    /**
+     * increase
+     * 게시물 생성 시 해당 일자의 게시물 수 증가
+     */
+    @Transactional
+    public void increase(Post post) {
+        postCalendarRepository.increasePostCount(post.getFamilyId().getFamilyId(), post.getCreatedAt().toLocalDate());
+    }
+
+    /**
+     * decrease
+     * 게시물 삭제 시 해당 일자의 게시물 수 감소
+     */
+    @Transactional
+    public void decrease(Post post) {
+        postCalendarRepository.decreasePostCount(post.getFamilyId().getFamilyId(), post.getCreatedAt().toLocalDate());
+    }
+
+    /**
+     * decrease
+     * 게시물을 일괄 삭제, 비활성화한 경우 미리 조회한 일자별 게시물 수만큼 감소
+     */
+    @Transactional
+    public void decrease(List<PostDayCount> dayCounts) {
+        for(PostDayCount dayCount : dayCounts) {
+            postCalendarRepository.decreasePostCountBy(dayCount.getFamilyId(), dayCount.getPostDate(), dayCount.getCount());
+        }
+    }
+
+    /**
+     * rebuild
+     * 게시물 상태가 일괄로 변경된 경우, Post 테이블 기준으로 가족의 캘린더를 다시 생성
+     */
+    @Transactional
+    public void rebuild(Collection<Long> familyIds) {
+        for(Long familyId : familyIds) {
+            postCalendarRepository.deleteByFamilyId(familyId);
+            postCalendarRepository.insertFromPosts(familyId);
+        }
+    }
+
+    /**
+     * backfill
+     * lastFamilyId 이후 batchSize 개 가족의 캘린더를 Post 테이블 기준으로 다시 생성
+     * @return 다음 batch 의 기준 familyId, 더 이상 채울 가족이 없으면 BACKFILL_DONE
+     */
+    @Transactional
+    public long backfill(long lastFamilyId, int batchSize) {
+        List<Long> familyIds = familyRepository.findFamilyIdsAfter(lastFamilyId, PageRequest.of(0, batchSize));
+        if(familyIds.isEmpty()) {
+            return BACKFILL_DONE;
+        }
+        rebuild(familyIds);
+        log.info("[backfill] 캘린더 백필: familyId {} ~ {}", familyIds.get(0), familyIds.get(familyIds.size() - 1));
+
+        return familyIds.size() < batchSize ? BACKFILL_DONE : familyIds.get(familyIds.size() - 1);
+    }
+
+    public void markBackfilled() {
+        postCalendarBackfillDao.markBuilt();
+    }
+
+    /**
+     * getMonthlyCalendar
+     * 특정 월에 게시물이 존재하는 일자와 일자별 게시물 수 조회
+     * 백필이 끝나기 전에는 Post 테이블에서 직접 집계
+     * @return List<PostCalendarRes>
+     */
+    @Transactional(readOnly = true)
+    public List<PostCalendarRes> getMonthlyCalendar(long familyId, int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+
+        List<PostCalendarRes> calendar;
+        if(postCalendarBackfillDao.isBuilt()) {
+            calendar = postCalendarRepository.findByFamilyIdAndMonth(familyId, startDate, endDate).stream()
+                    .map(day -> new PostCalendarRes(day.getPostDate(), day.getPostCount()))
+                    .collect(Collectors.toList());
+        } else {
+            calendar = postRepository.countActiveByDayAndFamilyIdBetween(familyId, startDate.atStartOfDay(),
+                            endDate.plusDays(1).atStartOfDay()).stream()
+                    .map(day -> new PostCalendarRes(day.getPostDate(), (int) day.getCount()))
+                    .collect(Collectors.toList());
+        }
+
+        if(calendar.isEmpty()) {
+            throw new BaseException(minnie_POSTS_NON_EXISTS_POST);
+        }
+        return calendar;
+    }
+
+    /**
+     * getMonthlyCounts
+     * 앨범의 월별 그룹핑을 위해 월별 게시물 수 조회 (최신 월부터)
+     * 백필이 끝나기 전에는 Post 테이블에서 직접 집계
+     * @return List<AlbumMonthRes>
+     */
+    @Transactional(readOnly = true)
+    public List<AlbumMonthRes> getMonthlyCounts(long familyId) {
+        if(!postCalendarBackfillDao.isBuilt()) {
+            return postRepository.countActiveByMonthAndFamilyId(familyId);
+        }
+        return postCalendarRepository.findMonthlyCountsByFamilyId(familyId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.model.SinglePostDocumentRes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mongo post 컬렉션 -> MySQL PostContent 이관
+ * post.storage=mysql 로 전환하기 전 --post.storage.migrate-from-mongo=true 로 한 번 실행
+ * 이미 이관된 postId 는 덮어쓰므로 여러 번 실행해도 무방
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.storage.migrate-from-mongo", havingValue = "true")
+public class PostContentMigrationRunner implements ApplicationRunner {
+    private final PostDocumentRepository postDocumentRepository;
+    private final MySqlPostContentStore mySqlPostContentStore;
+
+    @Value("${post.storage.migrate-batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("=== POST CONTENT MIGRATION START ===");
+        long lastEntityId = 0L;
+        long count = 0L;
+        while(true) {
+            List<SinglePostDocumentRes> postDocuments = postDocumentRepository.findContentsAfter(lastEntityId, PageRequest.of(0, batchSize));
+            if(postDocuments.isEmpty()) {
+                break;
+            }
+
+            mySqlPostContentStore.importBatch(postDocuments);
+            count += postDocuments.size();
+            lastEntityId = postDocuments.get(postDocuments.size() - 1).getEntityId();
+        }
+        log.info("=== POST CONTENT MIGRATION END: {} posts ===", count);
+    }
+}
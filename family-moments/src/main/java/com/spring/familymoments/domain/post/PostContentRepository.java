@@ -0,0 +1,29 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.entity.PostContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    @Query("SELECT pc FROM PostContent pc WHERE pc.postId IN :postIds")
+    List<PostContent> findByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM PostContent pc WHERE pc.postId = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM PostContent pc WHERE pc.postId IN :postIds")
+    void deleteByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // [일괄 삭제] 가족의 게시물 본문 postId 를 chunk 단위로 조회
+    @Query("SELECT pc.postId FROM PostContent pc, Post p WHERE p.postId = pc.postId AND p.familyId.familyId = :familyId")
+    List<Long> findPostIdsByFamilyId(@Param("familyId") long familyId, Pageable pageable);
+}
@@ -0,0 +1,58 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.model.SinglePostDocumentRes;
+
+import java.util.*;
+
+/**
+ * 게시물 본문, 이미지 url 저장소
+ * post.storage 설정에 따라 Mongo(post document) 또는 MySQL(PostContent) 구현을 사용
+ */
+public interface PostContentStore {
+
+    void save(Post post, String content, List<String> urls);
+
+    Optional<SinglePostDocumentRes> find(long postId);
+
+    // 한 페이지 분량의 post 본문 일괄 조회: postId -> 본문
+    Map<Long, SinglePostDocumentRes> findAll(Collection<Long> postIds);
+
+    // 앨범 대표 이미지 일괄 조회: postId -> 첫 번째 이미지 url
+    Map<Long, String> findCoverUrls(Collection<Long> postIds);
+
+    /**
+     * findImageUrls
+     * 게시물들의 이미지 url (이미지 참조 수 계산용)
+     * Post 행의 imageUrls 를 사용하고, imageUrls 가 없는 이전 게시물만 본문 저장소에서 조회
+     * @return 모든 게시물의 이미지 url
+     */
+    default List<String> findImageUrls(Collection<Post> posts) {
+        List<String> imageUrls = new ArrayList<>();
+        List<Long> legacyPostIds = new ArrayList<>();
+        for(Post post : posts) {
+            if(post.getImageUrls() != null) {
+                imageUrls.addAll(post.getImageUrls());
+            } else {
+                legacyPostIds.add(post.getPostId());
+            }
+        }
+        if(!legacyPostIds.isEmpty()) {
+            findAll(legacyPostIds).values().stream()
+                    .map(SinglePostDocumentRes::getUrls)
+                    .filter(Objects::nonNull)
+                    .forEach(imageUrls::addAll);
+        }
+        return imageUrls;
+    }
+
+    void update(Post post, String content, List<String> urls);
+
+    void delete(Post post);
+
+    // 가족의 모든 게시물 본문 일괄 삭제 (Post 를 삭제하기 전에 호출)
+    void deleteAllByFamily(long familyId);
+
+    // 게시물들의 본문 일괄 삭제 (Post 를 삭제하기 전에 chunk 단위로 호출)
+    void deleteAll(Collection<Post> posts);
+}
@@ -0,0 +1,137 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.model.PostCursor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 조회(getPosts) 경로 벤치마크
+ * 이관 후 --post.storage.benchmark-on-startup=true 로 실행하면, 최근 게시물이 있는 가족의 피드를 cursor 로 넘기며
+ * 캐시를 거치지 않는 getPosts 의 페이지 조회 시간을 경로별로 측정해 로그로 남김
+ * - mysql, mongo: Post 목록 조회 + 본문 저장소 일괄 조회 (쿼리 2회)
+ * - read-model: post document 만으로 조회 (쿼리 1회, post.read-model.enabled 인 경우에만 측정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.storage.benchmark-on-startup", havingValue = "true")
+public class PostContentStoreBenchmarkRunner implements ApplicationRunner {
+    private final PostRepository postRepository;
+    private final MongoPostContentStore mongoPostContentStore;
+    private final MySqlPostContentStore mySqlPostContentStore;
+    private final PostReadModelService postReadModelService;
+
+    @Value("${post.storage.benchmark.sample-size:1000}")
+    private int sampleSize;
+
+    @Value("${post.storage.benchmark.pages-per-family:5}")
+    private int pagesPerFamily;
+
+    @Value("${post.storage.benchmark.iterations:5}")
+    private int iterations;
+
+    // PostService 의 피드 페이지 크기
+    private static final int PAGE_SIZE = 10;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> postIds = postRepository.findRecentPostIds(PageRequest.of(0, sampleSize));
+        if(postIds.isEmpty()) {
+            log.info("[PostContentStoreBenchmark] 측정할 게시물이 없습니다.");
+            return;
+        }
+        List<FeedPageRequest> pages = collectPages(postRepository.findFamilyIdsByPostIds(postIds));
+
+        // 커넥션, 캐시 워밍업
+        measure(pages, page -> loadPage(mongoPostContentStore, page));
+        measure(pages, page -> loadPage(mySqlPostContentStore, page));
+        if(postReadModelService.isEnabled()) {
+            measure(pages, page -> postReadModelService.getFeedPage(page.getFamilyId(), page.getCursor(), PAGE_SIZE));
+        }
+
+        for(int i = 0; i < iterations; i++) {
+            report("mongo", measure(pages, page -> loadPage(mongoPostContentStore, page)));
+            report("mysql", measure(pages, page -> loadPage(mySqlPostContentStore, page)));
+            if(postReadModelService.isEnabled()) {
+                report("read-model", measure(pages, page ->
+                        postReadModelService.getFeedPage(page.getFamilyId(), page.getCursor(), PAGE_SIZE)));
+            }
+        }
+    }
+
+    // 가족별로 첫 페이지부터 pagesPerFamily 개 페이지의 cursor 를 수집 (모든 경로가 같은 페이지를 조회)
+    private List<FeedPageRequest> collectPages(List<Long> familyIds) {
+        List<FeedPageRequest> pages = new ArrayList<>();
+        for(Long familyId : familyIds) {
+            PostCursor cursor = null;
+            for(int i = 0; i < pagesPerFamily; i++) {
+                pages.add(new FeedPageRequest(familyId, cursor));
+                List<Post> posts = findPosts(familyId, cursor);
+                if(posts.size() < PAGE_SIZE) {
+                    break;
+                }
+                cursor = PostCursor.from(posts.get(posts.size() - 1));
+            }
+        }
+        return pages;
+    }
+
+    private void loadPage(PostContentStore store, FeedPageRequest page) {
+        List<Long> postIds = findPosts(page.getFamilyId(), page.getCursor()).stream()
+                .map(Post::getPostId)
+                .collect(Collectors.toList());
+        store.findAll(postIds);
+    }
+
+    private List<Post> findPosts(long familyId, PostCursor cursor) {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+        return cursor == null
+                ? postRepository.findWithWriterByFamilyIdOrderByCreatedAtDesc(familyId, pageable)
+                : postRepository.findByFamilyIdBeforeCursor(familyId, cursor.getCreatedAt(), cursor.getPostId(), pageable);
+    }
+    private List<Long> measure(List<FeedPageRequest> pages, Consumer<FeedPageRequest> loader) {
+        List<Long> elapsed = new ArrayList<>();
+        for(FeedPageRequest page : pages) {
+            long start = System.nanoTime();
+            loader.accept(page);
+            elapsed.add(System.nanoTime() - start);
+        }
+        return elapsed;
+    }
+
+    private void report(String storage, List<Long> elapsed) {
+        if(elapsed.isEmpty()) {
+            log.info("[PostContentStoreBenchmark] {}: 측정할 게시물이 없습니다.", storage);
+            return;
+        }
+        Collections.sort(elapsed);
+        double avgMs = elapsed.stream().mapToLong(Long::longValue).average().orElse(0) / 1_000_000.0;
+        double p95Ms = elapsed.get((int) Math.ceil(elapsed.size() * 0.95) - 1) / 1_000_000.0;
+        log.info("[PostContentStoreBenchmark] {}: pages={}, avg={}ms, p95={}ms",
+                storage, elapsed.size(), String.format("%.3f", avgMs), String.format("%.3f", p95Ms));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class FeedPageRequest {
+        private final long familyId;
+        // null 이면 첫 페이지
+        private final PostCursor cursor;
+    }
+}
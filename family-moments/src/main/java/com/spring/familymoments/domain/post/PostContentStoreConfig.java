@@ -0,0 +1,22 @@
+package com.spring.familymoments.domain.post;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class PostContentStoreConfig {
+
+    /**
+     * post.storage=mysql 인 경우 게시물 본문을 MySQL 에서, 그 외에는 Mongo 에서 읽고 씀
+     * (두 구현 모두 빈으로 등록되어 있어 이관, 벤치마크에서 함께 사용 가능)
+     */
+    @Bean
+    @Primary
+    public PostContentStore postContentStore(@Value("${post.storage:mongo}") String storage,
+                                             MongoPostContentStore mongoPostContentStore,
+                                             MySqlPostContentStore mySqlPostContentStore) {
+        return "mysql".equalsIgnoreCase(storage) ? mySqlPostContentStore : mongoPostContentStore;
+    }
+}
@@ -2,6 +2,8 @@ package com.spring.familymoments.domain.post;
 
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.config.BaseResponse;
+import com.spring.familymoments.domain.awsS3.model.DirectUploadFileReq;
+import com.spring.familymoments.domain.awsS3.model.DirectUploadRes;
 import com.spring.familymoments.domain.post.model.*;
 import com.spring.familymoments.domain.postLove.PostLoveService;
 import com.spring.familymoments.domain.postLove.model.PostLoveRes;
@@ -66,6 +68,48 @@ public class PostController {
         return new BaseResponse<>(singlePostRes);
     }
 
+    /**
+     * 이미지 직접 업로드 url 발급 API
+     * [POST] /posts/uploads?familyId={가족인덱스}
+     * @return BaseResponse<List<DirectUploadRes>>
+     */
+    @ResponseBody
+    @PostMapping("/uploads")
+    @Operation(summary = "이미지 업로드 url 발급", description = "게시물 이미지를 저장소에 직접 업로드할 url 을 발급합니다.")
+    public BaseResponse<List<DirectUploadRes>> issueDirectUploads(@AuthenticationPrincipal @Parameter(hidden = true) User user,
+                                                                  @RequestParam("familyId") long familyId,
+                                                                  @RequestBody List<DirectUploadFileReq> files) {
+        if(files == null || files.isEmpty()) {
+            return new BaseResponse<>(minnie_POSTS_EMPTY_IMAGE);
+        }
+
+        List<DirectUploadRes> uploads = postService.issueDirectUploads(user, familyId, files);
+        return new BaseResponse<>(uploads);
+    }
+
+    /**
+     * 직접 업로드한 이미지로 게시글 작성 API
+     * [POST] /posts/direct?familyId={가족인덱스}
+     * @return BaseResponse<SinglePostRes>
+     */
+    @ResponseBody
+    @PostMapping("/direct")
+    @Operation(summary = "직접 업로드한 이미지로 게시글 생성", description = "발급받은 url 로 업로드한 이미지 key 로 게시글을 생성합니다.")
+    public BaseResponse<SinglePostRes> createPostWithUploads(@AuthenticationPrincipal @Parameter(hidden = true) User user,
+                                                             @RequestParam("familyId") long familyId,
+                                                             @RequestBody DirectPostReq directPostReq) {
+        if(directPostReq.getContent() == null) {
+            return new BaseResponse<>(minnie_POSTS_EMPTY_CONTENT);
+        }
+
+        if(directPostReq.getKeys() == null || directPostReq.getKeys().isEmpty()) {
+            return new BaseResponse<>(minnie_POSTS_EMPTY_IMAGE);
+        }
+
+        SinglePostRes singlePostRes = postService.createPostWithUploads(user, familyId, directPostReq);
+        return new BaseResponse<>(singlePostRes);
+    }
+
     /**
      * 게시글 수정 API
      * [POST] /posts/{postId}/edit
@@ -132,6 +176,19 @@ public class PostController {
         return new BaseResponse<>(singlePostRes);
     }
 
+    /**
+     * 10개 게시글 조회 API (cursor 기반)
+     * [GET] /posts?familyId={가족인덱스}&cursor={이전 페이지 마지막 게시물의 cursor}
+     * @return BaseResponse<List<SinglePostRes>>
+     */
+    @ResponseBody
+    @GetMapping(params = {"familyId", "cursor"})
+    @Operation(summary = "게시글 조회(with cursor)", description = "cursor 이전의 게시물 10건을 조회합니다.")
+    public BaseResponse<List<SinglePostRes>> getNextPostsByCursor(@AuthenticationPrincipal @Parameter(hidden = true) User user, @RequestParam("familyId") long familyId, @RequestParam("cursor") String cursor) {
+        List<SinglePostRes> singlePostRes = postService.getPosts(user, familyId, cursor);
+        return new BaseResponse<>(singlePostRes);
+    }
+
     /**
      * 특정 게시글 조회 API
      * [GET] /posts/{postId}
@@ -197,6 +254,22 @@ public class PostController {
        return new BaseResponse<>(dates);
    }
 
+    /**
+     * 특정 월 일자별 게시물 수 조회 API
+     * [GET] /posts/calendar/counts?familyId={가족인덱스}&year={년}&month={월}
+     * @return BaseResponse<List<PostCalendarRes>>
+     */
+    @GetMapping(value = "/calendar/counts", params = {"familyId", "year", "month"})
+    @Operation(summary = "일자별 게시물 수 조회", description = "해당 월 중 게시물이 작성된 날짜와 날짜별 게시물 수를 조회합니다.")
+    public BaseResponse<List<PostCalendarRes>> getPostCountsOfMonth(@RequestParam("familyId") long familyId, @RequestParam("year") int year, @RequestParam("month") int month) {
+        if(month < 1 || month > 12 || year > LocalDate.now().getYear()) {
+            return new BaseResponse<>(minnie_POSTS_INVALID_POST_ID);
+        }
+
+        List<PostCalendarRes> counts = postService.getPostCountsOfMonth(familyId, year, month);
+        return new BaseResponse<>(counts);
+    }
+
     /**
      * 앨범 조회 API - 최근 30건
      * [GET] /posts/album?familyId={가족인덱스}
@@ -221,6 +294,30 @@ public class PostController {
         return new BaseResponse<>(album);
     }
 
+    /**
+     * 앨범 조회 API - cursor 이후 30건
+     * [GET] /posts/album?familyId={가족인덱스}&cursor={이전 페이지 마지막 앨범의 cursor}
+     * @return BaseResponse<List<AlbumRes>>
+     */
+    @GetMapping(value = "/album", params = {"familyId", "cursor"})
+    @Operation(summary = "앨범 30건 조회(with cursor)", description = "cursor 이전의 30건의 게시물을 앨범 형태에 맞춰 조회합니다.")
+    public BaseResponse<List<AlbumRes>> getRecentAlbumByCursor(@RequestParam("familyId") long familyId, @RequestParam("cursor") String cursor) {
+        List<AlbumRes> album = postService.getAlbum(familyId, cursor);
+        return new BaseResponse<>(album);
+    }
+
+    /**
+     * 앨범 월별 게시물 수 조회 API
+     * [GET] /posts/album/months?familyId={가족인덱스}
+     * @return BaseResponse<List<AlbumMonthRes>>
+     */
+    @GetMapping(value = "/album/months")
+    @Operation(summary = "앨범 월별 게시물 수 조회", description = "앨범을 월별로 묶어 보여주기 위해 월별 게시물 수를 최신 월부터 조회합니다.")
+    public BaseResponse<List<AlbumMonthRes>> getAlbumMonths(@RequestParam("familyId") long familyId) {
+        List<AlbumMonthRes> months = postService.getAlbumMonths(familyId);
+        return new BaseResponse<>(months);
+    }
+
     /**
      * 앨범 상세 조회 API
      * [GET] /posts/album/{post인덱스}
@@ -0,0 +1,103 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.document.PostDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * post 컬렉션 인덱스 생성
+ * spring.data.mongodb.auto-index-creation 설정과 무관하게 애플리케이션 시작 시 필요한 인덱스를 보장
+ * (이미 존재하는 인덱스는 그대로 유지)
+ * entityId unique 인덱스가 없던 시기에 중복 저장된 document 는 인덱스 생성 전에 정리하며,
+ * 그래도 생성에 실패하면 로그만 남기고 나머지 인덱스 생성과 애플리케이션 시작은 계속 진행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDocumentIndexInitializer {
+    private final MongoTemplate mongoTemplate;
+
+    private static final String ENTITY_ID_INDEX = "uk_post_entity_id";
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(PostDocument.class);
+
+        // postId 로 post document 조회
+        ensureEntityIdIndex(indexOps);
+
+        // [Read model] 가족 피드 cursor 페이징
+        indexOps.ensureIndex(new Index()
+                .on("familyId", Sort.Direction.ASC)
+                .on("status", Sort.Direction.ASC)
+                .on("createdAt", Sort.Direction.DESC)
+                .on("entityId", Sort.Direction.DESC)
+                .named("idx_post_family_status_created"));
+
+        // [Read model] 작성자 프로필 변경 시 일괄 갱신
+        indexOps.ensureIndex(new Index()
+                .on("writerId", Sort.Direction.ASC)
+                .named("idx_post_writer"));
+
+        log.info("[PostDocumentIndexInitializer] post 컬렉션 인덱스 확인 완료");
+    }
+
+    private void ensureEntityIdIndex(IndexOperations indexOps) {
+        boolean exists = indexOps.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .anyMatch(ENTITY_ID_INDEX::equals);
+        try {
+            if(!exists) {
+                removeDuplicateEntityIds();
+            }
+            indexOps.ensureIndex(new Index()
+                    .on("entityId", Sort.Direction.ASC)
+                    .unique()
+                    .named(ENTITY_ID_INDEX));
+        } catch (DataAccessException e) {
+            log.error("[PostDocumentIndexInitializer] {} 인덱스 생성 실패", ENTITY_ID_INDEX, e);
+        }
+    }
+
+    /**
+     * removeDuplicateEntityIds
+     * 같은 entityId 의 document 가 여러 개면 가장 최신(version, 생성 순서가 가장 큰) document 만 남기고 삭제
+     * @return 삭제한 document 수
+     */
+    private long removeDuplicateEntityIds() {
+        String collection = mongoTemplate.getCollectionName(PostDocument.class);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.sort(Sort.by(Sort.Order.desc("version"), Sort.Order.desc("_id"))),
+                Aggregation.group("entityId").push("_id").as("docIds").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1)))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        long removed = 0L;
+        for(Document duplicate : mongoTemplate.aggregate(aggregation, collection, Document.class)) {
+            List<ObjectId> docIds = duplicate.getList("docIds", ObjectId.class);
+            removed += mongoTemplate.remove(Query.query(Criteria.where("_id").in(docIds.subList(1, docIds.size()))),
+                    collection).getDeletedCount();
+        }
+        if(removed > 0) {
+            log.warn("[PostDocumentIndexInitializer] 중복 entityId document {}개 삭제", removed);
+        }
+        return removed;
+    }
+}
@@ -3,18 +3,55 @@ package com.spring.familymoments.domain.post;
 import com.spring.familymoments.domain.post.document.PostDocument;
 import com.spring.familymoments.domain.post.model.SinglePostDocumentRes;
 import org.bson.types.ObjectId;
-import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.mongodb.repository.Query;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface PostDocumentRepository extends MongoRepository<PostDocument, ObjectId> {
 
-    @Query("SELECT pd FROM PostDocument pd INNER JOIN Post p ON pd.entityId = p.postId WHERE p.postId = :postId")
-    SinglePostDocumentRes findByEntityId(@Param("entityId") Long postId);
+    // entityId unique 인덱스 사용, 응답에 필요한 필드만 조회
+    @Query(value = "{ 'entityId': ?0 }", fields = "{ '_id': 0, 'entityId': 1, 'content': 1, 'urls': 1 }")
+    SinglePostDocumentRes findByEntityId(Long postId);
 
-    @Query("SELECT pd FROM PostDocument pd WHERE pd.entityId = :postId")
-    Optional<PostDocument> findPostDocumentByEntityId(@Param("entityId") Long postId);
+    // 피드 페이지의 post document 일괄 조회 ($in)
+    @Query("{ 'entityId': { $in: ?0 } }")
+    List<PostDocument> findByEntityIdIn(Collection<Long> entityIds);
 
+    // 앨범 대표 이미지 일괄 조회: 첫 번째 url 만 조회
+    @Query(value = "{ 'entityId': { $in: ?0 } }", fields = "{ 'entityId': 1, 'urls': { $slice: 1 } }")
+    List<PostDocument> findCoverUrlsByEntityIdIn(Collection<Long> entityIds);
+
+    // [PostContent 이관] entityId 순서로 본문만 batch 조회
+    @Query(value = "{ 'entityId': { $gt: ?0 } }", fields = "{ '_id': 0, 'entityId': 1, 'content': 1, 'urls': 1 }",
+            sort = "{ 'entityId': 1 }")
+    List<SinglePostDocumentRes> findContentsAfter(Long lastEntityId, Pageable pageable);
+
+    // [Read model] 가족 피드 최신 페이지: (familyId, status, createdAt, entityId) 인덱스 범위 조회
+    @Query(value = "{ 'familyId': ?0, 'status': 'ACTIVE' }", sort = "{ 'createdAt': -1, 'entityId': -1 }")
+    List<PostDocument> findFeedByFamilyId(Long familyId, Pageable pageable);
+
+    // [Read model] 가족 피드 cursor (createdAt, entityId) 이전 페이지
+    @Query(value = "{ 'familyId': ?0, 'status': 'ACTIVE', " +
+            "$or: [ { 'createdAt': { $lt: ?1 } }, { 'createdAt': ?1, 'entityId': { $lt: ?2 } } ] }",
+            sort = "{ 'createdAt': -1, 'entityId': -1 }")
+    List<PostDocument> findFeedByFamilyIdBeforeCursor(Long familyId, LocalDateTime createdAt, Long postId, Pageable pageable);
+
+    // [일괄 변경] 가족의 post document entityId 를 chunk 단위로 조회
+    @Query(value = "{ 'familyId': ?0, 'entityId': { $gt: ?1 } }", fields = "{ '_id': 0, 'entityId': 1 }",
+            sort = "{ 'entityId': 1 }")
+    List<PostDocument> findEntityIdsByFamilyIdAfter(Long familyId, Long lastEntityId, Pageable pageable);
+
+    // [일괄 변경] 작성자의 post document entityId 를 chunk 단위로 조회
+    @Query(value = "{ 'writerId': ?0, 'entityId': { $gt: ?1 } }", fields = "{ '_id': 0, 'entityId': 1 }",
+            sort = "{ 'entityId': 1 }")
+    List<PostDocument> findEntityIdsByWriterIdAfter(Long writerId, Long lastEntityId, Pageable pageable);
+
+    // [일괄 변경] 가족 안에서 작성자의 post document entityId 를 chunk 단위로 조회
+    @Query(value = "{ 'familyId': ?0, 'writerId': ?1, 'entityId': { $gt: ?2 } }", fields = "{ '_id': 0, 'entityId': 1 }",
+            sort = "{ 'entityId': 1 }")
+    List<PostDocument> findEntityIdsByFamilyIdAndWriterIdAfter(Long familyId, Long writerId, Long lastEntityId, Pageable pageable);
 }
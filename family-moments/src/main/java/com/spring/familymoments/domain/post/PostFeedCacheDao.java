@@ -0,0 +1,79 @@
+package com.spring.familymoments.domain.post;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.familymoments.utils.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가족 피드, 앨범 페이지 캐시
+ * 페이지는 가족별 버전 번호를 포함한 key 로 저장되며, 게시물/좋아요/댓글 변경 시 버전을 올려 이전 페이지를 무효화
+ * 페이지에는 모든 가족 구성원이 공유하는 정보만 저장하고, 유저별 정보(loved, written)는 조회 시 덧씌움
+ * (좋아요 여부는 좋아요 인덱스에서 매번 조회하므로, 좋아요 수 반영으로 버전이 올라가도 유저별 캐시가 사라지지 않음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostFeedCacheDao {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${post.feed-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private static final String VERSION_PREFIX = "FEED_VERSION(";
+    private static final String PAGE_PREFIX = "FEED_PAGE(";
+
+    public long getVersion(long familyId) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + familyId + "):");
+        return version == null ? 0L : Long.parseLong(version);
+    }
+
+    /**
+     * evictFamily
+     * 가족의 페이지 버전을 올려 캐시된 페이지를 무효화
+     * 트랜잭션 안에서 호출된 경우 커밋 이후에 버전을 올려, 커밋 전 데이터로 새 버전의 페이지가 만들어지지 않도록 함
+     */
+    public void evictFamily(long familyId) {
+        TransactionUtils.afterCommit(() -> increaseVersion(familyId));
+    }
+
+    public <T> Optional<T> getPage(String pageType, long familyId, long version, String pageKey, TypeReference<T> type) {
+        String page = redisTemplate.opsForValue().get(pageKey(pageType, familyId, version, pageKey));
+        if(page == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(page, type));
+        } catch (JsonProcessingException e) {
+            log.warn("[PostFeedCacheDao] 캐시된 페이지를 읽을 수 없습니다. familyId: {}, page: {}", familyId, pageKey);
+            return Optional.empty();
+        }
+    }
+
+    public void putPage(String pageType, long familyId, long version, String pageKey, Object page) {
+        try {
+            redisTemplate.opsForValue().set(pageKey(pageType, familyId, version, pageKey),
+                    objectMapper.writeValueAsString(page), ttlSeconds, TimeUnit.SECONDS);
+        } catch (JsonProcessingException e) {
+            log.warn("[PostFeedCacheDao] 페이지를 캐시할 수 없습니다. familyId: {}, page: {}", familyId, pageKey);
+        }
+    }
+
+    private void increaseVersion(long familyId) {
+        redisTemplate.opsForValue().increment(VERSION_PREFIX + familyId + "):");
+    }
+
+    private String pageKey(String pageType, long familyId, long version, String pageKey) {
+        return PAGE_PREFIX + familyId + "):" + version + ":" + pageType + ":" + pageKey;
+    }
+}
@@ -0,0 +1,27 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.entity.PostOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostOutboxRepository extends JpaRepository<PostOutbox, Long> {
+
+    // 가장 오래된 outbox 부터 잠금 조회: 여러 서버의 relay 가 같은 순서로 가져가므로 게시물별 변경 순서가 유지됨
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM PostOutbox o ORDER BY o.outboxId ASC")
+    List<PostOutbox> findOldestForUpdate(Pageable pageable);
+
+    // 아직 반영되지 않은 게시물 변경 (outbox 순서)
+    @Query("SELECT o FROM PostOutbox o WHERE o.targetId IN :postIds AND o.eventType IN :eventTypes ORDER BY o.outboxId ASC")
+    List<PostOutbox> findPending(@Param("postIds") Collection<Long> postIds,
+                                 @Param("eventTypes") Collection<PostOutbox.EventType> eventTypes);
+}
@@ -0,0 +1,38 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.post.entity.PostOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PostOutboxScheduler {
+    private final PostOutboxService postOutboxService;
+
+    @Value("${post.outbox.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * post document outbox 반영
+     * 쌓인 outbox 가 batch 크기보다 적어질 때까지 batch 단위로 가져가(claimBatch) 반영(relay)
+     * 가져가는 트랜잭션과 Mongo 반영을 나누어 반영하는 동안 outbox 행 잠금을 잡지 않음
+     */
+    @Scheduled(fixedDelayString = "${post.outbox.relay-delay-ms:500}")
+    public void relayPostOutbox() {
+        try {
+            List<PostOutbox> outboxes;
+            do {
+                outboxes = postOutboxService.claimBatch(batchSize);
+                postOutboxService.relay(outboxes);
+            } while(outboxes.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.error("[relayPostOutbox] post document 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.spring.familymoments.domain.post;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.domain.post.document.PostDocument;
+import com.spring.familymoments.domain.post.entity.PostOutbox;
+import com.spring.familymoments.domain.post.entity.PostOutbox.EventType;
+import com.spring.familymoments.domain.post.model.PostOutboxPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.spring.familymoments.config.BaseResponseStatus.SERVER_ERROR;
+
+/**
+ * post document 변경 outbox
+ * 요청 트랜잭션에서는 outbox 행만 저장하고(MySQL 커밋만 기다림), relay 가 batch 단위로 Mongo 에 bulk 반영
+ * outbox 의 변경은 모두 멱등(upsert, $set, 삭제)이므로 반영 후 outbox 삭제 전에 장애가 나도 다시 반영해도 안전함
+ * relay 는 짧은 트랜잭션에서 batch 를 가져가고(claimBatch), 행 잠금 없이 Mongo 에 반영한 뒤 삭제(relay)
+ * 가져간 batch 는 claim-lease-ms 동안 다른 relay 가 가져가지 않으며, 반영하지 못하고 기한이 지나면 다시 반영됨
+ * outboxId 순서는 커밋 순서와 다를 수 있으므로, 본문 변경(UPSERT, UPDATE_CONTENT, DELETE)은
+ * post document 의 version 이 더 작을 때만 반영해 이전 변경이 새 변경을 덮어쓰지 않도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostOutboxService {
+    private final PostOutboxRepository postOutboxRepository;
+    private final PostDocumentRepository postDocumentRepository;
+    private final MongoTemplate mongoTemplate;
+    private final PostFeedCacheDao postFeedCacheDao;
+    private final ObjectMapper objectMapper;
+
+    @Value("${post.bulk-chunk-size:500}")
+    private int chunkSize;
+    // 가족, 작성자 단위 변경의 chunk 반영까지 마칠 수 있도록 넉넉하게 설정
+    @Value("${post.outbox.claim-lease-ms:60000}")
+    private long claimLeaseMs;
+
+    private static final String ENTITY_ID = "entityId";
+    private static final String VERSION = "version";
+    private static final String VARIANTS = "variants";
+    private static final Set<EventType> CONTENT_EVENT_TYPES = EnumSet.of(EventType.UPSERT, EventType.UPDATE_CONTENT);
+    private static final Set<EventType> SCOPED_EVENT_TYPES = EnumSet.of(
+            EventType.UPDATE_FAMILY_STATUS, EventType.UPDATE_WRITER_STATUS, EventType.DELETE_FAMILY, EventType.DELETE_WRITER);
+
+    /**
+     * enqueue
+     * 현재 트랜잭션에 outbox 행을 추가 (트랜잭션이 롤백되면 함께 사라짐)
+     * @param familyId 반영 후 피드 캐시를 무효화할 가족, 없으면 null
+     */
+    public void enqueue(EventType eventType, long targetId, Long familyId, PostOutboxPayload payload) {
+        String json;
+        try {
+            json = payload == null ? null : objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("[PostOutboxService] outbox 를 저장할 수 없습니다. eventType: {}, targetId: {}", eventType, targetId, e);
+            throw new BaseException(SERVER_ERROR);
+        }
+
+        postOutboxRepository.save(PostOutbox.builder()
+                .eventType(eventType)
+                .targetId(targetId)
+                .familyId(familyId)
+                .payload(json)
+                .build());
+    }
+
+    /**
+     * findPendingContents
+     * 아직 Mongo 에 반영되지 않은 게시물 본문 변경 (UPSERT, UPDATE_CONTENT) 조회
+     * @return postId -> outbox 순서의 변경 목록
+     */
+    public Map<Long, List<PostOutbox>> findPendingContents(Collection<Long> postIds) {
+        if(postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return postOutboxRepository.findPending(postIds, CONTENT_EVENT_TYPES).stream()
+                .collect(Collectors.groupingBy(PostOutbox::getTargetId));
+    }
+
+    /**
+     * claimBatch
+     * 가장 오래된 outbox 를 batchSize 개까지 잠근 뒤 claimedUntil 을 기록하고 바로 커밋 (행 잠금은 이 트랜잭션 동안만 유지)
+     * 가장 오래된 outbox 를 다른 relay 가 반영 중이면 게시물별 변경 순서를 지키기 위해 가져가지 않음
+     * @return 가져간 outbox (outbox 순서), 없으면 빈 목록
+     */
+    @Transactional
+    public List<PostOutbox> claimBatch(int batchSize) {
+        List<PostOutbox> outboxes = postOutboxRepository.findOldestForUpdate(PageRequest.of(0, batchSize));
+        LocalDateTime now = LocalDateTime.now();
+        if(outboxes.isEmpty() || outboxes.get(0).isClaimed(now)) {
+            return Collections.emptyList();
+        }
+
+        LocalDateTime claimedUntil = now.plus(Duration.ofMillis(claimLeaseMs));
+        outboxes.forEach(outbox -> outbox.claim(claimedUntil));
+        return outboxes;
+    }
+
+    /**
+     * relay
+     * claimBatch 로 가져간 outbox 를 트랜잭션 밖에서 순서대로 Mongo 에 bulk 반영하고 삭제
+     * Mongo 반영이 실패하면 outbox 가 남아 claimedUntil 이후 다시 반영됨 (이미 반영된 변경은 version 조건, 멱등 연산으로 안전)
+     */
+    public void relay(List<PostOutbox> outboxes) {
+        if(outboxes.isEmpty()) {
+            return;
+        }
+
+        // 같은 게시물의 변경 순서를 지키기 위해 ORDERED 로 실행
+        // 가족, 작성자 단위 변경은 앞선 변경을 먼저 반영한 뒤 chunk 단위로 따로 반영
+        BulkOperations bulkOps = null;
+        Set<Long> familyIds = new HashSet<>();
+        for(PostOutbox outbox : outboxes) {
+            PostOutboxPayload payload = readPayload(outbox);
+            if(SCOPED_EVENT_TYPES.contains(outbox.getEventType())) {
+                if(bulkOps != null) {
+                    bulkOps.execute();
+                    bulkOps = null;
+                }
+                applyScoped(outbox, payload);
+            } else {
+                if(bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, PostDocument.class);
+                }
+                addOperation(bulkOps, outbox, payload);
+            }
+
+            if(outbox.getFamilyId() != null) {
+                familyIds.add(outbox.getFamilyId());
+            }
+            if(payload.getFamilyIds() != null) {
+                familyIds.addAll(payload.getFamilyIds());
+            }
+        }
+        if(bulkOps != null) {
+            bulkOps.execute();
+        }
+
+        postOutboxRepository.deleteAllByIdInBatch(outboxes.stream()
+                .map(PostOutbox::getOutboxId)
+                .collect(Collectors.toList()));
+        // 요청 커밋 직후 Mongo 반영 전의 내용으로 캐시된 페이지가 남지 않도록 반영 후 다시 무효화
+        familyIds.forEach(postFeedCacheDao::evictFamily);
+    }
+
+    private void addOperation(BulkOperations bulkOps, PostOutbox outbox, PostOutboxPayload payload) {
+        Query byEntityId = Query.query(Criteria.where(ENTITY_ID).is(outbox.getTargetId()));
+        switch(outbox.getEventType()) {
+            case UPSERT:
+                // 본문은 문서가 없을 때만 저장 (다시 반영하는 경우 이후 수정 내용을 유지)
+                bulkOps.upsert(byEntityId, new Update()
+                        .setOnInsert("content", payload.getContent())
+                        .setOnInsert("urls", payload.getUrls())
+                        .setOnInsert(VERSION, payload.getVersion())
+                        .set("familyId", outbox.getFamilyId())
+                        .set("createdAt", payload.getCreatedAt())
+                        .set("status", payload.getStatus())
+                        .set("writerId", payload.getWriterId())
+                        .set("writerNickname", payload.getWriterNickname())
+                        .set("writerProfileImg", payload.getWriterProfileImg())
+                        .setOnInsert("countLove", 0L)
+                        .setOnInsert("countComment", 0L));
+                break;
+            case UPDATE_CONTENT:
+                // 바뀐 필드만 $set
+                Update update = new Update();
+                if(payload.getContent() != null) {
+                    update.set("content", payload.getContent());
+                }
+                if(payload.getUrls() != null) {
+                    update.set("urls", payload.getUrls());
+                }
+                update.set(VARIANTS, payload.getVariants());
+                update.set(VERSION, payload.getVersion());
+                bulkOps.updateOne(olderThan(outbox.getTargetId(), payload.getVersion(), false), update);
+                break;
+            case UPDATE_VARIANTS:
+                // 생성을 시작한 버전의 문서에만 반영 (그 사이 수정되었으면 무시)
+                bulkOps.updateOne(Query.query(Criteria.where(ENTITY_ID).is(outbox.getTargetId())
+                                .orOperator(Criteria.where(VERSION).is(null), Criteria.where(VERSION).is(payload.getVersion()))),
+                        Update.update(VARIANTS, payload.getVariants()));
+                break;
+            case DELETE:
+                bulkOps.remove(olderThan(outbox.getTargetId(), payload.getVersion(), true));
+                break;
+            case UPDATE_STATUS:
+                bulkOps.updateOne(byEntityId, Update.update("status", payload.getStatus()));
+                break;
+            case UPDATE_COUNT_COMMENT:
+                bulkOps.updateOne(byEntityId, Update.update("countComment", payload.getCountComment()));
+                break;
+            case UPDATE_COUNT_LOVE:
+                bulkOps.updateOne(byEntityId, Update.update("countLove", payload.getCountLove()));
+                break;
+            case UPDATE_WRITER:
+                bulkOps.updateMulti(Query.query(Criteria.where("writerId").is(outbox.getTargetId())), new Update()
+                        .set("writerNickname", payload.getWriterNickname())
+                        .set("writerProfileImg", payload.getWriterProfileImg()));
+                break;
+        }
+    }
+
+    /**
+     * olderThan
+     * version 이 없는 이전 outbox 는 조건 없이 반영하고, version 이 없는 이전 문서는 가장 오래된 버전으로 취급
+     * @param inclusive 같은 version 도 포함 (삭제)
+     */
+    private static Query olderThan(long entityId, Integer version, boolean inclusive) {
+        Criteria byEntityId = Criteria.where(ENTITY_ID).is(entityId);
+        if(version == null) {
+            return Query.query(byEntityId);
+        }
+        Criteria older = inclusive ? Criteria.where(VERSION).lte(version) : Criteria.where(VERSION).lt(version);
+        return Query.query(byEntityId.orOperator(Criteria.where(VERSION).is(null), older));
+    }
+
+    /**
+     * applyScoped
+     * 가족, 작성자의 모든 post document 를 entityId 순서로 chunkSize 개씩 나누어 상태 변경 또는 삭제
+     * 한 번의 쓰기가 잠그고 복제하는 문서 수를 chunk 크기 이하로 제한
+     */
+    private void applyScoped(PostOutbox outbox, PostOutboxPayload payload) {
+        EventType eventType = outbox.getEventType();
+        boolean byFamily = eventType == EventType.UPDATE_FAMILY_STATUS || eventType == EventType.DELETE_FAMILY;
+        boolean delete = eventType == EventType.DELETE_FAMILY || eventType == EventType.DELETE_WRITER;
+        Pageable pageable = PageRequest.of(0, chunkSize);
+
+        // 가족이 지정된 작성자 상태 변경은 그 가족의 게시물만 (가족 탈퇴)
+        boolean byMember = eventType == EventType.UPDATE_WRITER_STATUS && outbox.getFamilyId() != null;
+
+        long lastEntityId = 0L;
+        while(true) {
+            List<Long> entityIds = (byFamily
+                    ? postDocumentRepository.findEntityIdsByFamilyIdAfter(outbox.getTargetId(), lastEntityId, pageable)
+                    : byMember
+                    ? postDocumentRepository.findEntityIdsByFamilyIdAndWriterIdAfter(outbox.getFamilyId(), outbox.getTargetId(), lastEntityId, pageable)
+                    : postDocumentRepository.findEntityIdsByWriterIdAfter(outbox.getTargetId(), lastEntityId, pageable))
+                    .stream()
+                    .map(PostDocument::getEntityId)
+                    .collect(Collectors.toList());
+            if(entityIds.isEmpty()) {
+                return;
+            }
+
+            Query byEntityIds = Query.query(Criteria.where(ENTITY_ID).in(entityIds));
+            if(delete) {
+                mongoTemplate.remove(byEntityIds, PostDocument.class);
+            } else {
+                mongoTemplate.updateMulti(byEntityIds, Update.update("status", payload.getStatus()), PostDocument.class);
+            }
+
+            if(entityIds.size() < chunkSize) {
+                return;
+            }
+            lastEntityId = entityIds.get(entityIds.size() - 1);
+        }
+    }
+
+    public PostOutboxPayload readPayload(PostOutbox outbox) {
+        if(outbox.getPayload() == null) {
+            return new PostOutboxPayload();
+        }
+        try {
+            return objectMapper.readValue(outbox.getPayload(), PostOutboxPayload.class);
+        } catch (JsonProcessingException e) {
+            log.error("[PostOutboxService] outbox 를 읽을 수 없습니다. outboxId: {}", outbox.getOutboxId(), e);
+            throw new BaseException(SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.spring.familymoments.domain.post;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * post document read model 백필
+ * post.read-model.enabled=true 로 전환하는 배포에서 --post.read-model.backfill-on-startup=true 로 한 번 실행
+ * (꺼져 있는 동안에는 read model 필드를 갱신하지 않으므로 전환 시 다시 채워야 함)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "post.read-model.backfill-on-startup", havingValue = "true")
+public class PostReadModelBackfillRunner implements ApplicationRunner {
+    private final PostReadModelService postReadModelService;
+
+    @Value("${post.read-model.backfill-batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastPostId = 0L;
+        while(lastPostId != PostReadModelService.BACKFILL_DONE) {
+            lastPostId = postReadModelService.backfill(lastPostId, batchSize);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.domain.awsS3.ImageVariant;
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.comment.model.PostCommentCount;
+import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.post.document.PostDocument;
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.entity.PostOutbox.EventType;
+import com.spring.familymoments.domain.post.model.FeedPage;
+import com.spring.familymoments.domain.post.model.PostCursor;
+import com.spring.familymoments.domain.post.model.PostLoveCount;
+import com.spring.familymoments.domain.post.model.PostOutboxPayload;
+import com.spring.familymoments.domain.post.model.SinglePostRes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * post document 의 피드 조회용 read model 관리
+ * post document 에 가족, 작성일, 상태, 작성자, 좋아요/댓글 수를 함께 저장해 두고,
+ * post.read-model.enabled 인 경우 피드 페이지를 Mongo 조회 한 번으로 생성
+ * read model 필드는 사용하는 경우에만 갱신하므로 (post.storage=mysql 이거나 꺼져 있으면 Mongo, outbox 에 쓰지 않음),
+ * 전환할 때는 post.read-model.enabled 와 post.read-model.backfill-on-startup 을 함께 켜서 배포
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostReadModelService {
+    private final MongoTemplate mongoTemplate;
+    private final PostDocumentRepository postDocumentRepository;
+    private final PostRepository postRepository;
+    private final CommentWithUserRepository commentWithUserRepository;
+    private final PostOutboxService postOutboxService;
+
+    @Value("${post.read-model.enabled:false}")
+    private boolean enabled;
+
+    @Value("${post.storage:mongo}")
+    private String storage;
+
+    private static final String ENTITY_ID = "entityId";
+    public static final long BACKFILL_DONE = -1L;
+
+    // 본문을 MySQL 에 저장하는 경우(post.storage=mysql) read model 을 사용하지 않음
+    public boolean isEnabled() {
+        return enabled && !"mysql".equalsIgnoreCase(storage);
+    }
+
+    /**
+     * getFeedPage
+     * (familyId, status, createdAt, entityId) 인덱스 범위 조회 한 번으로 피드 페이지 생성
+     * @param cursor null 이면 최신 페이지
+     * @return FeedPage
+     */
+    public FeedPage getFeedPage(long familyId, PostCursor cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        List<PostDocument> postDocuments = cursor == null
+                ? postDocumentRepository.findFeedByFamilyId(familyId, pageable)
+                : postDocumentRepository.findFeedByFamilyIdBeforeCursor(familyId, cursor.getCreatedAt(), cursor.getPostId(), pageable);
+
+        List<SinglePostRes> posts = new ArrayList<>();
+        Map<Long, Long> writerIds = new HashMap<>();
+        for(PostDocument postDocument : postDocuments) {
+            SinglePostRes singlePostRes = SinglePostRes.builder()
+                    .postId(postDocument.getEntityId())
+                    .writer(postDocument.getWriterNickname())
+                    .profileImg(postDocument.getWriterProfileImg())
+                    .content(postDocument.getContent())
+                    .imgs(postDocument.getUrls())
+                    .variantImgs(ImageVariant.urlsOf(ImageVariant.parse(postDocument.getVariants()), postDocument.getUrls()))
+                    .createdAt(postDocument.getCreatedAt())
+                    .countLove((int) postDocument.getCountLove())
+                    .cursor(PostCursor.of(postDocument.getCreatedAt(), postDocument.getEntityId()).encode())
+                    .build();
+
+            posts.add(singlePostRes);
+            writerIds.put(postDocument.getEntityId(), postDocument.getWriterId());
+        }
+
+        return new FeedPage(posts, writerIds);
+    }
+
+    /**
+     * updateFamilyStatus
+     * 가족의 모든 게시물 상태 변경을 outbox 에 기록 (relay 가 chunk 단위로 반영)
+     */
+    public void updateFamilyStatus(long familyId, BaseEntity.Status status) {
+        if(!isEnabled()) {
+            return;
+        }
+        PostOutboxPayload payload = PostOutboxPayload.builder()
+                .status(status)
+                .build();
+        postOutboxService.enqueue(EventType.UPDATE_FAMILY_STATUS, familyId, familyId, payload);
+    }
+
+    /**
+     * updateWriterStatus
+     * 작성자의 모든 게시물 상태 변경을 outbox 에 기록 (relay 가 chunk 단위로 반영)
+     * @param familyIds 반영 후 피드 캐시를 무효화할 가족
+     */
+    public void updateWriterStatus(long writerId, BaseEntity.Status status, Collection<Long> familyIds) {
+        if(!isEnabled()) {
+            return;
+        }
+        PostOutboxPayload payload = PostOutboxPayload.builder()
+                .status(status)
+                .familyIds(new ArrayList<>(familyIds))
+                .build();
+        postOutboxService.enqueue(EventType.UPDATE_WRITER_STATUS, writerId, null, payload);
+    }
+
+    /**
+     * updateMemberStatus
+     * 가족 안에서 작성자들의 게시물 상태 변경을 outbox 에 기록 (relay 가 chunk 단위로 반영)
+     */
+    public void updateMemberStatus(long familyId, Collection<Long> writerIds, BaseEntity.Status status) {
+        if(!isEnabled()) {
+            return;
+        }
+        PostOutboxPayload payload = PostOutboxPayload.builder()
+                .status(status)
+                .build();
+        for(Long writerId : writerIds) {
+            postOutboxService.enqueue(EventType.UPDATE_WRITER_STATUS, writerId, familyId, payload);
+        }
+    }
+
+    /**
+     * refreshCountLove
+     * MySQL 에 반영된 게시물별 좋아요 수를 outbox 에 기록 (변화량이 아닌 값이므로 relay 가 다시 반영해도 같은 결과)
+     * 좋아요 수를 반영한 트랜잭션에서 호출하며, 같은 게시물의 다음 반영은 행 잠금을 기다리므로 outbox 에 나중에 기록됨
+     */
+    public void refreshCountLove(Collection<Long> postIds) {
+        if(!isEnabled() || postIds.isEmpty()) {
+            return;
+        }
+        for(PostLoveCount postLoveCount : postRepository.findCountLovesByPostIds(postIds)) {
+            PostOutboxPayload payload = PostOutboxPayload.builder()
+                    .countLove((long) postLoveCount.getCountLove())
+                    .build();
+            postOutboxService.enqueue(EventType.UPDATE_COUNT_LOVE, postLoveCount.getPostId(), null, payload);
+        }
+    }
+
+    /**
+     * refreshCountComment
+     * MySQL 의 ACTIVE 댓글 수로 게시물별 댓글 수를 다시 계산해 outbox 에 기록
+     * (같은 트랜잭션에서 변경된 댓글도 쿼리 전 flush 되어 반영됨)
+     */
+    public void refreshCountComment(Collection<Long> postIds) {
+        if(!isEnabled() || postIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> counts = commentWithUserRepository.countActiveCommentsByPostIds(postIds).stream()
+                .collect(Collectors.toMap(PostCommentCount::getPostId, PostCommentCount::getCount));
+
+        for(Long postId : new HashSet<>(postIds)) {
+            PostOutboxPayload payload = PostOutboxPayload.builder()
+                    .countComment(counts.getOrDefault(postId, 0L))
+                    .build();
+            postOutboxService.enqueue(EventType.UPDATE_COUNT_COMMENT, postId, null, payload);
+        }
+    }
+
+    /**
+     * updateVariants
+     * 생성을 시작한 버전 그대로인 게시물에만 variant 를 기록하고, read model 을 사용하면 같은 트랜잭션에서 post document 반영을 outbox 에 기록
+     * @return 그 사이 게시물이 수정되거나 삭제되어 기록하지 않았으면 false
+     */
+    @Transactional
+    public boolean updateVariants(long postId, long familyId, int contentVersion, Set<ImageVariant> variants) {
+        String joined = variants.isEmpty() ? null : ImageVariant.join(variants);
+        if(postRepository.updateVariants(postId, contentVersion, joined) == 0) {
+            return false;
+        }
+        if(!isEnabled()) {
+            return true;
+        }
+        PostOutboxPayload payload = PostOutboxPayload.builder()
+                .variants(joined)
+                .version(contentVersion)
+                .build();
+        postOutboxService.enqueue(EventType.UPDATE_VARIANTS, postId, familyId, payload);
+        return true;
+    }
+
+    public void updateWriterProfile(long writerId, String nickname, String profileImg) {
+        if(!isEnabled()) {
+            return;
+        }
+        PostOutboxPayload payload = PostOutboxPayload.builder()
+                .writerNickname(nickname)
+                .writerProfileImg(profileImg)
+                .build();
+        postOutboxService.enqueue(EventType.UPDATE_WRITER, writerId, null, payload);
+    }
+
+    /**
+     * backfill
+     * lastPostId 이후 batchSize 개의 post 의 read model 필드를 MySQL 기준으로 채움
+     * @return 다음 batch 의 기준 postId, 더 이상 채울 post 가 없으면 BACKFILL_DONE
+     */
+    @Transactional(readOnly = true)
+    public long backfill(long lastPostId, int batchSize) {
+        List<Post> posts = postRepository.findWithWriterAfter(lastPostId, PageRequest.of(0, batchSize));
+        if(posts.isEmpty()) {
+            return BACKFILL_DONE;
+        }
+
+        List<Long> postIds = posts.stream()
+                .map(Post::getPostId)
+                .collect(Collectors.toList());
+        Map<Long, Long> countComments = commentWithUserRepository.countActiveCommentsByPostIds(postIds).stream()
+                .collect(Collectors.toMap(PostCommentCount::getPostId, PostCommentCount::getCount));
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostDocument.class);
+        for(Post post : posts) {
+            bulkOps.updateOne(Query.query(Criteria.where(ENTITY_ID).is(post.getPostId())), new Update()
+                    .set("familyId", post.getFamilyId().getFamilyId())
+                    .set("createdAt", post.getCreatedAt())
+                    .set("status", post.getStatus())
+                    .set("writerId", post.getWriter().getUserId())
+                    .set("writerNickname", post.getWriter().getNickname())
+                    .set("writerProfileImg", post.getWriter().getProfileImg())
+                    .set("variants", post.getVariants())
+                    .set("countLove", (long) post.getCountLove())
+                    .set("countComment", countComments.getOrDefault(post.getPostId(), 0L)));
+        }
+        bulkOps.execute();
+        log.info("[backfill] read model 백필: postId {} ~ {}", postIds.get(0), postIds.get(postIds.size() - 1));
+
+        return posts.size() < batchSize ? BACKFILL_DONE : postIds.get(postIds.size() - 1);
+    }
+}
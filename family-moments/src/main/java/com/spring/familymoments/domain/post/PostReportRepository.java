@@ -3,9 +3,17 @@ package com.spring.familymoments.domain.post;
 import com.spring.familymoments.domain.post.entity.Post;
 import com.spring.familymoments.domain.post.entity.PostReport;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     List<PostReport> findPostReportByPost(Post post);
+
+    // [회원 탈퇴] 유저의 신고 내역 limit 개씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM PostReport WHERE userId = :userId LIMIT :limit", nativeQuery = true)
+    int deleteByUserId(@Param("userId") long userId, @Param("limit") int limit);
 }
@@ -2,64 +2,192 @@ package com.spring.familymoments.domain.post;
 
 import com.spring.familymoments.domain.common.BaseEntity;
 import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.model.AlbumMonthRes;
+import com.spring.familymoments.domain.post.model.AlbumRes;
+import com.spring.familymoments.domain.post.model.PostDayCount;
+import com.spring.familymoments.domain.post.model.PostLoveCount;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+    // [Post] 수정, 삭제: 같은 게시물의 변경을 커밋 순서대로 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Post p WHERE p.postId = :postId")
+    Optional<Post> findByIdForUpdate(@Param("postId") long postId);
+
+    // [Post] postId 기반 페이징의 기준 post: 다른 가족의 post 로 cursor 를 만들지 않도록 가족 범위에서 조회
+    @Query("SELECT p FROM Post p WHERE p.postId = :postId AND p.familyId.familyId = :familyId")
+    Optional<Post> findByPostIdAndFamilyId(@Param("postId") long postId, @Param("familyId") long familyId);
+
     @Query("SELECT p FROM Post p WHERE p.familyId.familyId = :familyId " +
             "AND p.status = 'ACTIVE' " +
-            "ORDER BY p.createdAt DESC")
+            "ORDER BY p.createdAt DESC, p.postId DESC")
     List<Post> findByFamilyIdOrderByCreatedAtDesc(@Param("familyId") long familyId, Pageable pageable);
 
-    // [Post] Paging by postId
-    @Query("SELECT p FROM Post p WHERE p.familyId.familyId = :familyId " +
+    // [Post] 작성자 fetch join
+    @Query("SELECT p FROM Post p JOIN FETCH p.writer WHERE p.familyId.familyId = :familyId " +
             "AND p.status = 'ACTIVE' " +
-            "AND p.postId < :postId " +
-            "ORDER BY p.createdAt DESC")
-    List<Post> findByFamilyIdAfterPostId(@Param("familyId") long familyId, @Param("postId") long postId, Pageable pageable);
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findWithWriterByFamilyIdOrderByCreatedAtDesc(@Param("familyId") long familyId, Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE p.familyId.familyId = :familyId " +
+    // [Post] Paging by cursor (createdAt, postId)
+    @Query("SELECT p FROM Post p JOIN FETCH p.writer WHERE p.familyId.familyId = :familyId " +
             "AND p.status = 'ACTIVE' " +
-            "AND FUNCTION('DATE', p.createdAt) = FUNCTION('DATE', :date) " +
-            "ORDER BY p.createdAt DESC")
-    List<Post> findByFamilyIdAndCreatedAtDesc(@Param("familyId") long familyId, @Param("date") LocalDateTime date, Pageable pageable);
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findByFamilyIdBeforeCursor(@Param("familyId") long familyId, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("postId") long postId, Pageable pageable);
 
-    // [Post] Paging by date and postId
-    @Query("SELECT p FROM Post p WHERE p.familyId.familyId = :familyId " +
+    // [Post] 특정 일자 조회: createdAt 범위 조건 [startOfDay, endOfDay)
+    @Query("SELECT p FROM Post p JOIN FETCH p.writer WHERE p.familyId.familyId = :familyId " +
+            "AND p.status = 'ACTIVE' " +
+            "AND p.createdAt >= :startOfDay AND p.createdAt < :endOfDay " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findByFamilyIdAndDate(@Param("familyId") long familyId, @Param("startOfDay") LocalDateTime startOfDay,
+                                     @Param("endOfDay") LocalDateTime endOfDay, Pageable pageable);
+
+    // [Post] Paging by date and cursor (createdAt, postId)
+    @Query("SELECT p FROM Post p JOIN FETCH p.writer WHERE p.familyId.familyId = :familyId " +
             "AND p.status = 'ACTIVE' " +
-            "AND FUNCTION('DATE', p.createdAt) = FUNCTION('DATE', :date) " +
-            "AND p.postId < :postId " +
-            "ORDER BY p.createdAt DESC")
-    List<Post> findByFamilyIdWithDateAfterPostId(@Param("familyId") long familyId, @Param("date") LocalDateTime date, @Param("postId") long postId, Pageable pageable);
+            "AND p.createdAt >= :startOfDay AND p.createdAt < :endOfDay " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<Post> findByFamilyIdAndDateBeforeCursor(@Param("familyId") long familyId, @Param("startOfDay") LocalDateTime startOfDay,
+                                                 @Param("endOfDay") LocalDateTime endOfDay, @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("postId") long postId, Pageable pageable);
+
+    // [Love] write-behind 카운터의 변화량 반영 (음수가 되지 않도록 0 으로 제한)
+    @Modifying
+    @Query(value = "UPDATE Post SET countLove = GREATEST(CAST(countLove AS SIGNED) + :delta, 0) " +
+            "WHERE postId IN :postIds", nativeQuery = true)
+    int addCountLove(@Param("delta") long delta, @Param("postIds") Collection<Long> postIds);
+
+    // [Read model] 반영된 좋아요 수 조회
+    @Query("SELECT new com.spring.familymoments.domain.post.model.PostLoveCount(p.postId, p.countLove) " +
+            "FROM Post p WHERE p.postId IN :postIds")
+    List<PostLoveCount> findCountLovesByPostIds(@Param("postIds") Collection<Long> postIds);
 
+    // [Image variant] 생성된 이미지 variant 기록 (생성을 시작한 뒤 게시물이 수정되지 않은 경우만)
+    @Modifying
+    @Query("UPDATE Post p SET p.variants = :variants WHERE p.postId = :postId AND p.contentVersion = :contentVersion")
+    int updateVariants(@Param("postId") long postId, @Param("contentVersion") int contentVersion,
+                       @Param("variants") String variants);
+
+    // [Benchmark] 최근 ACTIVE post id 조회
+    @Query("SELECT p.postId FROM Post p WHERE p.status = 'ACTIVE' ORDER BY p.postId DESC")
+    List<Long> findRecentPostIds(Pageable pageable);
+
+    // [Read model] 백필: postId 순서로 작성자와 함께 batch 조회
+    @Query("SELECT p FROM Post p JOIN FETCH p.writer WHERE p.postId > :lastPostId ORDER BY p.postId ASC")
+    List<Post> findWithWriterAfter(@Param("lastPostId") long lastPostId, Pageable pageable);
+
+    // [Reconcile] postId 순서로 batch 크기만큼 postId 조회
+    @Query("SELECT p.postId FROM Post p WHERE p.postId > :lastPostId ORDER BY p.postId ASC")
+    List<Long> findPostIdsAfter(@Param("lastPostId") long lastPostId, Pageable pageable);
+
+    // [이미지 정리] postId 순서로 batch 크기만큼 ACTIVE postId 조회
+    @Query("SELECT p.postId FROM Post p WHERE p.status = 'ACTIVE' AND p.postId > :lastPostId ORDER BY p.postId ASC")
+    List<Long> findActivePostIdsAfter(@Param("lastPostId") long lastPostId, Pageable pageable);
+
+    // [Reconcile] countLove 가 실제 좋아요 수와 다른 postId 조회 (반영되지 않은 변화량이 있는 post 제외)
+    @Query(value = "SELECT p.postId FROM Post p WHERE p.postId IN :postIds " +
+            "AND p.countLove <> (SELECT COUNT(*) FROM PostLove pl WHERE pl.postId = p.postId AND pl.status = 'ACTIVE') " +
+            "AND NOT EXISTS (SELECT 1 FROM LoveCountDelta d WHERE d.target = 'POST' AND d.targetId = p.postId)", nativeQuery = true)
+    List<Long> findDriftedCountLovePostIds(@Param("postIds") Collection<Long> postIds);
+
+    // [Reconcile] countLove 를 실제 좋아요 수로 갱신
+    // 조회 이후 변화량이 생긴 post 는 같은 문장 안에서 다시 제외 (변화량은 좋아요와 같은 트랜잭션에서 저장되므로 함께 보임)
     @Modifying
-    @Transactional
     @Query(value = "UPDATE Post p " +
-            "SET p.countLove = (SELECT COUNT(*) FROM PostLove pl WHERE pl.postId = :postId AND pl.status = 'ACTIVE') " +
-            "WHERE p.postId = :postId", nativeQuery = true)
-    void updateCountLove(@Param("postId") long postId);
+            "SET p.countLove = (SELECT COUNT(*) FROM PostLove pl WHERE pl.postId = p.postId AND pl.status = 'ACTIVE') " +
+            "WHERE p.postId IN :postIds " +
+            "AND NOT EXISTS (SELECT 1 FROM LoveCountDelta d WHERE d.target = 'POST' AND d.targetId = p.postId)", nativeQuery = true)
+    int repairCountLove(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT DISTINCT p.familyId.familyId FROM Post p WHERE p.postId IN :postIds")
+    List<Long> findFamilyIdsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // [캘린더] 백필이 끝나기 전에는 Post 에서 직접 집계
+    @Query("SELECT new com.spring.familymoments.domain.post.model.PostDayCount(" +
+            "p.familyId.familyId, YEAR(p.createdAt), MONTH(p.createdAt), DAY(p.createdAt), COUNT(p)) " +
+            "FROM Post p WHERE p.familyId.familyId = :familyId AND p.status = 'ACTIVE' " +
+            "AND p.createdAt >= :start AND p.createdAt < :end " +
+            "GROUP BY p.familyId.familyId, YEAR(p.createdAt), MONTH(p.createdAt), DAY(p.createdAt) " +
+            "ORDER BY YEAR(p.createdAt) ASC, MONTH(p.createdAt) ASC, DAY(p.createdAt) ASC")
+    List<PostDayCount> countActiveByDayAndFamilyIdBetween(@Param("familyId") long familyId, @Param("start") LocalDateTime start,
+                                                          @Param("end") LocalDateTime end);
+
+    @Query("SELECT new com.spring.familymoments.domain.post.model.AlbumMonthRes(YEAR(p.createdAt), MONTH(p.createdAt), COUNT(p)) " +
+            "FROM Post p WHERE p.familyId.familyId = :familyId AND p.status = 'ACTIVE' " +
+            "GROUP BY YEAR(p.createdAt), MONTH(p.createdAt) " +
+            "ORDER BY YEAR(p.createdAt) DESC, MONTH(p.createdAt) DESC")
+    List<AlbumMonthRes> countActiveByMonthAndFamilyId(@Param("familyId") long familyId);
+
+    // [캘린더] 일괄 삭제, 비활성화 전 일자별 ACTIVE 게시물 수 조회
+    @Query("SELECT new com.spring.familymoments.domain.post.model.PostDayCount(" +
+            "p.familyId.familyId, YEAR(p.createdAt), MONTH(p.createdAt), DAY(p.createdAt), COUNT(p)) " +
+            "FROM Post p WHERE p.postId IN :postIds AND p.status = 'ACTIVE' " +
+            "GROUP BY p.familyId.familyId, YEAR(p.createdAt), MONTH(p.createdAt), DAY(p.createdAt)")
+    List<PostDayCount> countActiveByDayAndPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT new com.spring.familymoments.domain.post.model.PostDayCount(" +
+            "p.familyId.familyId, YEAR(p.createdAt), MONTH(p.createdAt), DAY(p.createdAt), COUNT(p)) " +
+            "FROM Post p WHERE p.familyId.familyId = :familyId AND p.writer.userId IN :userIds AND p.status = 'ACTIVE' " +
+            "GROUP BY p.familyId.familyId, YEAR(p.createdAt), MONTH(p.createdAt), DAY(p.createdAt)")
+    List<PostDayCount> countActiveByDayAndFamilyIdAndWriterIdIn(@Param("familyId") long familyId,
+                                                                 @Param("userIds") Collection<Long> userIds);
 
     Post findByPostIdAndStatus(long postId, BaseEntity.Status status);
 
-    @Query("SELECT distinct p.createdAt " +
-            "FROM Post p " +
-            "WHERE p.familyId.familyId = :familyId AND p.status = :status " +
-            "AND p.createdAt BETWEEN :startDate AND :endDate " +
-            "ORDER BY p.createdAt ASC ")
-    List<LocalDateTime> getDateExistPost(@Param("familyId") long familyId, @Param("status") BaseEntity.Status status, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    // [Album] 앨범 인덱스 조회: (postId, coverImg, createdAt, variants) 만 읽음
+    @Query("SELECT new com.spring.familymoments.domain.post.model.AlbumRes(p.postId, p.coverImg, p.createdAt, p.variants) " +
+            "FROM Post p WHERE p.familyId.familyId = :familyId " +
+            "AND p.status = 'ACTIVE' " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<AlbumRes> findAlbumByFamilyId(@Param("familyId") long familyId, Pageable pageable);
 
-    // [Album] Paging by postId
-    @Query("SELECT p FROM Post p WHERE p.familyId.familyId = :familyId " +
+    // [Album] Paging by cursor (createdAt, postId)
+    @Query("SELECT new com.spring.familymoments.domain.post.model.AlbumRes(p.postId, p.coverImg, p.createdAt, p.variants) " +
+            "FROM Post p WHERE p.familyId.familyId = :familyId " +
             "AND p.status = 'ACTIVE' " +
-            "AND p.postId < :postId " +
-            "ORDER BY p.createdAt DESC")
-    List<Post> findByFamilyIdAndBeforePostId(@Param("familyId") long familyId, @Param("postId") long postId, Pageable pageable);
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.postId < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.postId DESC")
+    List<AlbumRes> findAlbumByFamilyIdBeforeCursor(@Param("familyId") long familyId, @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("postId") long postId, Pageable pageable);
 
+    // [가족 삭제] postId 순서로 chunk 크기만큼 가족의 ACTIVE postId 조회
+    @Query("SELECT p.postId FROM Post p WHERE p.familyId.familyId = :familyId AND p.status = 'ACTIVE' " +
+            "AND p.postId > :lastPostId ORDER BY p.postId ASC")
+    List<Long> findActivePostIdsByFamilyIdAfter(@Param("familyId") long familyId, @Param("lastPostId") long lastPostId,
+                                                Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE Post SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE postId IN :postIds AND status = 'ACTIVE'", nativeQuery = true)
+    int inactivateByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // [가족 탈퇴] 가족 안에서 탈퇴하는 멤버들의 게시물 일괄 비활성화
+    @Modifying
+    @Query(value = "UPDATE Post SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE familyId = :familyId AND `user` IN :userIds AND status = 'ACTIVE'", nativeQuery = true)
+    int inactivateByFamilyIdAndWriterIdIn(@Param("familyId") long familyId, @Param("userIds") Collection<Long> userIds);
+
+    // [회원 탈퇴] postId 순서로 chunk 크기만큼 작성자의 postId 조회 (상태 무관)
+    @Query("SELECT p.postId FROM Post p WHERE p.writer.userId = :writerId ORDER BY p.postId ASC")
+    List<Long> findPostIdsByWriterId(@Param("writerId") long writerId, Pageable pageable);
+
+    // [회원 탈퇴] 게시물 일괄 삭제 (댓글, 좋아요, 신고는 FK 로 함께 삭제)
+    @Modifying
+    @Query(value = "DELETE FROM Post WHERE postId IN :postIds", nativeQuery = true)
+    int deleteByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -1,12 +1,17 @@
 package com.spring.familymoments.domain.post;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.config.BaseResponse;
 import com.spring.familymoments.domain.awsS3.AwsS3Service;
+import com.spring.familymoments.domain.awsS3.ImageBlobService;
+import com.spring.familymoments.domain.awsS3.ImageVariant;
+import com.spring.familymoments.domain.awsS3.ImageVariantService;
+import com.spring.familymoments.domain.awsS3.model.DirectUploadFileReq;
+import com.spring.familymoments.domain.awsS3.model.DirectUploadRes;
 import com.spring.familymoments.domain.common.BaseEntity;
 import com.spring.familymoments.domain.family.FamilyRepository;
 import com.spring.familymoments.domain.family.entity.Family;
-import com.spring.familymoments.domain.post.document.PostDocument;
 import com.spring.familymoments.domain.post.entity.Post;
 import com.spring.familymoments.domain.post.entity.PostReport;
 import com.spring.familymoments.domain.post.entity.ReportReason;
@@ -23,8 +28,13 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.*;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,15 +46,26 @@ import static com.spring.familymoments.config.BaseResponseStatus.*;
 public class PostService {
     private final PostRepository postRepository;
     private final PostReportRepository postReportRepository;
-    private final PostDocumentRepository postDocumentRepository;
+    private final PostContentStore postContentStore;
     private final PostLoveService postLoveService;
+    private final PostCalendarService postCalendarService;
+    private final PostFeedCacheDao postFeedCacheDao;
+    private final PostReadModelService postReadModelService;
     private final FamilyRepository familyRepository;
     private final AwsS3Service awsS3Service;
+    private final ImageVariantService imageVariantService;
+    private final ImageBlobService imageBlobService;
 
     private static final int MAX_IMAGE_SIZE = 4;
     private static final int POST_PAGES = 10;
     private static final int ALBUM_PAGES = 30;
 
+    private static final String FEED_PAGE = "feed";
+    private static final String ALBUM_PAGE = "album";
+    private static final String FIRST_PAGE_KEY = "first";
+    private static final TypeReference<FeedPage> FEED_PAGE_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<AlbumRes>> ALBUM_PAGE_TYPE = new TypeReference<>() {};
+
     @Transactional
     public SinglePostRes createPost(User user, PostReq postReq) {
         // familyID 유효성 검사
@@ -61,33 +82,84 @@ public class PostService {
         // image 업로드
         List<String> urls = awsS3Service.uploadImages(postReq.getImgs());
 
+        return savePost(user, family, postReq.getContent(), urls);
+    }
+
+    /**
+     * issueDirectUploads
+     * 게시물 이미지를 저장소에 직접 업로드할 url 발급
+     * @return List<DirectUploadRes>
+     */
+    @Transactional(readOnly = true)
+    public List<DirectUploadRes> issueDirectUploads(User user, long familyId, List<DirectUploadFileReq> files) {
+        Family family = familyRepository.findById(familyId)
+                .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
+
+        if(!familyRepository.isFamilyMember(family, user))
+            throw new BaseException(minnie_FAMILY_INVALID_USER);
+
+        if(files.size() > MAX_IMAGE_SIZE) {
+            throw new BaseException(minnie_POSTS_FULL_IMAGE);
+        }
+        return awsS3Service.issueDirectUploads(user.getUserId(), files);
+    }
+
+    /**
+     * createPostWithUploads
+     * 직접 업로드한 이미지 key 로 게시물 생성 (업로드 여부, 크기는 저장소에서 확인)
+     * @return SinglePostRes
+     */
+    @Transactional
+    public SinglePostRes createPostWithUploads(User user, long familyId, DirectPostReq directPostReq) {
+        Family family = familyRepository.findById(familyId)
+                .orElseThrow(() -> new BaseException(FIND_FAIL_FAMILY));
+
+        if(!familyRepository.isFamilyMember(family, user))
+            throw new BaseException(minnie_FAMILY_INVALID_USER);
+
+        List<String> keys = directPostReq.getKeys().stream()
+                .distinct()
+                .collect(Collectors.toList());
+        if(keys.size() > MAX_IMAGE_SIZE) {
+            throw new BaseException(minnie_POSTS_FULL_IMAGE);
+        }
+        List<String> urls = awsS3Service.verifyDirectUploads(user.getUserId(), keys);
+
+        return savePost(user, family, directPostReq.getContent(), urls);
+    }
+
+    private SinglePostRes savePost(User user, Family family, String content, List<String> urls) {
         // Post builder 생성
         Post params = Post.builder()
                 .writer(user)
                 .familyId(family)
+                .coverImg(urls.isEmpty() ? null : urls.get(0))
+                .imageUrls(urls)
                 .build();
 
         Post result = postRepository.save(params);
 
         // '최근 게시물 업로드 시각' 현재 시각으로 업데이트
         family.updateLatestUploadAt();
-
-        // PostDocument builder 생성
-        PostDocument docParams = PostDocument.builder()
-                .entityId(result.getPostId())
-                .content(postReq.getContent())
-                .urls(urls)
-                .build();
-
-        PostDocument docResult = postDocumentRepository.save(docParams);
+        // 캘린더의 해당 일자 게시물 수 갱신
+        postCalendarService.increase(result);
+        // 가족 피드, 앨범 캐시 무효화
+        postFeedCacheDao.evictFamily(family.getFamilyId());
+
+        // 게시물 본문, 이미지 저장
+        postContentStore.save(result, content, urls);
+        imageBlobService.retain(urls);
+        // 커밋 후 이미지 variant 생성
+        imageVariantService.generateAfterCommit(result.getPostId(), family.getFamilyId(), result.getContentVersion(),
+                urls, EnumSet.allOf(ImageVariant.class));
 
         // 새로 생성된 Post
         SinglePostRes singlePostRes = SinglePostRes.builder()
                 .postId(result.getPostId())
                 .writer(result.getWriter().getNickname())
                 .profileImg(result.getWriter().getProfileImg())
-                .content(docResult.getContent())
-                .imgs(docResult.getUrls())
+                .content(content)
+                .imgs(urls)
                 //.createdAt(result.getCreatedAt().toLocalDate())
                 .createdAt(result.getCreatedAt())
                 .countLove(0).loved(false) // 새로 생성된 Post 이므로 default return
@@ -102,11 +174,7 @@ public class PostService {
     @Transactional
     public SinglePostRes editPost(User user, long postId, PostEditReq postEditReq) {
         // 수정할 Post 정보 불러오기
-        Post editedPost = postRepository.findById(postId)
-                .orElseThrow(() -> new BaseException(minnie_POSTS_NON_EXISTS_POST));
-
-        // 수정할 Post Document 정보 불러오기
-        PostDocument editedPostDocument = postDocumentRepository.findPostDocumentByEntityId(postId)
+        Post editedPost = postRepository.findByIdForUpdate(postId)
                 .orElseThrow(() -> new BaseException(minnie_POSTS_NON_EXISTS_POST));
 
         if(editedPost.getStatus() == BaseEntity.Status.INACTIVE) {
@@ -123,33 +191,57 @@ public class PostService {
         List<MultipartFile> newFiles = postEditReq.getNewImgs();
         List<String> newImgs = new ArrayList<>();
 
+        // 기존 이미지는 게시물이 가지고 있는 이미지만 허용 (다른 게시물의 이미지 url 로 참조 수가 어긋나지 않도록)
+        // 수정 전 이미지는 같은 트랜잭션에서 저장된 Post 행 기준 (Mongo 는 outbox 반영 전이면 이전 내용일 수 있음)
+        List<String> removedImgs = new ArrayList<>(postContentStore.findImageUrls(List.of(editedPost)));
+        for(String originImg : originImgs) {
+            if(!removedImgs.remove(originImg)) {
+                throw new BaseException(minnie_POSTS_INVALID_ORIGIN_IMAGE);
+            }
+        }
+
         // 새로운 이미지를 추가하지 않고도 수정이 되도록 허용
         if(postEditReq.getNewImgs() != null) {
             if (originImgs.size() + postEditReq.getNewImgs().size() > MAX_IMAGE_SIZE) {
                 throw new BaseException(minnie_POSTS_FULL_IMAGE);
             }
 
-            // S3에 새로운 이미지 업로드
-            for(MultipartFile img : newFiles) {
-                if(img.getSize() > 0) {
-                    String url = null;
-                    url = awsS3Service.uploadImage(img);
-                    newImgs.add(url);
-                }
-            }
+            // S3에 새로운 이미지 동시 업로드
+            List<MultipartFile> uploadFiles = newFiles.stream()
+                    .filter(img -> img.getSize() > 0)
+                    .collect(Collectors.toList());
+            newImgs.addAll(awsS3Service.uploadImages(uploadFiles));
         }
 
         // 기존 이미지와 새로운 이미지를 하나의 필드로 병합
         List<String> editedImgs = Stream.concat(originImgs.stream(), newImgs.stream())
                 .collect(Collectors.toList());
 
-        // MongoDB에 수정된 이미지 및 내용 저장
-        postDocumentRepository.findPostDocumentByEntityId(editedPostDocument.getEntityId())
-                .ifPresent(postDocument -> { // 일치하는 post document 가 있는 경우에만 수정
-                    postDocument.updateContent(postEditReq.getContent());
-                    postDocument.updateUrls(editedImgs);
-                    postDocumentRepository.save(postDocument);
-                });
+        // 빠진 이미지, 추가된 이미지의 참조 수 갱신
+        imageBlobService.release(removedImgs);
+        imageBlobService.retain(newImgs);
+
+        editedPost.increaseContentVersion();
+        editedPost.updateImageUrls(editedImgs);
+        // 앨범 대표 이미지 갱신
+        editedPost.updateCoverImg(editedImgs.isEmpty() ? null : editedImgs.get(0));
+        // 새 이미지의 variant 는 커밋 후 생성하고, 그 전까지는 기존 이미지 url 만 반환
+        // variant 생성 결과는 시작한 버전일 때만 기록되므로, 이전 버전의 생성이 끝나지 않았거나 실패해
+        // variant 가 없는 기존 이미지가 남아 있으면 모든 이미지의 variant 를 다시 생성
+        long familyId = editedPost.getFamilyId().getFamilyId();
+        if(!originImgs.isEmpty() && editedPost.getVariantSet().isEmpty()) {
+            imageVariantService.generateAfterCommit(editedPost.getPostId(), familyId, editedPost.getContentVersion(),
+                    editedImgs, EnumSet.allOf(ImageVariant.class));
+        } else if(!newImgs.isEmpty()) {
+            Set<ImageVariant> existingVariants = originImgs.isEmpty()
+                    ? EnumSet.allOf(ImageVariant.class) : editedPost.getVariantSet();
+            editedPost.updateVariants(EnumSet.noneOf(ImageVariant.class));
+            imageVariantService.generateAfterCommit(editedPost.getPostId(), familyId, editedPost.getContentVersion(),
+                    newImgs, existingVariants);
+        }
+        // 수정된 이미지 및 내용 저장
+        postContentStore.update(editedPost, postEditReq.getContent(), editedImgs);
+        postFeedCacheDao.evictFamily(editedPost.getFamilyId().getFamilyId());
 
         boolean isLoved = postLoveService.checkPostLoveByUser(editedPost.getPostId(), editedPost.getWriter().getUserId());
         boolean isWritten = editedPost.isWriter(user);
@@ -174,11 +266,7 @@ public class PostService {
     @Transactional
     public void deletePost(User user, long postId) {
         // 삭제할 Post 정보 불러오기
-        Post deletedPost = postRepository.findById(postId)
-                .orElseThrow(() -> new BaseException(minnie_POSTS_NON_EXISTS_POST));
-
-        // 삭제할 Post Document 정보 불러오기
-        PostDocument deletedPostDocument = postDocumentRepository.findPostDocumentByEntityId(postId)
+        Post deletedPost = postRepository.findByIdForUpdate(postId)
                 .orElseThrow(() -> new BaseException(minnie_POSTS_NON_EXISTS_POST));
 
         if(deletedPost.getStatus() == BaseEntity.Status.INACTIVE) {
@@ -189,8 +277,11 @@ public class PostService {
             throw new BaseException(minnie_POSTS_DELETE_INVALID_USER);
         }
 
+        releaseImages(deletedPost);
         postRepository.delete(deletedPost);
-        postDocumentRepository.delete(deletedPostDocument);
+        postContentStore.delete(deletedPost);
+        postCalendarService.decrease(deletedPost);
+        postFeedCacheDao.evictFamily(deletedPost.getFamilyId().getFamilyId());
     }
 
     // 현재 가족의 모든 게시물 중 최근 10개를 조회
@@ -198,55 +289,34 @@ public class PostService {
     public List<SinglePostRes> getPosts(User user, long familyId) {
         Pageable pageable = PageRequest.of(0, POST_PAGES);
 
-        List<SinglePostRes> posts = getCombinedPosts(user, familyId, pageable);
-
-        return posts;
+        return getCachedFeedPage(user, familyId, FIRST_PAGE_KEY, () -> {
+            if(postReadModelService.isEnabled()) {
+                return getReadModelPage(familyId, null);
+            }
+            return getCombinedPosts(familyId, pageable);
+        });
     }
 
-    // 현재 가족의 모든 게시물 중 특정 postId 보다 작은 10개를 조회
+    // 현재 가족의 모든 게시물 중 특정 postId 이전에 작성된 10개를 조회
     @Transactional(readOnly = true)
     public List<SinglePostRes> getPosts(User user, long familyId, long postId) {
-        Pageable pageable = PageRequest.of(0, POST_PAGES);
-        List<Post> filteredPosts = postRepository.findByFamilyIdAfterPostId(familyId, postId, pageable);
-
-        if(filteredPosts.isEmpty()) {
-            throw new BaseException(minnie_POSTS_NON_EXISTS_POST);
-        }
-
-        // 로그인 유저의 post love 정보 받아오기
-        Long loginUser = user.getUserId();
-
-        List<SinglePostRes> posts = new ArrayList<>();
-        for(Post p: filteredPosts){
-            SinglePostDocumentRes singlePostDocumentRes = postDocumentRepository.findByEntityId(p.getPostId());
-            boolean isLoved = postLoveService.checkPostLoveByUser(p.getPostId(), loginUser);
-            boolean isWritten = p.isWriter(user);
-
-            Long filteredPostId = p.getPostId();
-            String writer = p.getWriter().getNickname();
-            String profileImg = p.getWriter().getProfileImg();
-            LocalDateTime datetime = p.getCreatedAt();
-            int countLove = p.getCountLove();
-
-            SinglePostRes singlePostRes = toSinglePostRes(filteredPostId, writer, profileImg,
-                    datetime, countLove, isLoved, isWritten, singlePostDocumentRes);
-
-            posts.add(singlePostRes);
-        }
+        return getPostsBeforeCursor(user, familyId, toPostCursor(familyId, postId));
+    }
 
-        return posts;
+    // 현재 가족의 모든 게시물 중 cursor 이전에 작성된 10개를 조회
+    @Transactional(readOnly = true)
+    public List<SinglePostRes> getPosts(User user, long familyId, String cursor) {
+        return getPostsBeforeCursor(user, familyId, PostCursor.decode(cursor));
     }
 
     // 특정 post 조회
-    @Transactional
+    // countLove 는 좋아요 작성/취소 시 갱신되며, 어긋난 값은 LoveCountScheduler 가 주기적으로 보정
+    @Transactional(readOnly = true)
     public SinglePostRes getPost(User user, long postId) {
-        // countLove 칼럼 갱신
-        postRepository.updateCountLove(postId);
-
         // post 정보 받아오기
         Post post = postRepository.findByPostIdAndStatus(postId, BaseEntity.Status.ACTIVE);
-        // post document 정보 받아오기
-        SinglePostDocumentRes singlePostDocumentRes = postDocumentRepository.findByEntityId(postId);
+        // 게시물 본문 정보 받아오기
+        SinglePostDocumentRes singlePostDocumentRes = postContentStore.find(postId).orElse(null);
 
         if(post == null || singlePostDocumentRes == null) {
             throw new BaseException(minnie_POSTS_INVALID_POST_ID);
@@ -264,20 +334,19 @@ public class PostService {
         LocalDateTime datetime = post.getCreatedAt();
         int countLove = post.getCountLove();
 
-        return toSinglePostRes(filteredPostId, writer, profileImg,
+        SinglePostRes singlePostRes = toSinglePostRes(filteredPostId, writer, profileImg,
                 datetime, countLove, isLoved, isWritten, singlePostDocumentRes);
+        singlePostRes.setVariantImgs(ImageVariant.urlsOf(post.getVariantSet(), singlePostDocumentRes.getUrls()));
+        return singlePostRes;
     }
 
     // 특정 일 최신 post 조회
     @Transactional(readOnly = true)
     public List<SinglePostRes> getPostsOfDate(User user, long familyId, int year, int month, int day) {
         LocalDate date = LocalDate.of(year, month, day);
-        LocalTime dummy = LocalTime.MIDNIGHT; // LocalDateTime 변수 생성을 위한 dummy 값
-
-        LocalDateTime dateTime = LocalDateTime.of(date, dummy);
         Pageable pageable = PageRequest.of(0, POST_PAGES);
 
-        List<SinglePostRes> posts = getCombinedPostsByDate(user, familyId, dateTime, pageable);
+        List<SinglePostRes> posts = getCombinedPostsByDate(user, familyId, date, pageable);
 
         return posts;
     }
@@ -286,159 +355,215 @@ public class PostService {
     @Transactional(readOnly = true)
     public List<SinglePostRes> getPostsOfDate(User user, long familyId, int year, int month, int day, long postId) {
         LocalDate date = LocalDate.of(year, month, day);
-        LocalTime dummy = LocalTime.MIDNIGHT; // LocalDateTime 변수 생성을 위한 dummy 값
-
-        LocalDateTime dateTime = LocalDateTime.of(date, dummy);
+        // 인덱스를 사용할 수 있도록 DATE 함수 대신 [해당일 00:00, 다음날 00:00) 범위로 조회
+        LocalDateTime startOfDay = date.atStartOfDay();
+        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
+        PostCursor cursor = toPostCursor(familyId, postId);
 
         Pageable pageable = PageRequest.of(0, POST_PAGES);
-        List<Post> filteredPosts = postRepository.findByFamilyIdWithDateAfterPostId(familyId, dateTime, postId, pageable);
+        List<Post> filteredPosts = postRepository.findByFamilyIdAndDateBeforeCursor(familyId, startOfDay, endOfDay,
+                cursor.getCreatedAt(), cursor.getPostId(), pageable);
 
         if(filteredPosts.isEmpty()) {
             throw new BaseException(minnie_POSTS_NON_EXISTS_POST);
         }
 
-        // 로그인 유저의 post love 정보 받아오기
-        Long loginUser = user.getUserId();
+        return hydratePosts(user, filteredPosts);
+    }
 
-        List<SinglePostRes> posts = new ArrayList<>();
-        for(Post p: filteredPosts){
-            SinglePostDocumentRes singlePostDocumentRes = postDocumentRepository.findByEntityId(p.getPostId());
-            boolean isLoved = postLoveService.checkPostLoveByUser(p.getPostId(), loginUser);
-            boolean isWritten = p.isWriter(user);
+    @Transactional(readOnly = true)
+    public List<LocalDate> getDayExistsPost(long familyId, int year, int month) {
+        return postCalendarService.getMonthlyCalendar(familyId, year, month).stream()
+                .map(PostCalendarRes::getDate)
+                .collect(Collectors.toList());
+    }
 
-            Long filteredPostId = p.getPostId();
-            String writer = p.getWriter().getNickname();
-            String profileImg = p.getWriter().getProfileImg();
-            LocalDateTime datetime = p.getCreatedAt();
-            int countLove = p.getCountLove();
+    @Transactional(readOnly = true)
+    public List<PostCalendarRes> getPostCountsOfMonth(long familyId, int year, int month) {
+        return postCalendarService.getMonthlyCalendar(familyId, year, month);
+    }
 
-            SinglePostRes singlePostRes = toSinglePostRes(filteredPostId, writer, profileImg,
-                    datetime, countLove, isLoved, isWritten, singlePostDocumentRes);
+    @Transactional(readOnly = true)
+    public List<AlbumRes> getAlbum (long familyId) {
+        Pageable pageable = PageRequest.of(0, ALBUM_PAGES);
 
-            posts.add(singlePostRes);
-        }
+        return getCachedAlbumPage(familyId, FIRST_PAGE_KEY,
+                () -> fillMissingCoverImgs(postRepository.findAlbumByFamilyId(familyId, pageable)));
+    }
 
-        return posts;
+    @Transactional(readOnly = true)
+    public List<AlbumRes> getAlbum (long familyId, long postId) {
+        return getAlbumBeforeCursor(familyId, toPostCursor(familyId, postId));
     }
 
-    @Transactional
-    public List<LocalDate> getDayExistsPost(long familyId, int year, int month) {
-        // date 정보 생성
-        YearMonth month_info = YearMonth.of(year, month);
-        LocalDate start_date = month_info.atDay(1);
-        LocalDate end_date = month_info.atEndOfMonth();
-        LocalDateTime start = start_date.atStartOfDay();
-        LocalDateTime end = end_date.atTime(LocalTime.MAX);
+    @Transactional(readOnly = true)
+    public List<AlbumRes> getAlbum (long familyId, String cursor) {
+        return getAlbumBeforeCursor(familyId, PostCursor.decode(cursor));
+    }
 
-        List<LocalDateTime> dateTimes = postRepository.getDateExistPost(familyId, BaseEntity.Status.ACTIVE, start, end);
+    @Transactional(readOnly = true)
+    public List<AlbumMonthRes> getAlbumMonths(long familyId) {
+        return postCalendarService.getMonthlyCounts(familyId);
+    }
 
-        if(dateTimes.isEmpty()) {
-            throw new BaseException(minnie_POSTS_NON_EXISTS_POST);
-        }
+    @Transactional(readOnly = true)
+    public List<String> getPostImages(long postId) {
+        SinglePostDocumentRes singlePostDocumentRes = postContentStore.find(postId)
+                .orElseThrow(() -> new BaseException(minnie_POSTS_INVALID_POST_ID));
+
+        List<String> imgs = singlePostDocumentRes.getUrls();
 
-        List<LocalDate> dates = new ArrayList<>();
+        return imgs;
+    }
 
-        for(LocalDateTime dateTime : dateTimes) {
-            dates.add(dateTime.toLocalDate());
-        }
+    /**
+     * getPostsBeforeCursor
+     * (createdAt, postId) 기준 seek 방식으로 cursor 이전의 post 목록을 조회
+     * 페이지 깊이와 무관하게 (familyId, status, createdAt, postId) 인덱스 범위 스캔 한 번으로 조회
+     * @return List<SinglePostRes>
+     */
+    private List<SinglePostRes> getPostsBeforeCursor(User user, long familyId, PostCursor cursor) {
+        Pageable pageable = PageRequest.of(0, POST_PAGES);
+
+        return getCachedFeedPage(user, familyId, cursor.encode(), () -> {
+            if(postReadModelService.isEnabled()) {
+                return getReadModelPage(familyId, cursor);
+            }
+
+            List<Post> filteredPosts = postRepository.findByFamilyIdBeforeCursor(familyId, cursor.getCreatedAt(), cursor.getPostId(), pageable);
+
+            if(filteredPosts.isEmpty()) {
+                throw new BaseException(minnie_POSTS_NON_EXISTS_POST);
+            }
 
-        return dates;
+            return buildFeedPage(filteredPosts);
+        });
     }
 
-    @Transactional(readOnly = true)
-    public List<AlbumRes> getAlbum (long familyId) {
+    /**
+     * getAlbumBeforeCursor
+     * getPostsBeforeCursor 와 동일한 seek 방식으로 cursor 이전의 앨범 목록을 조회
+     * @return List<AlbumRes>
+     */
+    private List<AlbumRes> getAlbumBeforeCursor(long familyId, PostCursor cursor) {
         Pageable pageable = PageRequest.of(0, ALBUM_PAGES);
-        List<Post> filteredPosts = postRepository.findByFamilyIdOrderByCreatedAtDesc(familyId, pageable);
 
-        List<AlbumRes> albumResList = new ArrayList<>();
-        for(Post p : filteredPosts) {
-            SinglePostDocumentRes singlePostDocumentRes = postDocumentRepository.findByEntityId(p.getPostId());
+        return getCachedAlbumPage(familyId, cursor.encode(), () -> {
+            List<AlbumRes> album = postRepository.findAlbumByFamilyIdBeforeCursor(familyId, cursor.getCreatedAt(), cursor.getPostId(), pageable);
 
-            AlbumRes albumRes = AlbumRes.builder()
-                    .postId(p.getPostId())
-                    .img1(singlePostDocumentRes.getUrls().get(0))
-                    .build();
+            if(album.isEmpty()) {
+                throw new BaseException(minnie_POSTS_NON_EXISTS_POST);
+            }
 
-            albumResList.add(albumRes);
-        }
+            return fillMissingCoverImgs(album);
+        });
+    }
+
+    /**
+     * getCachedFeedPage
+     * 가족 구성원이 공유하는 피드 페이지는 캐시에서 읽고, 로그인 유저의 좋아요 여부는 좋아요 인덱스에서 매번 조회해 합치는 함수
+     * 캐시 버전을 조회 전에 먼저 읽으므로, 조회 도중 게시물이 변경되더라도 이전 버전의 key 에만 저장됨
+     * @return List<SinglePostRes>
+     */
+    private List<SinglePostRes> getCachedFeedPage(User user, long familyId, String pageKey, Supplier<FeedPage> loader) {
+        long version = postFeedCacheDao.getVersion(familyId);
+
+        FeedPage feedPage = postFeedCacheDao.getPage(FEED_PAGE, familyId, version, pageKey, FEED_PAGE_TYPE)
+                .orElseGet(() -> {
+                    FeedPage loadedPage = loader.get();
+                    postFeedCacheDao.putPage(FEED_PAGE, familyId, version, pageKey, loadedPage);
+                    return loadedPage;
+                });
+
+        Set<Long> lovedPostIds = postLoveService.getLovedPostIds(user.getUserId(), feedPage.getPostIds());
 
-        return albumResList;
+        return overlayUserFields(user, feedPage, lovedPostIds);
     }
 
-    @Transactional(readOnly = true)
-    public List<AlbumRes> getAlbum (long familyId, long postId) {
-        Pageable pageable = PageRequest.of(0, ALBUM_PAGES);
-        List<Post> filteredPosts = postRepository.findByFamilyIdAndBeforePostId(familyId, postId, pageable);
+    /**
+     * getReadModelPage
+     * post.read-model.enabled 인 경우 MySQL 조회 없이 post document 만으로 피드 페이지 생성
+     * @return FeedPage
+     */
+    private FeedPage getReadModelPage(long familyId, PostCursor cursor) {
+        FeedPage feedPage = postReadModelService.getFeedPage(familyId, cursor, POST_PAGES);
 
-        if(filteredPosts.isEmpty()) {
+        if(feedPage.getPosts().isEmpty()) {
             throw new BaseException(minnie_POSTS_NON_EXISTS_POST);
         }
 
-        List<AlbumRes> albumResList = new ArrayList<>();
-        for(Post p : filteredPosts) {
-            SinglePostDocumentRes singlePostDocumentRes = postDocumentRepository.findByEntityId(p.getPostId());
-
-            AlbumRes albumRes = AlbumRes.builder()
-                    .postId(p.getPostId())
-                    .img1(singlePostDocumentRes.getUrls().get(0))
-                    .build();
+        return feedPage;
+    }
 
-            albumResList.add(albumRes);
-        }
+    /**
+     * getCachedAlbumPage
+     * 앨범 페이지는 유저별 정보가 없으므로 캐시된 페이지를 그대로 반환
+     * @return List<AlbumRes>
+     */
+    private List<AlbumRes> getCachedAlbumPage(long familyId, String pageKey, Supplier<List<AlbumRes>> loader) {
+        long version = postFeedCacheDao.getVersion(familyId);
+
+        return postFeedCacheDao.getPage(ALBUM_PAGE, familyId, version, pageKey, ALBUM_PAGE_TYPE)
+                .orElseGet(() -> {
+                    List<AlbumRes> loadedPage = loader.get();
+                    postFeedCacheDao.putPage(ALBUM_PAGE, familyId, version, pageKey, loadedPage);
+                    return loadedPage;
+                });
+    }
 
-        return albumResList;
+    /**
+     * toPostCursor
+     * 기존 postId 기반 페이징 요청을 지원하기 위해 기준 post 의 (createdAt, postId)로 cursor 생성
+     * 기준 post 가 없거나 다른 가족의 post 이면 minnie_POSTS_INVALID_CURSOR
+     * @return PostCursor
+     */
+    private PostCursor toPostCursor(long familyId, long postId) {
+        return postRepository.findByPostIdAndFamilyId(postId, familyId)
+                .map(PostCursor::from)
+                .orElseThrow(() -> new BaseException(minnie_POSTS_INVALID_CURSOR));
     }
 
-    @Transactional(readOnly = true)
-    public List<String> getPostImages(long postId) {
-        SinglePostDocumentRes singlePostDocumentRes = postDocumentRepository.findByEntityId(postId);
+    /**
+     * fillMissingCoverImgs
+     * 앨범 인덱스(coverImg)가 채워지기 전에 작성된 post 는 post document 를 $in 쿼리 1회로 조회해 대표 이미지를 채움
+     * @return List<AlbumRes>
+     */
+    private List<AlbumRes> fillMissingCoverImgs(List<AlbumRes> album) {
+        List<Long> missingPostIds = album.stream()
+                .filter(albumRes -> albumRes.getImg1() == null)
+                .map(AlbumRes::getPostId)
+                .collect(Collectors.toList());
 
-        List<String> imgs = singlePostDocumentRes.getUrls();
+        if(missingPostIds.isEmpty()) {
+            return album;
+        }
 
-        return imgs;
+        Map<Long, String> coverUrls = postContentStore.findCoverUrls(missingPostIds);
+        for(AlbumRes albumRes : album) {
+            if(albumRes.getImg1() == null && coverUrls.containsKey(albumRes.getPostId())) {
+                albumRes.updateImg1(coverUrls.get(albumRes.getPostId()));
+            }
+        }
+
+        return album;
     }
 
     /**
      * getCombinedPosts
      * Paging 기능이 포함된 API 중 날짜 정보가 필요 없는 메서드에서 사용
-     * @return List<SinglePostRes>
+     * @return FeedPage
      */
     @Transactional(readOnly = true)
-    private List<SinglePostRes> getCombinedPosts(User user, long familyId, Pageable pageable) {
-        // 1. familyId에 따라서 post 목록 받아오기
-        List<Post> filteredPosts = postRepository.findByFamilyIdOrderByCreatedAtDesc(familyId, pageable);
+    private FeedPage getCombinedPosts(long familyId, Pageable pageable) {
+        // 1. familyId에 따라서 post 목록 받아오기 (작성자 fetch join)
+        List<Post> filteredPosts = postRepository.findWithWriterByFamilyIdOrderByCreatedAtDesc(familyId, pageable);
 
         if(filteredPosts.isEmpty()) {
             throw new BaseException(minnie_POSTS_NON_EXISTS_POST);
         }
 
-        // 로그인 유저의 post love 정보 받아오기
-        Long loginUser = user.getUserId();
-
-        List<SinglePostRes> posts = new ArrayList<>();
-        for(Post p: filteredPosts){
-            // 2. 1단계에서 구한 post 목록의 postId와 일치하는 post document 받아오기
-            SinglePostDocumentRes singlePostDocumentRes = postDocumentRepository.findByEntityId(p.getPostId());
-            // 3. 로그인 유저의 post love 정보 받아오기
-            boolean isLoved = postLoveService.checkPostLoveByUser(p.getPostId(), loginUser);
-            // 4. 로그인 유저가 게시물의 작성자인지 확인하기
-            boolean isWritten = p.isWriter(user);
-
-            Long filteredPostId = p.getPostId();
-            String writer = p.getWriter().getNickname();
-            String profileImg = p.getWriter().getProfileImg();
-            LocalDateTime datetime = p.getCreatedAt();
-            int countLove = p.getCountLove();
-
-            // 4. 반환된 SinglePostRes 객체 목록 생성
-            SinglePostRes singlePostRes = toSinglePostRes(filteredPostId, writer, profileImg,
-                    datetime, countLove, isLoved, isWritten, singlePostDocumentRes);
-
-            posts.add(singlePostRes);
-        }
-
-        // 5. SinglePostRes 객체 목록 반환
-        return posts;
+        // 2. post document 를 일괄 조회해 가족 구성원이 공유하는 페이지 반환
+        return buildFeedPage(filteredPosts);
     }
 
     /**
@@ -448,31 +573,81 @@ public class PostService {
      * @return List<SinglePostRes>
      */
     @Transactional(readOnly = true)
-    private List<SinglePostRes> getCombinedPostsByDate(User user, long familyId, LocalDateTime dateTime, Pageable pageable) {
-        List<Post> filteredPosts = postRepository.findByFamilyIdAndCreatedAtDesc(familyId, dateTime, pageable);
+    private List<SinglePostRes> getCombinedPostsByDate(User user, long familyId, LocalDate date, Pageable pageable) {
+        // 인덱스를 사용할 수 있도록 DATE 함수 대신 [해당일 00:00, 다음날 00:00) 범위로 조회
+        List<Post> filteredPosts = postRepository.findByFamilyIdAndDate(familyId, date.atStartOfDay(), date.plusDays(1).atStartOfDay(), pageable);
 
-        // 로그인 유저의 post love 정보 받아오기
-        Long loginUser = user.getUserId();
+        return hydratePosts(user, filteredPosts);
+    }
+
+    /**
+     * hydratePosts
+     * 한 페이지 분량의 post 목록에 게시물 본문, 로그인 유저의 좋아요 여부를 일괄로 채워 넣는 함수
+     * 게시물 본문은 저장소 조회 1회, 좋아요 여부는 1회로 조회하므로 페이지 크기와 무관하게 쿼리 수가 일정
+     * (작성자 정보는 post 목록 조회 시 fetch join 으로 함께 불러와야 함)
+     * @return List<SinglePostRes>
+     */
+    private List<SinglePostRes> hydratePosts(User user, List<Post> filteredPosts) {
+        FeedPage feedPage = buildFeedPage(filteredPosts);
+        Set<Long> lovedPostIds = postLoveService.getLovedPostIds(user.getUserId(), feedPage.getPostIds());
+
+        return overlayUserFields(user, feedPage, lovedPostIds);
+    }
+
+    /**
+     * buildFeedPage
+     * post 목록에 게시물 본문을 일괄로 채워 가족 구성원이 공유하는 FeedPage 를 생성하는 함수
+     * 유저별 정보(loved, written)는 overlayUserFields 에서 채움
+     * @return FeedPage
+     */
+    private FeedPage buildFeedPage(List<Post> filteredPosts) {
+        List<Long> postIds = filteredPosts.stream()
+                .map(Post::getPostId)
+                .collect(Collectors.toList());
+
+        // 1. 게시물 본문 일괄 조회
+        Map<Long, SinglePostDocumentRes> postContents = postContentStore.findAll(postIds);
 
         List<SinglePostRes> posts = new ArrayList<>();
+        Map<Long, Long> writerIds = new HashMap<>();
         for(Post p: filteredPosts){
-            SinglePostDocumentRes singlePostDocumentRes = postDocumentRepository.findByEntityId(p.getPostId());
-            boolean isLoved = postLoveService.checkPostLoveByUser(p.getPostId(), loginUser);
-            boolean isWritten = p.isWriter(user);
-
-            Long filteredPostId = p.getPostId();
-            String writer = p.getWriter().getNickname();
-            String profileImg = p.getWriter().getProfileImg();
-            LocalDateTime datetime = p.getCreatedAt();
-            int countLove = p.getCountLove();
+            SinglePostDocumentRes singlePostDocumentRes = postContents.get(p.getPostId());
+            if(singlePostDocumentRes == null) {
+                log.warn("[buildFeedPage] 본문이 존재하지 않는 post 입니다. postId: {}", p.getPostId());
+                continue;
+            }
 
-            SinglePostRes singlePostRes = toSinglePostRes(filteredPostId, writer, profileImg,
-                    datetime, countLove, isLoved, isWritten, singlePostDocumentRes);
+            // 2. 반환될 SinglePostRes 객체 목록 생성 (다음 페이지 조회용 cursor 포함)
+            SinglePostRes singlePostRes = toSinglePostRes(p.getPostId(), p.getWriter().getNickname(), p.getWriter().getProfileImg(),
+                    p.getCreatedAt(), p.getCountLove(), false, false, singlePostDocumentRes);
+            singlePostRes.setCursor(PostCursor.from(p).encode());
+            singlePostRes.setVariantImgs(ImageVariant.urlsOf(p.getVariantSet(), singlePostDocumentRes.getUrls()));
 
             posts.add(singlePostRes);
+            writerIds.put(p.getPostId(), p.getWriter().getUserId());
         }
 
-        return posts;
+        return new FeedPage(posts, writerIds);
+    }
+
+    /**
+     * overlayUserFields
+     * 공유 페이지에 로그인 유저의 좋아요 여부, 작성자 여부를 채워 넣는 함수
+     * @return List<SinglePostRes>
+     */
+    private static List<SinglePostRes> overlayUserFields(User user, FeedPage feedPage, Set<Long> lovedPostIds) {
+        for(SinglePostRes post : feedPage.getPosts()) {
+            post.setLoved(lovedPostIds.contains(post.getPostId()));
+            // 로그인 유저가 게시물의 작성자인지 확인하기
+            post.setWritten(Objects.equals(feedPage.getWriterIds().get(post.getPostId()), user.getUserId()));
+        }
+
+        return feedPage.getPosts();
+    }
+
+    // 삭제할 게시물의 이미지 참조 수 감소
+    private void releaseImages(Post post) {
+        imageBlobService.release(postContentStore.findImageUrls(List.of(post)));
     }
 
     /**
@@ -499,7 +674,7 @@ public class PostService {
     }
     @Transactional
     public void reportPost(User fromUser, Long postId, ContentReportReq contentReportReq) {;
-        Post post = postRepository.findById(postId)
+        Post post = postRepository.findByIdForUpdate(postId)
                 .orElseThrow(() -> new BaseException(minnie_POSTS_NON_EXISTS_POST));
 
         //신고 사유 저장
@@ -513,7 +688,11 @@ public class PostService {
 
         //누적 횟수 3회차일 때 게시물 삭제
         if(post.getReported() == 2) {
+            releaseImages(post);
             postRepository.delete(post);
+            postContentStore.delete(post);
+            postCalendarService.decrease(post);
+            postFeedCacheDao.evictFamily(post.getFamilyId().getFamilyId());
         } else {
             //신고 횟수 업데이트
             post.updateReported(post.getReported() + 1);
@@ -1,10 +1,13 @@
 package com.spring.familymoments.domain.post.document;
 
+import com.spring.familymoments.domain.common.BaseEntity;
 import lombok.*;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -15,16 +18,22 @@ import java.util.List;
 public class PostDocument {
     @Id
     private ObjectId docId;
+    @Indexed(unique = true, name = "uk_post_entity_id")
     private Long entityId;
     private String content;
     private List<String> urls;
+    // 마지막으로 반영한 게시물 contentVersion (이 필드가 없는 이전 문서는 가장 오래된 버전으로 취급)
+    private Integer version;
+    // 생성된 이미지 variant (Post.variants 와 같은 형식, 이 버전의 모든 이미지에 대해 생성된 경우만)
+    private String variants;
 
-    public void updateContent(String newContent) {
-        this.content = newContent;
-    }
-
-    public void updateUrls(List<String> newUrls) {
-        this.urls = newUrls;
-    }
-
+    // 피드 조회용 read model (post.read-model.enabled)
+    private Long familyId;
+    private LocalDateTime createdAt;
+    private BaseEntity.Status status;
+    private Long writerId;
+    private String writerNickname;
+    private String writerProfileImg;
+    private long countLove;
+    private long countComment;
 }
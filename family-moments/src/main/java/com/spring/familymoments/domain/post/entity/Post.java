@@ -1,7 +1,9 @@
 package com.spring.familymoments.domain.post.entity;
 
+import com.spring.familymoments.domain.awsS3.ImageVariant;
 import com.spring.familymoments.domain.common.BaseEntity;
 import com.spring.familymoments.domain.common.BaseTime;
+import com.spring.familymoments.domain.common.StringListConverter;
 import com.spring.familymoments.domain.family.entity.Family;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.*;
@@ -12,11 +14,15 @@ import org.hibernate.annotations.DynamicUpdate;
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 @EqualsAndHashCode(callSuper = false)
 @Entity
-@Table(name = "Post")
+@Table(name = "Post", indexes = {
+        // 피드, 앨범 cursor 페이징용 인덱스
+        @Index(name = "idx_post_family_status_created", columnList = "familyId, status, createdAt DESC, postId DESC")
+})
 @Getter
 @NoArgsConstructor(force = true)
 @AllArgsConstructor
@@ -46,13 +52,26 @@ public class Post extends BaseEntity {
     @ColumnDefault("0")
     private int countLove;
 
-    public void increaseCountLove() {
-        this.countLove = countLove + 1;
-    }
+    // 앨범 조회용 대표 이미지 (post document 의 첫 번째 이미지)
+    @Column(name = "coverImg")
+    private String coverImg;
 
-    public void decreaseCountLove() {
-        this.countLove = countLove - 1;
-    }
+    // 본문, 이미지 수정 버전 (게시물 행을 잠근 채 증가시키므로 커밋 순서와 같음)
+    // post document 에도 함께 저장해 늦게 반영되는 이전 변경이 새 변경을 덮어쓰지 않도록 함
+    @Column(columnDefinition = "int unsigned")
+    @ColumnDefault("0")
+    private int contentVersion;
+
+    // 이미지 url 목록 (JSON 배열)
+    // 게시물과 같은 트랜잭션에서 저장되어, Mongo 반영이 늦어도 이미지 참조 수 계산의 기준으로 사용
+    // 이 컬럼이 생기기 전에 작성된 게시물은 null
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "imageUrls", columnDefinition = "JSON")
+    private List<String> imageUrls;
+
+    // 모든 이미지에 생성된 variant (ImageVariant 이름, ',' 로 구분)
+    @Column(name = "variants")
+    private String variants;
 
     /**
      * 가족 삭제 API 관련 메소드
@@ -73,4 +92,21 @@ public class Post extends BaseEntity {
      */
     public void updateReported(int reported) { this.reported = reported; }
 
+    /**
+     * 게시물 수정 API 관련 메소드
+     */
+    public void updateCoverImg(String coverImg) { this.coverImg = coverImg; }
+
+    public void updateImageUrls(List<String> imageUrls) { this.imageUrls = imageUrls; }
+
+    public void increaseContentVersion() { this.contentVersion = contentVersion + 1; }
+
+    public Set<ImageVariant> getVariantSet() {
+        return ImageVariant.parse(variants);
+    }
+
+    public void updateVariants(Set<ImageVariant> variants) {
+        this.variants = variants.isEmpty() ? null : ImageVariant.join(variants);
+    }
+
 }
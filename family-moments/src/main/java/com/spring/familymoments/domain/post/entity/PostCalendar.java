@@ -0,0 +1,38 @@
+package com.spring.familymoments.domain.post.entity;
+
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 가족별 일자별 게시물 수
+ * 게시물 생성, 삭제 시 갱신되며 캘린더 조회 시 Post 테이블 대신 사용
+ */
+@EqualsAndHashCode(callSuper = false)
+@Entity
+@Table(name = "PostCalendar", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_calendar_family_date", columnNames = {"familyId", "postDate"})
+})
+@Getter
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Builder
+public class PostCalendar {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "postCalendarId", nullable = false, updatable = false)
+    private Long postCalendarId;
+
+    @Column(name = "familyId", nullable = false, updatable = false)
+    private Long familyId;
+
+    @Column(name = "postDate", nullable = false, updatable = false)
+    private LocalDate postDate;
+
+    @Column(name = "postCount", columnDefinition = "int unsigned", nullable = false)
+    @ColumnDefault("0")
+    private int postCount;
+}
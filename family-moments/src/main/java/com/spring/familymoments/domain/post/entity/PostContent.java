@@ -0,0 +1,66 @@
+package com.spring.familymoments.domain.post.entity;
+
+import com.spring.familymoments.domain.common.StringListConverter;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.util.List;
+
+/**
+ * 게시물 본문, 이미지 url (post.storage=mysql)
+ * Post 와 같은 postId 를 기본 키로 사용
+ */
+@Entity
+@Table(name = "PostContent")
+@Getter
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Builder
+public class PostContent implements Persistable<Long> {
+    @Id
+    @Column(name = "postId", nullable = false, updatable = false)
+    private Long postId;
+
+    @Column(name = "content", columnDefinition = "TEXT")
+    private String content;
+
+    // 이미지 url 목록 (JSON 배열, url 에 ',' 가 있어도 그대로 저장)
+    @Convert(converter = StringListConverter.class)
+    @Column(name = "urls", columnDefinition = "JSON")
+    private List<String> urls;
+
+    // 새로 생성한 엔티티를 저장할 때 merge 를 위한 SELECT 를 생략
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    public static PostContent of(Long postId, String content, List<String> urls) {
+        return PostContent.builder()
+                .postId(postId)
+                .content(content)
+                .urls(urls)
+                .build();
+    }
+
+    public void update(String content, List<String> urls) {
+        this.content = content;
+        this.urls = urls;
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.spring.familymoments.domain.post.entity;
+
+import com.spring.familymoments.domain.common.BaseTime;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * post document 변경 outbox
+ * MySQL 트랜잭션 안에서 Mongo 에 반영할 변경을 기록하고, relay 가 batch 단위로 Mongo 에 반영한 뒤 삭제
+ * relay 는 짧은 트랜잭션에서 claimedUntil 까지 batch 를 가져간 뒤, 트랜잭션 밖에서 반영함
+ */
+@Entity
+@Table(name = "PostOutbox", indexes = {
+        // 아직 반영되지 않은 게시물 본문 조회 (MongoPostContentStore)
+        @Index(name = "idx_post_outbox_target", columnList = "targetId")
+})
+@Getter
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Builder
+public class PostOutbox extends BaseTime {
+
+    public enum EventType {
+        UPSERT,         // 게시물 생성: 본문 + read model 전체
+        UPDATE_CONTENT, // 게시물 수정: 본문, 이미지 url, variant
+        UPDATE_VARIANTS, // 이미지 variant 생성 완료 (같은 version 의 문서에만 반영)
+        DELETE,         // 게시물 삭제
+        UPDATE_STATUS,  // 게시물 상태 변경
+        UPDATE_COUNT_COMMENT, // 댓글 수 변경
+        UPDATE_COUNT_LOVE, // 좋아요 수 변경 (MySQL 에 반영된 값)
+        UPDATE_WRITER,  // 작성자 프로필 변경 (targetId = writerId)
+        // 가족, 작성자 단위 일괄 변경: relay 가 chunk 단위로 나누어 반영
+        UPDATE_FAMILY_STATUS, // 가족의 모든 게시물 상태 변경 (targetId = familyId)
+        UPDATE_WRITER_STATUS, // 작성자의 모든 게시물 상태 변경 (targetId = writerId, familyId 가 있으면 그 가족의 게시물만)
+        DELETE_FAMILY,  // 가족의 모든 게시물 삭제 (targetId = familyId)
+        DELETE_WRITER   // 작성자의 모든 게시물 삭제 (targetId = writerId, 이전에 기록된 outbox 반영용)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outboxId", nullable = false, updatable = false)
+    private Long outboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "eventType", nullable = false, length = 32)
+    private EventType eventType;
+
+    // postId, UPDATE_WRITER 인 경우 writerId
+    @Column(name = "targetId", nullable = false)
+    private Long targetId;
+
+    // 반영 후 피드 캐시를 무효화할 가족
+    @Column(name = "familyId")
+    private Long familyId;
+
+    // PostOutboxPayload (JSON)
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    // relay 가 가져간 경우 반영을 마칠 때까지의 기한 (지나면 다른 relay 가 다시 가져감)
+    @Column(name = "claimedUntil")
+    private LocalDateTime claimedUntil;
+
+    public void claim(LocalDateTime claimedUntil) {
+        this.claimedUntil = claimedUntil;
+    }
+
+    public boolean isClaimed(LocalDateTime now) {
+        return claimedUntil != null && claimedUntil.isAfter(now);
+    }
+}
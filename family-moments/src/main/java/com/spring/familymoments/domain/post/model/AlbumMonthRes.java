@@ -0,0 +1,24 @@
+package com.spring.familymoments.domain.post.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@Schema(description = "앨범 월별 게시물 수 Response")
+public class AlbumMonthRes {
+    @Schema(description = "연도", example = "2023")
+    private int year;
+    @Schema(description = "월", example = "8")
+    private int month;
+    @Schema(description = "해당 월의 게시물 수", example = "12")
+    private long count;
+
+    // 캘린더 월별 합계 projection
+    public AlbumMonthRes(Integer year, Integer month, Long count) {
+        this.year = year;
+        this.month = month;
+        this.count = count;
+    }
+}
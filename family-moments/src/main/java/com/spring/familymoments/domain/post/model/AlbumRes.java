@@ -1,11 +1,15 @@
 package com.spring.familymoments.domain.post.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.spring.familymoments.domain.awsS3.ImageVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -16,4 +20,24 @@ public class AlbumRes {
     private long postId;
     @Schema(description = "Post main img", example = "https://url.com/name.png")
     private String img1;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "다음 페이지 조회에 사용할 cursor", example = "MjAyMy0wOC0wMVQwMDo0NzozOV8xMjMxMg")
+    private String cursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "게시글 생성일 (월별 그룹핑용)", example = "2023-08-01T00:47:39")
+    private LocalDateTime createdAt;
+
+    // 앨범 인덱스 조회 (postId, coverImg, createdAt, variants) projection
+    // 앨범 타일 variant 가 생성된 경우 대표 이미지로 사용
+    public AlbumRes(Long postId, String img1, LocalDateTime createdAt, String variants) {
+        this.postId = postId;
+        this.img1 = img1 != null && ImageVariant.parse(variants).contains(ImageVariant.ALBUM)
+                ? ImageVariant.ALBUM.urlOf(img1) : img1;
+        this.cursor = PostCursor.of(createdAt, postId).encode();
+        this.createdAt = createdAt;
+    }
+
+    public void updateImg1(String img1) {
+        this.img1 = img1;
+    }
 }
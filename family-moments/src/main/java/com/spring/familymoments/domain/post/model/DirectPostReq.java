@@ -0,0 +1,18 @@
+package com.spring.familymoments.domain.post.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "직접 업로드한 이미지로 게시물 생성 Request")
+public class DirectPostReq {
+    @Schema(description = "게시물 본문", example = "오늘은 날씨가 좋아요")
+    private String content;
+    @Schema(description = "업로드 url 발급 시 받은 이미지 key 목록")
+    private List<String> keys;
+}
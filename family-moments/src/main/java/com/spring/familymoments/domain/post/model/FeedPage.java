@@ -0,0 +1,30 @@
+package com.spring.familymoments.domain.post.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 가족 구성원이 공유하는 피드 한 페이지
+ * 유저별 정보(loved, written)는 비워 둔 상태로 저장
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedPage {
+    private List<SinglePostRes> posts;
+    // postId -> 작성자 userId
+    private Map<Long, Long> writerIds;
+
+    @JsonIgnore
+    public List<Long> getPostIds() {
+        return posts.stream()
+                .map(SinglePostRes::getPostId)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,19 @@
+package com.spring.familymoments.domain.post.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "캘린더 일자별 게시물 수 Response")
+public class PostCalendarRes {
+    @Schema(description = "게시물 작성일", example = "2023-08-01")
+    private LocalDate date;
+    @Schema(description = "해당 일자의 게시물 수", example = "3")
+    private int count;
+}
@@ -0,0 +1,54 @@
+package com.spring.familymoments.domain.post.model;
+
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.domain.post.entity.Post;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.spring.familymoments.config.BaseResponseStatus.minnie_POSTS_INVALID_CURSOR;
+
+/**
+ * 피드, 앨범 페이징에 사용하는 cursor
+ * (createdAt, postId) 쌍을 base64 문자열로 인코딩해 클라이언트에게는 불투명한 토큰으로 전달
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final long postId;
+
+    public static PostCursor from(Post post) {
+        return new PostCursor(post.getCreatedAt(), post.getPostId());
+    }
+
+    public static PostCursor of(LocalDateTime createdAt, long postId) {
+        return new PostCursor(createdAt, postId);
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+
+            return new PostCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+            throw new BaseException(minnie_POSTS_INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.spring.familymoments.domain.post.model;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 가족의 일자별 ACTIVE 게시물 수
+ * 게시물을 일괄 삭제, 비활성화하기 전에 조회해 두고 캘린더를 그만큼 감소
+ */
+@Getter
+public class PostDayCount {
+    private final long familyId;
+    private final LocalDate postDate;
+    private final long count;
+
+    // 일자별 게시물 수 projection
+    public PostDayCount(Long familyId, Integer year, Integer month, Integer day, Long count) {
+        this.familyId = familyId;
+        this.postDate = LocalDate.of(year, month, day);
+        this.count = count;
+    }
+}
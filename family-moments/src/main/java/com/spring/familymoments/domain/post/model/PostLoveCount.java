@@ -0,0 +1,14 @@
+package com.spring.familymoments.domain.post.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글별 좋아요 수(Post.countLove) projection
+ */
+@Getter
+@AllArgsConstructor
+public class PostLoveCount {
+    private Long postId;
+    private Integer countLove;
+}
@@ -0,0 +1,31 @@
+package com.spring.familymoments.domain.post.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.spring.familymoments.domain.common.BaseEntity;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostOutboxPayload {
+    private String content;
+    private List<String> urls;
+    // 생성된 이미지 variant (UPDATE_CONTENT, UPDATE_VARIANTS)
+    private String variants;
+    private LocalDateTime createdAt;
+    private BaseEntity.Status status;
+    private Long writerId;
+    private String writerNickname;
+    private String writerProfileImg;
+    private Long countComment;
+    private Long countLove;
+    // 작성자 단위 변경 반영 후 피드 캐시를 무효화할 가족
+    private List<Long> familyIds;
+    // 게시물의 contentVersion (UPSERT, UPDATE_CONTENT, DELETE), 이 값보다 새 버전의 post document 는 덮어쓰지 않음
+    private Integer version;
+}
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 import com.spring.familymoments.domain.common.BaseEntity;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Setter
 @Getter
@@ -39,6 +40,10 @@ public class SinglePostRes {
     private Boolean loved;
     @Schema(description = "본인의 게시물 여부", example = "true or false")
     private Boolean written;
+    @Schema(description = "다음 페이지 조회에 사용할 cursor", example = "MjAyMy0wOC0wMVQwMDo0NzozOV8xMjM0Mw")
+    private String cursor;
+    @Schema(description = "이미지 variant(full, feed, album) 별 사진 리스트, 생성 전에는 생략", example = "{\"feed\": [https://url.com/variants/feed/img.jpg]}")
+    private Map<String, List<String>> variantImgs;
 
     public SinglePostRes(Long postId, String writer, String profileImg, String content, String imgs, LocalDateTime createdAt, int countLove, BaseEntity.Status status) {
         this.postId = postId;
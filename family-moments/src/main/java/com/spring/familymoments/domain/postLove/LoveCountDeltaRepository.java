@@ -0,0 +1,20 @@
+package com.spring.familymoments.domain.postLove;
+
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+
+public interface LoveCountDeltaRepository extends JpaRepository<LoveCountDelta, Long> {
+
+    // 가장 오래된 변화량부터 잠금 조회: 여러 서버의 flush 가 같은 변화량을 중복 반영하지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM LoveCountDelta d WHERE d.target = :target ORDER BY d.deltaId ASC")
+    List<LoveCountDelta> findOldestForUpdate(@Param("target") Target target, Pageable pageable);
+}
@@ -0,0 +1,66 @@
+package com.spring.familymoments.domain.postLove;
+
+import com.spring.familymoments.domain.commentLove.CommentLoveService;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class LoveCountScheduler {
+    private final PostLoveService postLoveService;
+    private final CommentLoveService commentLoveService;
+    private final LoveCounterService loveCounterService;
+
+    @Value("${love.reconcile.batch-size:500}")
+    private int batchSize;
+
+    @Value("${love.counter.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    /**
+     * 좋아요 수 변화량 반영
+     * 쌓인 변화량이 batch 크기보다 적어질 때까지 batch 단위로 반복 반영
+     * 반영과 변화량 삭제가 한 트랜잭션이므로 중간에 장애가 나도 중복 반영하거나 유실하지 않음
+     */
+    @Scheduled(fixedDelayString = "${love.counter.flush-delay-ms:5000}")
+    public void flushLoveCount() {
+        for(Target target : Target.values()) {
+            try {
+                int flushed;
+                do {
+                    flushed = loveCounterService.flushBatch(target, flushBatchSize);
+                } while(flushed == flushBatchSize);
+            } catch (RuntimeException e) {
+                log.error("[flushLoveCount] 좋아요 수 반영 실패. target: {}", target, e);
+            }
+        }
+    }
+
+    /**
+     * 게시물, 댓글 좋아요 수 보정
+     * 누적된 변화량을 먼저 반영한 뒤 보정하며, batch 마다 트랜잭션을 나누어 한 번에 잠그는 행 수를 batch 크기 이하로 제한
+     * 보정 중에 새로 쌓인 변화량이 있는 대상은 건너뛰어, 보정한 값에 같은 좋아요가 다시 더해지지 않도록 함
+     */
+    @Scheduled(cron = "${love.reconcile.cron:0 30 4 * * *}")
+    public void reconcileCountLove() {
+        log.info("=== LOVE COUNT RECONCILE START ===");
+        flushLoveCount();
+
+        long lastPostId = 0L;
+        while(lastPostId != PostLoveService.RECONCILE_DONE) {
+            lastPostId = postLoveService.reconcileCountLove(lastPostId, batchSize);
+        }
+
+        long lastCommentId = 0L;
+        while(lastCommentId != CommentLoveService.RECONCILE_DONE) {
+            lastCommentId = commentLoveService.reconcileCountLove(lastCommentId, batchSize);
+        }
+
+        log.info("=== LOVE COUNT RECONCILE END ===");
+    }
+}
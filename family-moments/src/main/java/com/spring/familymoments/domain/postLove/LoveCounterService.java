@@ -0,0 +1,86 @@
+package com.spring.familymoments.domain.postLove;
+
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReadModelService;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 좋아요 수 write-behind 카운터
+ * 좋아요 작성/취소 트랜잭션에는 변화량 행(LoveCountDelta)만 추가하고, LoveCountScheduler 가 주기적으로 모아서 countLove 에 반영
+ * 같은 게시물에 동시에 좋아요가 눌려도 Post, Comment 행을 잠그지 않으며, 커밋된 변화량은 장애가 나도 유실되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoveCounterService {
+    private final LoveCountDeltaRepository loveCountDeltaRepository;
+    private final PostRepository postRepository;
+    private final CommentWithUserRepository commentWithUserRepository;
+    private final PostFeedCacheDao postFeedCacheDao;
+    private final PostReadModelService postReadModelService;
+
+    /**
+     * 좋아요 작성/취소 트랜잭션에 변화량을 함께 저장 (롤백되면 함께 사라짐)
+     */
+    public void increase(Target target, long targetId) {
+        loveCountDeltaRepository.save(LoveCountDelta.of(target, targetId, 1));
+    }
+
+    public void decrease(Target target, long targetId) {
+        loveCountDeltaRepository.save(LoveCountDelta.of(target, targetId, -1));
+    }
+
+    /**
+     * flushBatch
+     * 가장 오래된 변화량을 batchSize 개까지 잠근 뒤 대상별로 합산하고,
+     * 합산한 값별로 묶어 UPDATE ... SET countLove = countLove + ? 로 반영한 다음 같은 트랜잭션에서 변화량 삭제
+     * @return 반영한 변화량 행 수
+     */
+    @Transactional
+    public int flushBatch(Target target, int batchSize) {
+        List<LoveCountDelta> loveCountDeltas = loveCountDeltaRepository.findOldestForUpdate(target, PageRequest.of(0, batchSize));
+        if(loveCountDeltas.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> deltas = loveCountDeltas.stream()
+                .collect(Collectors.groupingBy(LoveCountDelta::getTargetId,
+                        Collectors.summingLong(LoveCountDelta::getDelta)));
+        Map<Long, List<Long>> targetIdsByDelta = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        for(Map.Entry<Long, List<Long>> entry : targetIdsByDelta.entrySet()) {
+            if(target == Target.POST) {
+                postRepository.addCountLove(entry.getKey(), entry.getValue());
+                postRepository.findFamilyIdsByPostIds(entry.getValue())
+                        .forEach(postFeedCacheDao::evictFamily);
+            } else {
+                commentWithUserRepository.addCountLove(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if(target == Target.POST) {
+            // read model 의 좋아요 수는 같은 트랜잭션에서 반영된 값을 outbox 에 기록 (UPDATE 로 잠근 게시물만)
+            postReadModelService.refreshCountLove(targetIdsByDelta.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList()));
+        }
+
+        loveCountDeltaRepository.deleteAllInBatch(loveCountDeltas);
+        return loveCountDeltas.size();
+    }
+}
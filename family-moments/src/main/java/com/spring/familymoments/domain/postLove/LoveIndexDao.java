@@ -0,0 +1,141 @@
+package com.spring.familymoments.domain.postLove;
+
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import com.spring.familymoments.domain.postLove.model.LoveIndexEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * 게시물, 댓글별 좋아요를 누른 userId 집합 (Redis set)
+ * 재구성이 끝난 뒤에만 BUILT 표시를 남기며, 표시가 없으면 조회 측에서 MySQL 로 대체
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoveIndexDao {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String MEMBERS_PREFIX = "LOVE_MEMBERS(";
+    private static final String BUILT_PREFIX = "LOVE_INDEX_BUILT(";
+    private static final int SCAN_COUNT = 1000;
+
+    public boolean isBuilt(Target target) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(builtKey(target)));
+    }
+
+    public void add(Target target, long targetId, long userId) {
+        redisTemplate.opsForSet().add(membersKey(target, targetId), String.valueOf(userId));
+    }
+
+    public void remove(Target target, long targetId, long userId) {
+        redisTemplate.opsForSet().remove(membersKey(target, targetId), String.valueOf(userId));
+    }
+
+    /**
+     * getLovedIds
+     * 한 페이지 분량의 대상 id 에 대해 SISMEMBER 를 pipeline 으로 한 번에 요청
+     * @return 유저가 좋아요를 누른 대상 id 집합
+     */
+    @SuppressWarnings("unchecked")
+    public Set<Long> getLovedIds(Target target, long userId, List<Long> targetIds) {
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<String> valueSerializer = (RedisSerializer<String>) redisTemplate.getValueSerializer();
+        byte[] member = valueSerializer.serialize(String.valueOf(userId));
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for(Long targetId : targetIds) {
+                connection.sIsMember(keySerializer.serialize(membersKey(target, targetId)), member);
+            }
+            return null;
+        });
+
+        Set<Long> lovedIds = new HashSet<>();
+        for(int i = 0; i < targetIds.size(); i++) {
+            if(Boolean.TRUE.equals(results.get(i))) {
+                lovedIds.add(targetIds.get(i));
+            }
+        }
+        return lovedIds;
+    }
+
+    /**
+     * clear
+     * BUILT 표시를 먼저 지운 뒤 대상의 모든 집합을 SCAN 으로 찾아 삭제
+     */
+    public void clear(Target target) {
+        redisTemplate.delete(builtKey(target));
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(MEMBERS_PREFIX + target.name() + "):*")
+                .count(SCAN_COUNT)
+                .build();
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while(cursor.hasNext()) {
+                keys.add(cursor.next());
+                if(keys.size() == SCAN_COUNT) {
+                    redisTemplate.delete(keys);
+                    keys.clear();
+                }
+            }
+        }
+        if(!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addAll(Target target, List<LoveIndexEntry> entries) {
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<String> valueSerializer = (RedisSerializer<String>) redisTemplate.getValueSerializer();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for(LoveIndexEntry entry : entries) {
+                connection.sAdd(keySerializer.serialize(membersKey(target, entry.getTargetId())),
+                        valueSerializer.serialize(String.valueOf(entry.getUserId())));
+            }
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public void removeAll(Target target, List<LoveIndexEntry> entries) {
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<String> valueSerializer = (RedisSerializer<String>) redisTemplate.getValueSerializer();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for(LoveIndexEntry entry : entries) {
+                connection.sRem(keySerializer.serialize(membersKey(target, entry.getTargetId())),
+                        valueSerializer.serialize(String.valueOf(entry.getUserId())));
+            }
+            return null;
+        });
+    }
+
+    // 삭제된 대상의 집합을 한 번에 삭제
+    public void deleteAll(Target target, Collection<Long> targetIds) {
+        List<String> keys = new ArrayList<>();
+        for(Long targetId : targetIds) {
+            keys.add(membersKey(target, targetId));
+        }
+        redisTemplate.delete(keys);
+    }
+
+    public void markBuilt(Target target) {
+        redisTemplate.opsForValue().set(builtKey(target), "1");
+    }
+
+    private String membersKey(Target target, long targetId) {
+        return MEMBERS_PREFIX + target.name() + "):" + targetId;
+    }
+
+    private String builtKey(Target target) {
+        return BUILT_PREFIX + target.name() + "):";
+    }
+}
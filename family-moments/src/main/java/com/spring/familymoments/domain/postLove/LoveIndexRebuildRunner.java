@@ -0,0 +1,26 @@
+package com.spring.familymoments.domain.postLove;
+
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 인덱스 재구성
+ * Redis 가 비어 있는 상태로 배포하는 경우 --love.index.rebuild-on-startup=true 로 실행
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "love.index.rebuild-on-startup", havingValue = "true")
+public class LoveIndexRebuildRunner implements ApplicationRunner {
+    private final LoveIndexService loveIndexService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for(Target target : Target.values()) {
+            loveIndexService.rebuild(target);
+        }
+    }
+}
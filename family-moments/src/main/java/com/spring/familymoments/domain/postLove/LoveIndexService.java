@@ -0,0 +1,113 @@
+package com.spring.familymoments.domain.postLove;
+
+import com.spring.familymoments.domain.commentLove.CommentLoveRepository;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import com.spring.familymoments.domain.postLove.model.LoveIndexEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.spring.familymoments.utils.TransactionUtils.afterCommit;
+
+/**
+ * 좋아요 여부 인덱스
+ * 좋아요 작성/취소 트랜잭션이 커밋된 뒤 Redis 집합에 반영하고, 피드/댓글 조회 시 페이지 단위로 좋아요 여부를 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoveIndexService {
+    private final LoveIndexDao loveIndexDao;
+    private final PostLoveRepository postLoveRepository;
+    private final CommentLoveRepository commentLoveRepository;
+
+    @Value("${love.index.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    public void add(Target target, long targetId, long userId) {
+        afterCommit(() -> loveIndexDao.add(target, targetId, userId));
+    }
+
+    public void remove(Target target, long targetId, long userId) {
+        afterCommit(() -> loveIndexDao.remove(target, targetId, userId));
+    }
+
+    // 일괄 비활성화로 좋아요가 모두 사라진 대상의 집합을 커밋 후 삭제
+    public void removeTargets(Target target, Collection<Long> targetIds) {
+        if(targetIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(targetIds);
+        afterCommit(() -> loveIndexDao.deleteAll(target, ids));
+    }
+
+    /**
+     * getLovedIds
+     * 인덱스가 재구성되기 전이면 Optional.empty() 를 반환하며, 호출 측에서 MySQL 로 조회
+     * @return 유저가 좋아요를 누른 대상 id 집합
+     */
+    public Optional<Set<Long>> getLovedIds(Target target, long userId, List<Long> targetIds) {
+        if(!loveIndexDao.isBuilt(target)) {
+            return Optional.empty();
+        }
+        return Optional.of(loveIndexDao.getLovedIds(target, userId, targetIds));
+    }
+
+    /**
+     * rebuild
+     * 기존 인덱스를 지우고 PostLove/CommentLove 를 id 순서로 batch 조회해 다시 채운 뒤 BUILT 표시
+     * 재구성 중에는 BUILT 표시가 없으므로 조회는 MySQL 로 대체됨
+     * batch 마다 짧은 조회로 읽고, 채운 뒤 MySQL 에서 다시 확인해 그 사이 취소된 좋아요를 제거
+     * (조회 후 채우기 전에 취소가 커밋되어 SREM 이 먼저 실행된 경우에도 다시 추가된 채로 남지 않음)
+     */
+    public void rebuild(Target target) {
+        log.info("=== LOVE INDEX REBUILD START: {} ===", target);
+        loveIndexDao.clear(target);
+
+        long lastLoveId = 0L;
+        long count = 0L;
+        while(true) {
+            PageRequest pageable = PageRequest.of(0, rebuildBatchSize);
+            List<LoveIndexEntry> entries = target == Target.POST
+                    ? postLoveRepository.findActiveLovesAfter(lastLoveId, pageable)
+                    : commentLoveRepository.findActiveLovesAfter(lastLoveId, pageable);
+            if(entries.isEmpty()) {
+                break;
+            }
+
+            loveIndexDao.addAll(target, entries);
+            removeCanceled(target, entries);
+            count += entries.size();
+            lastLoveId = entries.get(entries.size() - 1).getLoveId();
+        }
+
+        loveIndexDao.markBuilt(target);
+        log.info("=== LOVE INDEX REBUILD END: {}, {} entries ===", target, count);
+    }
+
+    private void removeCanceled(Target target, List<LoveIndexEntry> entries) {
+        List<Long> loveIds = entries.stream()
+                .map(LoveIndexEntry::getLoveId)
+                .collect(Collectors.toList());
+        Set<Long> activeLoveIds = new HashSet<>(target == Target.POST
+                ? postLoveRepository.findActiveLoveIdsByIdIn(loveIds)
+                : commentLoveRepository.findActiveLoveIdsByIdIn(loveIds));
+
+        List<LoveIndexEntry> canceled = entries.stream()
+                .filter(entry -> !activeLoveIds.contains(entry.getLoveId()))
+                .collect(Collectors.toList());
+        if(!canceled.isEmpty()) {
+            loveIndexDao.removeAll(target, canceled);
+        }
+    }
+}
@@ -2,13 +2,17 @@ package com.spring.familymoments.domain.postLove;
 
 import com.spring.familymoments.domain.post.entity.Post;
 import com.spring.familymoments.domain.postLove.entity.PostLove;
+import com.spring.familymoments.domain.postLove.model.LoveIndexEntry;
 import com.spring.familymoments.domain.postLove.model.PostLoveRes;
 import com.spring.familymoments.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,8 +30,40 @@ public interface PostLoveRepository extends JpaRepository<PostLove, Long> {
 
     boolean existsByPostIdAndUserId(Post post, User user);
 
+    // 피드 페이지 내에서 유저가 좋아요를 누른 postId 일괄 조회
+    @Query("SELECT pl.postId.postId FROM PostLove pl " +
+            "WHERE pl.userId.userId = :userId " +
+            "AND pl.postId.postId IN :postIds")
+    List<Long> findLovedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 인덱스 재구성: postLoveId 순서로 batch 조회
+    @Query("SELECT new com.spring.familymoments.domain.postLove.model.LoveIndexEntry(pl.postLoveId, pl.postId.postId, pl.userId.userId) " +
+            "FROM PostLove pl WHERE pl.postLoveId > :lastPostLoveId AND pl.status = 'ACTIVE' " +
+            "ORDER BY pl.postLoveId ASC")
+    List<LoveIndexEntry> findActiveLovesAfter(@Param("lastPostLoveId") long lastPostLoveId, Pageable pageable);
+
+    @Query("SELECT pl.postLoveId FROM PostLove pl WHERE pl.postLoveId IN :postLoveIds AND pl.status = 'ACTIVE'")
+    List<Long> findActiveLoveIdsByIdIn(@Param("postLoveIds") Collection<Long> postLoveIds);
+
     @Query("SELECT pl FROM PostLove pl WHERE pl.userId.userId = :userId")
     List<PostLove> findPostLovesByUserId(@Param("userId") Long userId);
     @Query("SELECT pl FROM PostLove pl WHERE pl.postId IN (SELECT p FROM Post p WHERE p.writer.userId = :userId)")
     List<PostLove> findPostLovesByPostUserId(Long userId);
+
+    // [가족 삭제] 게시물들의 좋아요 일괄 비활성화
+    @Modifying
+    @Query(value = "UPDATE PostLove SET status = 'INACTIVE', updatedAt = NOW() " +
+            "WHERE postId IN :postIds AND status = 'ACTIVE'", nativeQuery = true)
+    int inactivateByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    // [회원 탈퇴] loveId 순서로 유저의 ACTIVE 좋아요 조회
+    @Query("SELECT new com.spring.familymoments.domain.postLove.model.LoveIndexEntry(pl.postLoveId, pl.postId.postId, pl.userId.userId) " +
+            "FROM PostLove pl WHERE pl.userId.userId = :userId AND pl.status = 'ACTIVE' " +
+            "ORDER BY pl.postLoveId ASC")
+    List<LoveIndexEntry> findActiveLovesByUserId(@Param("userId") long userId, Pageable pageable);
+
+    // [회원 탈퇴] 남은(비활성화된) 좋아요 limit 개씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM PostLove WHERE userId = :userId LIMIT :limit", nativeQuery = true)
+    int deleteByUserId(@Param("userId") long userId, @Param("limit") int limit);
 }
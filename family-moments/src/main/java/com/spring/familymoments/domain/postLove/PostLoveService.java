@@ -2,9 +2,12 @@ package com.spring.familymoments.domain.postLove;
 
 import com.spring.familymoments.config.BaseException;
 import com.spring.familymoments.domain.common.BaseEntity;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReadModelService;
 import com.spring.familymoments.domain.post.PostRepository;
 import com.spring.familymoments.domain.post.PostWithLoveRepository;
 import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta;
 import com.spring.familymoments.domain.postLove.entity.PostLove;
 import com.spring.familymoments.domain.postLove.model.PostLoveReq;
 import com.spring.familymoments.domain.postLove.model.PostLoveRes;
@@ -12,10 +15,16 @@ import com.spring.familymoments.domain.user.UserRepository;
 import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.spring.familymoments.config.BaseResponseStatus.*;
 
@@ -28,6 +37,12 @@ public class PostLoveService {
     private final UserRepository userRepository;
     private final PostWithLoveRepository postWithLoveRepository;
     private final PostRepository postRepository;
+    private final PostFeedCacheDao postFeedCacheDao;
+    private final LoveCounterService loveCounterService;
+    private final LoveIndexService loveIndexService;
+    private final PostReadModelService postReadModelService;
+
+    public static final long RECONCILE_DONE = -1L;
 
     /**
      * checkUserPostLove
@@ -45,6 +60,22 @@ public class PostLoveService {
         return postLoveRepository.existsByPostIdAndUserId(post, member);
     }
 
+    /**
+     * getLovedPostIds
+     * 피드 페이지의 postId 중 유저가 좋아요를 누른 postId 목록을 한 번에 조회
+     * 좋아요 인덱스(Redis)가 준비된 경우 pipeline 1회로, 아니면 IN 쿼리 1회로 조회
+     * @return 좋아요를 누른 postId 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getLovedPostIds(Long userId, Collection<Long> postIds) {
+        if(postIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        return loveIndexService.getLovedIds(LoveCountDelta.Target.POST, userId, new ArrayList<>(postIds))
+                .orElseGet(() -> new HashSet<>(postLoveRepository.findLovedPostIds(userId, postIds)));
+    }
+
     /**
      * createLove
      * [POST]
@@ -68,8 +99,10 @@ public class PostLoveService {
                 .userId(member)
                 .build();
 
-        post.increaseCountLove();
         postLoveRepository.save(postLove);
+        loveCounterService.increase(LoveCountDelta.Target.POST, post.getPostId());
+        // 피드 캐시는 좋아요 수가 반영될 때(LoveCounterService.flushBatch) 무효화
+        loveIndexService.add(LoveCountDelta.Target.POST, post.getPostId(), member.getUserId());
     }
 
     /**
@@ -93,8 +126,9 @@ public class PostLoveService {
         PostLove postLove = postLoveRepository.findByPostIdAndUserId(post, member)
                 .orElseThrow(() -> new BaseException(FIND_FAIL_POSTLOVE));
 
-        post.decreaseCountLove();
         postLoveRepository.delete(postLove);
+        loveCounterService.decrease(LoveCountDelta.Target.POST, post.getPostId());
+        loveIndexService.remove(LoveCountDelta.Target.POST, post.getPostId(), member.getUserId());
     }
 
     /**
@@ -114,6 +148,31 @@ public class PostLoveService {
         return users;
     }
 
+    /**
+     * reconcileCountLove
+     * lastPostId 이후 batchSize 개의 post 중 countLove 가 실제 좋아요 수와 다른 post 를 찾아 보정
+     * 어긋난 post 만 UPDATE 하므로 batch 내 나머지 post 에는 잠금을 걸지 않음
+     * @return 다음 batch 의 기준 postId, 더 이상 조회할 post 가 없으면 RECONCILE_DONE
+     */
+    @Transactional
+    public long reconcileCountLove(long lastPostId, int batchSize) {
+        List<Long> postIds = postRepository.findPostIdsAfter(lastPostId, PageRequest.of(0, batchSize));
+        if(postIds.isEmpty()) {
+            return RECONCILE_DONE;
+        }
+
+        List<Long> driftedPostIds = postRepository.findDriftedCountLovePostIds(postIds);
+        if(!driftedPostIds.isEmpty()) {
+            postRepository.repairCountLove(driftedPostIds);
+            postReadModelService.refreshCountLove(driftedPostIds);
+            postRepository.findFamilyIdsByPostIds(driftedPostIds)
+                    .forEach(postFeedCacheDao::evictFamily);
+            log.info("[reconcileCountLove] countLove 보정: {}", driftedPostIds);
+        }
+
+        return postIds.size() < batchSize ? RECONCILE_DONE : postIds.get(postIds.size() - 1);
+    }
+
     /**
      * checkDuplicatePostLove
      * [GET]
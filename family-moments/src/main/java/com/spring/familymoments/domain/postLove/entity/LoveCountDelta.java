@@ -0,0 +1,48 @@
+package com.spring.familymoments.domain.postLove.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+/**
+ * 좋아요 수 변화량
+ * 좋아요 작성/취소 트랜잭션에서 PostLove, CommentLove 와 함께 저장되므로 커밋된 좋아요의 변화량은 유실되지 않음
+ * LoveCountScheduler 가 batch 단위로 모아 Post, Comment 의 countLove 에 반영하고 같은 트랜잭션에서 삭제
+ */
+@Entity
+@Table(name = "LoveCountDelta", indexes = {
+        // 보정 시 반영되지 않은 변화량이 있는 대상 확인
+        @Index(name = "idx_love_count_delta_target", columnList = "target, targetId")
+})
+@Getter
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Builder
+public class LoveCountDelta {
+
+    public enum Target { POST, COMMENT }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deltaId", nullable = false, updatable = false)
+    private Long deltaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target", nullable = false, length = 16)
+    private Target target;
+
+    // postId 또는 commentId
+    @Column(name = "targetId", nullable = false)
+    private Long targetId;
+
+    @Column(name = "delta", nullable = false)
+    private int delta;
+
+    public static LoveCountDelta of(Target target, long targetId, int delta) {
+        return LoveCountDelta.builder()
+                .target(target)
+                .targetId(targetId)
+                .delta(delta)
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.spring.familymoments.domain.postLove.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좋아요 인덱스 재구성용 projection
+ * loveId: PostLove/CommentLove id, targetId: postId/commentId
+ */
+@Getter
+@AllArgsConstructor
+public class LoveIndexEntry {
+    private Long loveId;
+    private Long targetId;
+    private Long userId;
+}
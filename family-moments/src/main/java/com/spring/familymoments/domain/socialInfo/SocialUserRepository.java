@@ -3,6 +3,7 @@ package com.spring.familymoments.domain.socialInfo;
 import com.spring.familymoments.domain.socialInfo.entity.SocialInfo;
 import com.spring.familymoments.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,4 +19,9 @@ public interface SocialUserRepository extends JpaRepository<SocialInfo, Long> {
 
     @Query("SELECT si FROM SocialInfo si WHERE si.user = :user AND si.status = 'ACTIVE' ")
     List<SocialInfo> findSocialInfoByUser(User user);
+
+    // [회원 탈퇴] 유저의 소셜 연동 정보 limit 개씩 삭제
+    @Modifying
+    @Query(value = "DELETE FROM SocialInfo WHERE `user` = :userId LIMIT :limit", nativeQuery = true)
+    int deleteByUserId(@Param("userId") long userId, @Param("limit") int limit);
 }
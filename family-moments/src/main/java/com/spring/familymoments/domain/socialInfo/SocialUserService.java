@@ -10,6 +10,7 @@ import com.spring.familymoments.domain.socialInfo.model.*;
 import com.spring.familymoments.domain.user.AuthService;
 import com.spring.familymoments.domain.user.UserDetailsService;
 import com.spring.familymoments.domain.user.UserRepository;
+import com.spring.familymoments.domain.user.UserSearchIndexService;
 import com.spring.familymoments.domain.user.UserService;
 import com.spring.familymoments.domain.user.entity.User;
 import com.spring.familymoments.domain.user.model.PostLoginRes;
@@ -51,6 +52,7 @@ public class SocialUserService {
     private final AuthService authService;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final UserService userService;
+    private final UserSearchIndexService userSearchIndexService;
     private final AwsS3Service awsS3Service;
     private final FCMService fcmService;
     private final String SERVER = "Server";
@@ -202,6 +204,7 @@ public class SocialUserService {
                         .user(user)
                         .build()
         );
+        userSearchIndexService.add(user.getId());
 
         return socialInfo.getUser().getUserId();
     }
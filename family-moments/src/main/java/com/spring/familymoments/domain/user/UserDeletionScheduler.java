@@ -0,0 +1,41 @@
+package com.spring.familymoments.domain.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Optional;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class UserDeletionScheduler {
+    private final UserDeletionService userDeletionService;
+
+    @Value("${user.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 회원 탈퇴 작업 처리
+     * 남은 작업이 없을 때까지 chunk 단위로 반복 처리 (chunk 마다 별도 트랜잭션)
+     * 실패한 작업은 실패를 기록해 backoff 동안 건너뛰고, 다음 작업을 계속 처리
+     */
+    @Scheduled(fixedDelayString = "${user.deletion.delay-ms:1000}")
+    public void processUserDeletion() {
+        try {
+            Optional<Long> jobId;
+            while((jobId = userDeletionService.findNextJobId()).isPresent()) {
+                try {
+                    userDeletionService.processChunk(jobId.get(), chunkSize);
+                } catch (RuntimeException e) {
+                    log.error("[processUserDeletion] 회원 탈퇴 작업 실패. jobId: {}", jobId.get(), e);
+                    userDeletionService.recordFailure(jobId.get(), e);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("[processUserDeletion] 회원 탈퇴 작업 실패", e);
+        }
+    }
+}
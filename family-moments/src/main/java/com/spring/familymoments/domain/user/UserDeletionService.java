@@ -0,0 +1,210 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.domain.alarmSetting.AlarmSettingRepository;
+import com.spring.familymoments.domain.awsS3.ImageBlobService;
+import com.spring.familymoments.domain.comment.CommentReportRepository;
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.commentLove.CommentLoveRepository;
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import com.spring.familymoments.domain.post.PostCalendarService;
+import com.spring.familymoments.domain.post.PostContentStore;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReportRepository;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.model.PostDayCount;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import com.spring.familymoments.domain.postLove.LoveCounterService;
+import com.spring.familymoments.domain.postLove.LoveIndexService;
+import com.spring.familymoments.domain.postLove.PostLoveRepository;
+import com.spring.familymoments.domain.postLove.model.LoveIndexEntry;
+import com.spring.familymoments.domain.socialInfo.SocialUserRepository;
+import com.spring.familymoments.domain.user.entity.UserDeletionJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 탈퇴 작업 처리
+ * 유저를 참조하는 테이블마다 chunk 크기의 일괄 UPDATE/DELETE 를 별도 트랜잭션으로 실행하고, 마지막에 유저 행 삭제
+ * 한 트랜잭션이 잠그는 행 수는 chunk 크기로 제한되고, 유저 행 삭제 시점에는 참조하는 행이 남아 있지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDeletionService {
+    private final UserDeletionJobRepository userDeletionJobRepository;
+    private final UserRepository userRepository;
+    private final CommentWithUserRepository commentWithUserRepository;
+    private final CommentLoveRepository commentLoveRepository;
+    private final PostLoveRepository postLoveRepository;
+    private final PostRepository postRepository;
+    private final PostReportRepository postReportRepository;
+    private final CommentReportRepository commentReportRepository;
+    private final UserFamilyRepository userFamilyRepository;
+    private final AlarmSettingRepository alarmSettingRepository;
+    private final SocialUserRepository socialUserRepository;
+    private final LoveCounterService loveCounterService;
+    private final LoveIndexService loveIndexService;
+    private final PostContentStore postContentStore;
+    private final ImageBlobService imageBlobService;
+    private final PostCalendarService postCalendarService;
+    private final PostFeedCacheDao postFeedCacheDao;
+
+    @Value("${user.deletion.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${user.deletion.retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    // 회원 탈퇴 요청 트랜잭션에서 호출 (이미 탈퇴 처리 중인 유저면 무시)
+    public void enqueue(long userId) {
+        if(userDeletionJobRepository.existsByUserId(userId)) {
+            return;
+        }
+        userDeletionJobRepository.save(UserDeletionJob.builder()
+                .userId(userId)
+                .build());
+    }
+
+    /**
+     * findNextJobId
+     * 다시 시도할 시각이 지난 가장 오래된 탈퇴 작업 (backoff 중인 작업은 건너뜀)
+     * @return 처리할 작업이 없으면 Optional.empty()
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findNextJobId() {
+        return userDeletionJobRepository.findRunnableJobIds(LocalDateTime.now(), PageRequest.of(0, 1)).stream()
+                .findFirst();
+    }
+
+    /**
+     * processChunk
+     * 탈퇴 작업의 현재 단계를 chunk 하나만큼 처리, 처리할 행이 없으면 다음 단계로 이동
+     * @return 작업이 그 사이 다른 서버에서 끝났거나 backoff 중이면 false
+     */
+    @Transactional
+    public boolean processChunk(long jobId, int chunkSize) {
+        UserDeletionJob job = userDeletionJobRepository.findByIdForUpdate(jobId).orElse(null);
+        if(job == null || job.getStatus() != UserDeletionJob.Status.PENDING
+                || (job.getNextAttemptAt() != null && job.getNextAttemptAt().isAfter(LocalDateTime.now()))) {
+            return false;
+        }
+        long userId = job.getUserId();
+        job.succeed();
+
+        if(job.getPhase() == UserDeletionJob.Phase.USER) {
+            userRepository.deleteById(userId);
+            job.finish();
+            log.info("[UserDeletionService] 회원 탈퇴 완료. userId: {}, rows: {}", userId, job.getProcessedRows());
+            return true;
+        }
+
+        int processed = processPhase(job.getPhase(), userId, chunkSize);
+        if(processed == 0) {
+            job.nextPhase();
+        } else {
+            job.advance(processed);
+        }
+        return true;
+    }
+
+    /**
+     * recordFailure
+     * chunk 처리 트랜잭션이 롤백된 뒤 별도 트랜잭션에서 실패를 기록
+     * 연속으로 user.deletion.max-attempts 번 실패하면 FAILED 로 남기고 다음 작업 처리
+     */
+    @Transactional
+    public void recordFailure(long jobId, RuntimeException e) {
+        userDeletionJobRepository.findByIdForUpdate(jobId)
+                .filter(job -> job.getStatus() == UserDeletionJob.Status.PENDING)
+                .ifPresent(job -> {
+                    job.fail(e.toString(), maxAttempts, Duration.ofMillis(retryDelayMs));
+                    if(job.getStatus() == UserDeletionJob.Status.FAILED) {
+                        log.error("[UserDeletionService] 회원 탈퇴 작업 중단. jobId: {}, userId: {}, phase: {}, attempts: {}",
+                                jobId, job.getUserId(), job.getPhase(), job.getAttempts());
+                    }
+                });
+    }
+
+    private int processPhase(UserDeletionJob.Phase phase, long userId, int chunkSize) {
+        switch(phase) {
+            case COMMENTS:
+                return commentWithUserRepository.clearWriterByUserId(userId, chunkSize);
+            case COMMENT_LOVES:
+                return deleteLoves(Target.COMMENT, userId, chunkSize);
+            case POST_LOVES:
+                return deleteLoves(Target.POST, userId, chunkSize);
+            case POSTS:
+                return deletePosts(userId, chunkSize);
+            case REPORTS:
+                return postReportRepository.deleteByUserId(userId, chunkSize)
+                        + commentReportRepository.deleteByUserId(userId, chunkSize);
+            case MEMBERSHIPS:
+                return userFamilyRepository.deleteByUserId(userId, chunkSize)
+                        + userFamilyRepository.clearInviteUserByUserId(userId, chunkSize);
+            case SETTINGS:
+                return alarmSettingRepository.deleteByUserId(userId, chunkSize)
+                        + socialUserRepository.deleteByUserId(userId, chunkSize);
+            default:
+                throw new IllegalStateException("Unexpected phase: " + phase);
+        }
+    }
+
+    // ACTIVE 좋아요는 좋아요 수, 인덱스에서 빼면서 삭제하고, 남은 비활성화된 좋아요는 일괄 삭제
+    private int deleteLoves(Target target, long userId, int chunkSize) {
+        PageRequest pageable = PageRequest.of(0, chunkSize);
+        List<LoveIndexEntry> entries = target == Target.POST
+                ? postLoveRepository.findActiveLovesByUserId(userId, pageable)
+                : commentLoveRepository.findActiveLovesByUserId(userId, pageable);
+        if(entries.isEmpty()) {
+            return target == Target.POST
+                    ? postLoveRepository.deleteByUserId(userId, chunkSize)
+                    : commentLoveRepository.deleteByUserId(userId, chunkSize);
+        }
+
+        List<Long> loveIds = entries.stream()
+                .map(LoveIndexEntry::getLoveId)
+                .collect(Collectors.toList());
+        if(target == Target.POST) {
+            postLoveRepository.deleteAllByIdInBatch(loveIds);
+        } else {
+            commentLoveRepository.deleteAllByIdInBatch(loveIds);
+        }
+        for(LoveIndexEntry entry : entries) {
+            loveCounterService.decrease(target, entry.getTargetId());
+            loveIndexService.remove(target, entry.getTargetId(), userId);
+        }
+        return entries.size();
+    }
+
+    // 게시물 이미지 참조 수를 줄이고 본문(MySQL PostContent 또는 Mongo post document)을 삭제한 뒤 게시물 삭제
+    // 삭제 전 조회한 일자별 ACTIVE 게시물 수만큼 캘린더 감소
+    private int deletePosts(long userId, int chunkSize) {
+        List<Long> postIds = postRepository.findPostIdsByWriterId(userId, PageRequest.of(0, chunkSize));
+        if(postIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Post> posts = postRepository.findAllById(postIds);
+        imageBlobService.release(postContentStore.findImageUrls(posts));
+        postContentStore.deleteAll(posts);
+
+        List<Long> familyIds = postRepository.findFamilyIdsByPostIds(postIds);
+        List<PostDayCount> dayCounts = postRepository.countActiveByDayAndPostIdIn(postIds);
+        int deletedPosts = postRepository.deleteByPostIdIn(postIds);
+
+        postCalendarService.decrease(dayCounts);
+        familyIds.forEach(postFeedCacheDao::evictFamily);
+        return deletedPosts;
+    }
+}
@@ -1,5 +1,6 @@
 package com.spring.familymoments.domain.user;
 
+import com.spring.familymoments.domain.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,7 +18,9 @@ public class UserDetailsService implements org.springframework.security.core.use
     private final UserRepository userRepository;
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // 탈퇴 처리 중인 유저의 남은 토큰으로는 인증 불가
         return userRepository.findUserByUuid(username)
+                .filter(user -> user.getStatus() == User.Status.ACTIVE)
                 .orElseThrow(() -> new UsernameNotFoundException("[UserDetailService] 사용자를 찾을 수 없습니다."));
     }
 
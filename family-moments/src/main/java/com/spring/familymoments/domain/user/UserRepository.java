@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,12 +38,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "AND u.status = 'ACTIVE' ")
     Optional<User> findByEmail(@Param("email") String email);
 
-    //유저 검색
+    //유저 검색 (검색 인덱스가 없을 때): id 인덱스 범위 조회 후 limit 개에서 중단
     @Query("SELECT u FROM User u WHERE u.id LIKE :keyword% AND u.status = 'ACTIVE' ORDER BY u.id ASC ")
-    List<User> searchUserByKeyword(String keyword);
-    @Query("SELECT u, uf FROM User u LEFT JOIN UserFamily uf ON u.userId = uf.userId.userId " +
-            "WHERE (uf.familyId.familyId = :familyId) AND (u.userId = :userId) AND u.status = 'ACTIVE' AND uf.status = 'ACTIVE' ")
-    List<Object[]> findUsersByFamilyIdAndUserId(Long familyId, Long userId);
+    List<User> searchUserByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    //유저 검색: 검색 인덱스로 찾은 아이디의 유저 일괄 조회
+    @Query("SELECT u FROM User u WHERE u.id IN :ids AND u.status = 'ACTIVE'")
+    List<User> findActiveUsersByIdIn(@Param("ids") Collection<String> ids);
+
+    // [검색 인덱스 재구성] userId 순서로 ACTIVE 유저 batch 조회
+    @Query("SELECT u FROM User u WHERE u.status = 'ACTIVE' AND u.userId > :lastUserId ORDER BY u.userId ASC")
+    List<User> findActiveUsersAfter(@Param("lastUserId") long lastUserId, Pageable pageable);
+
+    // [이미지 정리] ACTIVE 유저의 프로필 이미지 url 을 url 순서로 batch 조회
+    @Query("SELECT DISTINCT u.profileImg FROM User u WHERE u.status = 'ACTIVE' AND u.profileImg > :lastUrl ORDER BY u.profileImg ASC")
+    List<String> findActiveProfileImgsAfter(@Param("lastUrl") String lastUrl, Pageable pageable);
 
     User findByNickname(String nickname);
-}
\ No newline at end of file
+
+    // [가족 강제 탈퇴] 아이디 목록의 userId 일괄 조회
+    @Query("SELECT u.userId FROM User u WHERE u.id IN :ids")
+    List<Long> findUserIdsByIdIn(@Param("ids") Collection<String> ids);
+}
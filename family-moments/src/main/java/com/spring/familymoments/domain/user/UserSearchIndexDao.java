@@ -0,0 +1,80 @@
+package com.spring.familymoments.domain.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisZSetCommands.Limit;
+import org.springframework.data.redis.connection.RedisZSetCommands.Range;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 유저 아이디 prefix 검색 인덱스 (Redis sorted set, 모든 score 0)
+ * member 는 '소문자 아이디 + 구분자 + 아이디' 로, ZRANGEBYLEX 로 대소문자 구분 없이 prefix 범위를 아이디 순서로 조회
+ * 재구성이 끝난 뒤에만 BUILT 표시를 남기며, 표시가 없으면 조회 측에서 MySQL 로 대체
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchIndexDao {
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String INDEX_KEY = "USER_SEARCH_INDEX";
+    private static final String BUILT_KEY = "USER_SEARCH_INDEX_BUILT";
+    // 어떤 문자보다 앞에 정렬되어 'ab' 가 'abc' 보다 먼저 조회됨
+    private static final String SEPARATOR = "\u0000";
+    // prefix 범위의 상한 (UTF-8 로 어떤 BMP 문자보다 뒤에 정렬됨)
+    private static final String RANGE_END = "\uffff";
+
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BUILT_KEY));
+    }
+
+    public void add(String id) {
+        redisTemplate.opsForZSet().add(INDEX_KEY, member(id), 0);
+    }
+
+    public void remove(String id) {
+        redisTemplate.opsForZSet().remove(INDEX_KEY, member(id));
+    }
+
+    /**
+     * search
+     * prefix 로 시작하는 아이디를 아이디 순서로 limit 개까지 조회
+     * @return 아이디 목록
+     */
+    public List<String> search(String prefix, int limit) {
+        String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        Set<String> members = redisTemplate.opsForZSet().rangeByLex(INDEX_KEY,
+                Range.range().gte(lowerPrefix).lt(lowerPrefix + RANGE_END),
+                Limit.limit().count(limit));
+        if(members == null) {
+            return Collections.emptyList();
+        }
+        return members.stream()
+                .map(member -> member.substring(member.indexOf(SEPARATOR) + 1))
+                .collect(Collectors.toList());
+    }
+
+    // BUILT 표시를 먼저 지운 뒤 인덱스 삭제
+    public void clear() {
+        redisTemplate.delete(BUILT_KEY);
+        redisTemplate.delete(INDEX_KEY);
+    }
+
+    public void addAll(List<String> ids) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = ids.stream()
+                .map(id -> ZSetOperations.TypedTuple.of(member(id), 0d))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(INDEX_KEY, tuples);
+    }
+
+    public void markBuilt() {
+        redisTemplate.opsForValue().set(BUILT_KEY, "1");
+    }
+
+    private static String member(String id) {
+        return id.toLowerCase(Locale.ROOT) + SEPARATOR + id;
+    }
+}
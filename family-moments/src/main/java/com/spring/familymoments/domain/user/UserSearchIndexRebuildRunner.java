@@ -0,0 +1,23 @@
+package com.spring.familymoments.domain.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 검색 인덱스 재구성
+ * Redis 가 비어 있는 상태로 배포하는 경우 --user.search-index.rebuild-on-startup=true 로 실행
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.search-index.rebuild-on-startup", havingValue = "true")
+public class UserSearchIndexRebuildRunner implements ApplicationRunner {
+    private final UserSearchIndexService userSearchIndexService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        userSearchIndexService.rebuild();
+    }
+}
@@ -0,0 +1,79 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.spring.familymoments.utils.TransactionUtils.afterCommit;
+
+/**
+ * 유저 아이디 prefix 검색 인덱스 관리
+ * 가입, 탈퇴 시 커밋 후 인덱스에 반영하고, 인덱스가 재구성되기 전에는 MySQL 로 검색
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserSearchIndexService {
+    private final UserSearchIndexDao userSearchIndexDao;
+    private final UserRepository userRepository;
+
+    @Value("${user.search-index.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    public void add(String id) {
+        afterCommit(() -> userSearchIndexDao.add(id));
+    }
+
+    public void remove(String id) {
+        afterCommit(() -> userSearchIndexDao.remove(id));
+    }
+
+    /**
+     * search
+     * 인덱스가 재구성되기 전이면 Optional.empty() 를 반환하며, 호출 측에서 MySQL 로 검색
+     * @return prefix 로 시작하는 아이디 목록 (아이디 순서, 최대 limit 개)
+     */
+    public Optional<List<String>> search(String prefix, int limit) {
+        if(!userSearchIndexDao.isBuilt()) {
+            return Optional.empty();
+        }
+        return Optional.of(userSearchIndexDao.search(prefix, limit));
+    }
+
+    /**
+     * rebuild
+     * 기존 인덱스를 지우고 ACTIVE 유저를 userId 순서로 batch 조회해 다시 채운 뒤 BUILT 표시
+     * 재구성 중에는 BUILT 표시가 없으므로 검색은 MySQL 로 대체됨
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        log.info("=== USER SEARCH INDEX REBUILD START ===");
+        userSearchIndexDao.clear();
+
+        long lastUserId = 0L;
+        long count = 0L;
+        while(true) {
+            List<User> users = userRepository.findActiveUsersAfter(lastUserId, PageRequest.of(0, rebuildBatchSize));
+            if(users.isEmpty()) {
+                break;
+            }
+
+            userSearchIndexDao.addAll(users.stream()
+                    .map(User::getId)
+                    .collect(Collectors.toList()));
+            count += users.size();
+            lastUserId = users.get(users.size() - 1).getUserId();
+        }
+
+        userSearchIndexDao.markBuilt();
+        log.info("=== USER SEARCH INDEX REBUILD END: {} users ===", count);
+    }
+}
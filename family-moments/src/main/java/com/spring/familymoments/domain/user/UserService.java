@@ -7,7 +7,6 @@ import com.spring.familymoments.domain.alarmSetting.AlarmSettingService;
 import com.spring.familymoments.domain.alarmSetting.entity.AlarmSetting;
 import com.spring.familymoments.domain.comment.CommentReportRepository;
 import com.spring.familymoments.domain.comment.CommentWithUserRepository;
-import com.spring.familymoments.domain.comment.entity.Comment;
 import com.spring.familymoments.domain.comment.entity.CommentReport;
 import com.spring.familymoments.domain.commentLove.CommentLoveWithUserRepository;
 import com.spring.familymoments.domain.commentLove.entity.CommentLove;
@@ -17,6 +16,8 @@ import com.spring.familymoments.domain.common.entity.UserFamily;
 import com.spring.familymoments.domain.family.FamilyRepository;
 import com.spring.familymoments.domain.family.entity.Family;
 import com.spring.familymoments.domain.fcm.FCMService;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReadModelService;
 import com.spring.familymoments.domain.post.PostReportRepository;
 import com.spring.familymoments.domain.post.PostWithUserRepository;
 import com.spring.familymoments.domain.post.entity.Post;
@@ -32,6 +33,7 @@ import com.spring.familymoments.domain.user.entity.User;
 import com.spring.familymoments.utils.UuidUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,11 +44,11 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.spring.familymoments.config.BaseResponseStatus.*;
 import static com.spring.familymoments.domain.common.BaseEntity.Status.INACTIVE;
-import static com.spring.familymoments.domain.common.entity.UserFamily.Status.ACTIVE;
-import static com.spring.familymoments.domain.common.entity.UserFamily.Status.DEACCEPT;
 
 @Slf4j
 @Service
@@ -60,6 +62,8 @@ public class UserService {
     private final UserFamilyRepository userFamilyRepository;
     private final CommentLoveWithUserRepository commentLoveWithUserRepository;
     private final PostLoveRepository postLoveRepository;
+    private final PostFeedCacheDao postFeedCacheDao;
+    private final PostReadModelService postReadModelService;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
     private final RedisService redisService;
@@ -71,6 +75,11 @@ public class UserService {
     private final AlarmSettingRepository alarmSettingRepository;
 
     private final FCMService fcmService;
+    private final UserDeletionService userDeletionService;
+    private final UserSearchIndexService userSearchIndexService;
+
+    private static final String SERVER = "Server";
+    private static final int SEARCH_USER_LIMIT = 5;
 
     /**
      * createUser
@@ -129,6 +138,7 @@ public class UserService {
                 .build();
 
         userRepository.save(user);
+        userSearchIndexService.add(user.getId());
         alarmSettingService.createAlarmSetting(user);   // 알림 ON으로 설정(채팅알림, 업로드주기알림, 포스팅알림)
 
         return new PostUserRes(user.getEmail(), user.getNickname(), user.getProfileImg());
@@ -217,47 +227,62 @@ public class UserService {
     /**
      * 유저 5명 검색 API
      * [GET] /users
+     * 검색 인덱스(없으면 MySQL id 인덱스)에서 로그인 유저를 제외할 수 있도록 최대 6명 조회하고, 가족 관계는 한 번의 IN 쿼리로 확인
      * @return
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public List<GetSearchUserRes> searchUserById(String keyword, Long familyId, User loginUser) {
-        List<GetSearchUserRes> getSearchUserResList = new ArrayList<>();
-
-        List<User> keywordUserList = userRepository.searchUserByKeyword(keyword);
-        for(User keywordUser: keywordUserList) {
-            Long checkUserId = keywordUser.getUserId();
-            int appear = 1;
+        if(keyword == null) {
+            return Collections.emptyList();
+        }
 
-            //로그인한 유저 제외
-            if(loginUser.getUserId() == checkUserId) {
-                continue;
-            }
+        List<User> keywordUserList = userSearchIndexService.search(keyword, SEARCH_USER_LIMIT + 1)
+                .map(this::findActiveUsersInOrder)
+                .orElseGet(() -> userRepository.searchUserByKeyword(keyword, PageRequest.of(0, SEARCH_USER_LIMIT + 1)));
+
+        //로그인한 유저 제외
+        keywordUserList = keywordUserList.stream()
+                .filter(keywordUser -> !keywordUser.getUserId().equals(loginUser.getUserId()))
+                .limit(SEARCH_USER_LIMIT)
+                .collect(Collectors.toList());
+        if(keywordUserList.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-            //현재 가족과 관련된 유저들
-            List<Object[]> results = userRepository.findUsersByFamilyIdAndUserId(familyId, checkUserId);
-            for(Object[] result : results) {
-                UserFamily userFamily = (UserFamily) result[1];
-                if (userFamily == null) {
-                    continue;
-                }
-                //현재 가족에 이미 초대 당하거나 대기 중일 때 비활성화
-                if(userFamily.getStatus() == ACTIVE || userFamily.getStatus() == DEACCEPT) {
-                    appear = 0;
-                    break;
-                }
-            }
+        //현재 가족에 이미 속해 있거나 초대 대기 중인 유저는 비활성화
+        Set<Long> disabledUserIds = new HashSet<>();
+        if(familyId != null) {
+            disabledUserIds.addAll(userFamilyRepository.findJoinedOrInvitedUserIds(familyId, keywordUserList.stream()
+                    .map(User::getUserId)
+                    .collect(Collectors.toList())));
+        }
 
+        List<GetSearchUserRes> getSearchUserResList = new ArrayList<>();
+        for(User keywordUser : keywordUserList) {
             getSearchUserResList.add(
                     GetSearchUserRes.of(
                             keywordUser.getId(),
                             keywordUser.getProfileImg(),
-                            appear
+                            disabledUserIds.contains(keywordUser.getUserId()) ? 0 : 1
                     )
             );
         }
 
         return getSearchUserResList;
     }
+
+    // 검색 인덱스의 아이디 순서대로 ACTIVE 유저 조회 (인덱스에만 남아 있는 유저는 제외)
+    private List<User> findActiveUsersInOrder(List<String> ids) {
+        if(ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, User> usersById = userRepository.findActiveUsersByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return ids.stream()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
     /**
      * 초대 리스트 확인 API
      * [GET] /users/invitation
@@ -293,6 +318,10 @@ public class UserService {
     public PatchProfileReqRes updateProfile(PatchProfileReqRes patchProfileReqRes, User user) {
         user.updateProfile(patchProfileReqRes);
         User updatedUser = userRepository.save(user);
+        postReadModelService.updateWriterProfile(updatedUser.getUserId(), updatedUser.getNickname(), updatedUser.getProfileImg());
+        // 작성자 닉네임, 프로필 이미지가 포함된 가족 피드 캐시 무효화
+        familyRepository.findActiveFamilyByUserId(updatedUser)
+                .forEach(family -> postFeedCacheDao.evictFamily(family.getFamilyId()));
 
         return new PatchProfileReqRes(updatedUser.getNickname(), updatedUser.getProfileImg());
     }
@@ -339,8 +368,8 @@ public class UserService {
      * 회원 탈퇴 API
      * [DELETE] /users
      *
-     * hard delete
-     * set null (탈퇴한 유저의 댓글 알수없음 / 탈퇴한 유저의 신고 내역(탈퇴한 유저가 신고한) 남김)
+     * 유저를 즉시 INACTIVE 처리(로그인 차단)하고 탈퇴 작업을 등록
+     * 댓글 알수없음 처리, 좋아요/게시물/신고 내역/가족 매핑/알림 설정/소셜 정보 삭제, 유저 hard delete 는 UserDeletionScheduler 가 chunk 단위로 처리
      *
      * @return
      */
@@ -372,30 +401,31 @@ public class UserService {
     public void commonDeleteProcess(User user) {
         Long userId = user.getUserId();
 
-        //로그인 유저의 댓글 '알수없음' 처리
-        List<Comment> comments = commentWithUserRepository.findCommentsByUserId(userId);
-        for(Comment comment : comments) {
-            comment.updateWriter();
+        //로그인 차단
+        user.updateStatus(User.Status.INACTIVE);
+        userRepository.save(user);
+
+        //Redis에 저장되어 있는 RT, FCM Token 삭제 (재발급, 알림 차단)
+        redisService.deleteValues("RT(" + SERVER + "):" + user.getUuid());
+        fcmService.deleteToken(user.getId());
+
+        //read model 에서 유저의 게시물 즉시 숨김
+        List<Long> familyIds = new ArrayList<>();
+        for(UserFamily userFamily : userFamilyRepository.findUserFamilyByUserId(userId)) {
+            familyIds.add(userFamily.getFamilyId().getFamilyId());
         }
+        postReadModelService.updateWriterStatus(userId, INACTIVE, familyIds);
+        familyIds.forEach(postFeedCacheDao::evictFamily);
 
-        //로그인 유저 완전 삭제
-        userRepository.delete(user);
+        userSearchIndexService.remove(user.getId());
+        userDeletionService.enqueue(userId);
     }
-
-    @Transactional
     public void deleteUserWithRedisProcess(User user, String requestAccessToken) {
-        //Redis에 저장되어 있는 RT 삭제
-        String refreshTokenInRedis = redisService.getValues("RT(" + "SERVER" + "):" + user);
-        if(refreshTokenInRedis != null) {
-            redisService.deleteValues("RT(" + "SERVER" + "):" + user);
-        }
         //Redis에 탈퇴 처리한 AT 저장
         long expiration = jwtService.getTokenExpirationTime(requestAccessToken) - new Date().getTime();
         redisService.setValuesWithTimeout(requestAccessToken, "delete", expiration);
 
-        fcmService.deleteToken(user.getId());     // FCM Token 삭제
-
-        //유저 완전 삭제
+        //유저 탈퇴 처리 (RT, FCM Token 삭제 포함)
         this.deleteUser(user);
     }
 
@@ -0,0 +1,109 @@
+package com.spring.familymoments.domain.user.entity;
+
+import com.spring.familymoments.domain.common.BaseTime;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 작업
+ * 회원 탈퇴 요청 시 생성되고, UserDeletionScheduler 가 단계별로 chunk 단위 일괄 UPDATE/DELETE 를 실행하며 진행 상황 기록
+ * 모든 단계가 끝나면 유저 행을 삭제
+ * chunk 처리에 실패하면 backoff 후 다시 시도하고, 연속으로 maxAttempts 번 실패하면 FAILED 로 남겨 다음 작업을 막지 않음
+ */
+@Entity
+@Table(name = "UserDeletionJob")
+@Getter
+@NoArgsConstructor(force = true)
+@AllArgsConstructor
+@Builder
+public class UserDeletionJob extends BaseTime {
+
+    public enum Status {
+        PENDING, DONE, FAILED
+    }
+
+    // 처리 순서대로 정의
+    public enum Phase {
+        COMMENTS,       // 댓글 '알수없음' 처리
+        COMMENT_LOVES,  // 댓글 좋아요 삭제
+        POST_LOVES,     // 게시물 좋아요 삭제
+        POSTS,          // 게시물 삭제
+        REPORTS,        // 게시물, 댓글 신고 내역 삭제
+        MEMBERSHIPS,    // 가족 매핑 삭제, 초대자 비우기
+        SETTINGS,       // 알림 설정, 소셜 연동 정보 삭제
+        USER            // 유저 삭제
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "jobId", nullable = false, updatable = false)
+    private Long jobId;
+
+    @Column(name = "userId", nullable = false, updatable = false, unique = true)
+    private Long userId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 10)
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "phase", nullable = false, length = 20)
+    private Phase phase = Phase.COMMENTS;
+
+    // 지금까지 변경, 삭제한 행 수
+    @Column(name = "processedRows", nullable = false)
+    private long processedRows;
+
+    @Column(name = "finishedAt")
+    private LocalDateTime finishedAt;
+
+    // 연속 실패 횟수 (chunk 처리에 성공하면 0)
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "lastError")
+    private String lastError;
+
+    // 실패 후 다시 시도할 시각
+    @Column(name = "nextAttemptAt")
+    private LocalDateTime nextAttemptAt;
+
+    public void advance(int processedRows) {
+        this.processedRows += processedRows;
+    }
+
+    public void nextPhase() {
+        this.phase = Phase.values()[phase.ordinal() + 1];
+    }
+
+    public void finish() {
+        this.status = Status.DONE;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void succeed() {
+        this.attempts = 0;
+        this.nextAttemptAt = null;
+    }
+
+    /**
+     * fail
+     * 실패를 기록하고 retryDelay * 2^(연속 실패 횟수 - 1) 뒤에 다시 시도, maxAttempts 번 연속 실패하면 FAILED
+     */
+    public void fail(String error, int maxAttempts, Duration retryDelay) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+        if(attempts >= maxAttempts) {
+            this.status = Status.FAILED;
+            this.nextAttemptAt = null;
+            this.finishedAt = LocalDateTime.now();
+            return;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(retryDelay.multipliedBy(1L << Math.min(attempts - 1, 16)));
+    }
+}
@@ -0,0 +1,44 @@
+package com.spring.familymoments.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils {
+
+    /**
+     * afterCommit
+     * 트랜잭션 안에서 호출된 경우 커밋된 뒤에 실행하고 (롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행
+     * Redis, 스레드 풀 등 트랜잭션에 참여하지 않는 자원에 커밋된 변경만 반영할 때 사용
+     */
+    public static void afterCommit(Runnable action) {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    /**
+     * afterRollback
+     * 트랜잭션 안에서 호출된 경우 롤백된 뒤에 실행하고, 트랜잭션 밖이면 실행하지 않음
+     * 트랜잭션에 참여하지 않는 자원에 먼저 반영한 변경을 롤백 시 되돌릴 때 사용
+     */
+    public static void afterRollback(Runnable action) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if(status == STATUS_ROLLED_BACK) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,185 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.domain.awsS3.model.DirectUploadFileReq;
+import com.spring.familymoments.domain.awsS3.model.DirectUploadRes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.spring.familymoments.config.BaseResponseStatus.UPLOAD_INVALID_KEY;
+import static com.spring.familymoments.config.BaseResponseStatus.UPLOAD_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 직접 업로드 key 발급 후 게시물 작성 시 확인하는 흐름
+ * 저장소는 임시 디렉터리의 LocalObjectStorage, 예약은 Redis 대신 메모리로 대체
+ */
+class DirectUploadVerifyTest {
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final byte[] IMAGE = new byte[]{1, 2, 3};
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage objectStorage;
+    private InMemoryReservationDao reservationDao;
+    private AwsS3Service awsS3Service;
+
+    @BeforeEach
+    void setUp() {
+        objectStorage = new LocalObjectStorage(root.toString(), "http://localhost:8080");
+        reservationDao = new InMemoryReservationDao();
+
+        awsS3Service = new AwsS3Service(objectStorage, null, 1, reservationDao, null, null);
+        ReflectionTestUtils.setField(awsS3Service, "directUploadExpirySeconds", 600L);
+        ReflectionTestUtils.setField(awsS3Service, "directUploadMaxBytes", 1024L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 발급받은_key_로_업로드한_이미지를_확인한다() {
+        String key = issueAndUpload(USER_ID);
+
+        List<String> urls = awsS3Service.verifyDirectUploads(USER_ID, List.of(key));
+
+        assertThat(urls).containsExactly(objectStorage.getUrl(key).replace("fm-origin/", "thumbnails/"));
+        assertThat(reservationDao.isReserved(key)).isFalse();
+    }
+
+    @Test
+    void 확인한_key_는_다시_사용할_수_없다() {
+        String key = issueAndUpload(USER_ID);
+        awsS3Service.verifyDirectUploads(USER_ID, List.of(key));
+
+        assertThatThrownBy(() -> awsS3Service.verifyDirectUploads(USER_ID, List.of(key)))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", UPLOAD_INVALID_KEY);
+    }
+
+    @Test
+    void 같은_key_를_두_번_보내면_거부하고_예약을_되돌린다() {
+        String key = issueAndUpload(USER_ID);
+
+        assertThatThrownBy(() -> awsS3Service.verifyDirectUploads(USER_ID, List.of(key, key)))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", UPLOAD_INVALID_KEY);
+        assertThat(reservationDao.isReserved(key)).isTrue();
+    }
+
+    @Test
+    void 다른_유저에게_발급한_key_는_거부한다() {
+        String key = issueAndUpload(OTHER_USER_ID);
+
+        assertThatThrownBy(() -> awsS3Service.verifyDirectUploads(USER_ID, List.of(key)))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", UPLOAD_INVALID_KEY);
+        assertThat(reservationDao.isReserved(key)).isTrue();
+    }
+
+    @Test
+    void 업로드되지_않은_key_가_있으면_앞서_가져간_예약도_되돌린다() {
+        String uploaded = issueAndUpload(USER_ID);
+        String notUploaded = issue(USER_ID);
+
+        assertThatThrownBy(() -> awsS3Service.verifyDirectUploads(USER_ID, List.of(uploaded, notUploaded)))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", UPLOAD_NOT_FOUND);
+        assertThat(reservationDao.isReserved(uploaded)).isTrue();
+        assertThat(reservationDao.isReserved(notUploaded)).isTrue();
+    }
+
+    @Test
+    void 게시물_작성_트랜잭션이_롤백되면_예약을_되돌린다() {
+        String key = issueAndUpload(USER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        awsS3Service.verifyDirectUploads(USER_ID, List.of(key));
+        assertThat(reservationDao.isReserved(key)).isFalse();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(reservationDao.isReserved(key)).isTrue();
+        assertThat(awsS3Service.verifyDirectUploads(USER_ID, List.of(key))).hasSize(1);
+    }
+
+    @Test
+    void 게시물_작성_트랜잭션이_커밋되면_예약은_사라진다() {
+        String key = issueAndUpload(USER_ID);
+        TransactionSynchronizationManager.initSynchronization();
+
+        awsS3Service.verifyDirectUploads(USER_ID, List.of(key));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(reservationDao.isReserved(key)).isFalse();
+    }
+
+    private String issue(long userId) {
+        List<DirectUploadRes> uploads = awsS3Service.issueDirectUploads(userId,
+                List.of(new DirectUploadFileReq("photo.jpg", "image/jpeg", IMAGE.length)));
+        return uploads.get(0).getKey();
+    }
+
+    private String issueAndUpload(long userId) {
+        String key = issue(userId);
+        try {
+            objectStorage.put(key, new ByteArrayInputStream(IMAGE), IMAGE.length, "image/jpeg");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return key;
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    // Redis 의 compare-and-delete 와 같은 동작을 메모리로 구현
+    private static class InMemoryReservationDao extends DirectUploadReservationDao {
+        private final Map<String, String> reservations = new ConcurrentHashMap<>();
+
+        InMemoryReservationDao() {
+            super(null);
+        }
+
+        @Override
+        public void reserve(String key, long userId, long expirySeconds) {
+            reservations.put(key, String.valueOf(userId));
+        }
+
+        @Override
+        public boolean claim(String key, long userId) {
+            return reservations.remove(key, String.valueOf(userId));
+        }
+
+        @Override
+        public void restore(String key, long userId, long expirySeconds) {
+            reservations.putIfAbsent(key, String.valueOf(userId));
+        }
+
+        @Override
+        public boolean isReserved(String key) {
+            return reservations.containsKey(key);
+        }
+    }
+}
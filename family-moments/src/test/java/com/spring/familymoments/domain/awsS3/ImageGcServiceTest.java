@@ -0,0 +1,126 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.spring.familymoments.domain.awsS3.ObjectStorage.StoredObject;
+import com.spring.familymoments.domain.awsS3.entity.ImageBlob;
+import com.spring.familymoments.domain.awsS3.model.ImageGcReport;
+import com.spring.familymoments.domain.family.FamilyRepository;
+import com.spring.familymoments.domain.post.PostContentStore;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.post.model.SinglePostDocumentRes;
+import com.spring.familymoments.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 참조되지 않는 이미지 정리의 dry-run 과 내용 기반 원본의 참조 수 확인
+ * 원본(fm-origin/) 만 객체가 있고 나머지 prefix 는 비어 있음
+ */
+class ImageGcServiceTest {
+    private static final String URL = "https://bucket.s3.amazonaws.com/";
+    private static final Instant OLD = Instant.now().minus(2, ChronoUnit.DAYS);
+
+    private ObjectStorage objectStorage;
+    private ImageBlobService imageBlobService;
+    private PostRepository postRepository;
+    private PostContentStore postContentStore;
+    private ImageGcService imageGcService;
+
+    private final ImageBlob unreferencedBlob = ImageBlob.builder().hash("bbb").objectKey("fm-origin/sha256-bbb.jpg").build();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        objectStorage = mock(ObjectStorage.class);
+        imageBlobService = mock(ImageBlobService.class);
+        postRepository = mock(PostRepository.class);
+        postContentStore = mock(PostContentStore.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        FamilyRepository familyRepository = mock(FamilyRepository.class);
+        imageGcService = new ImageGcService(objectStorage, imageBlobService, postRepository, postContentStore,
+                userRepository, familyRepository);
+        ReflectionTestUtils.setField(imageGcService, "graceHours", 24L);
+        ReflectionTestUtils.setField(imageGcService, "batchSize", 1000);
+        ReflectionTestUtils.setField(imageGcService, "batchDelayMs", 0L);
+        ReflectionTestUtils.setField(imageGcService, "maxDeletes", 10_000L);
+        ReflectionTestUtils.setField(imageGcService, "reportSampleSize", 20);
+
+        // 게시물 하나가 내용 기반 원본 aaa 와 이전 UUID 이름 이미지를 참조
+        when(postRepository.findActivePostIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(1L));
+        when(postContentStore.findAll(List.of(1L))).thenReturn(Map.of(1L, SinglePostDocumentRes.builder()
+                .entityId(1L)
+                .urls(List.of(URL + "thumbnails/sha256-aaa.jpg", URL + "thumbnails/kept-uuid.jpg"))
+                .build()));
+        when(userRepository.findActiveProfileImgsAfter(anyString(), any(Pageable.class))).thenReturn(List.of());
+        when(familyRepository.findActiveRepresentImgsAfter(anyString(), any(Pageable.class))).thenReturn(List.of());
+
+        when(objectStorage.list(anyString(), any(), anyInt())).thenReturn(List.of());
+        when(objectStorage.list(eq("fm-origin/"), isNull(), anyInt())).thenReturn(List.of(
+                new StoredObject("fm-origin/kept-uuid.jpg", 10L, OLD),
+                new StoredObject("fm-origin/old-uuid.jpg", 20L, OLD),
+                new StoredObject("fm-origin/recent-uuid.jpg", 30L, Instant.now()),
+                new StoredObject("fm-origin/sha256-aaa.jpg", 40L, OLD),
+                new StoredObject("fm-origin/sha256-bbb.jpg", 50L, OLD),
+                new StoredObject("fm-origin/sha256-ccc.jpg", 60L, OLD)));
+
+        // ccc 는 아직 다른 게시물에서 참조 중 (refCount > 0)
+        when(imageBlobService.findRegisteredHashes(any())).thenReturn(Set.of("bbb", "ccc"));
+        when(imageBlobService.findUnreferenced(eq(Set.of("bbb", "ccc")), any())).thenReturn(List.of(unreferencedBlob));
+    }
+
+    @Test
+    void dry_run_은_삭제_대상만_집계하고_삭제하지_않는다() throws Exception {
+        ReflectionTestUtils.setField(imageGcService, "dryRun", true);
+
+        ImageGcReport report = imageGcService.collect();
+
+        assertThat(report.isAborted()).isFalse();
+        assertThat(report.getSampleKeys()).containsExactlyInAnyOrder("fm-origin/old-uuid.jpg", "fm-origin/sha256-bbb.jpg");
+        assertThat(report.getCandidates()).isEqualTo(2L);
+        assertThat(report.getSkippedBlobs()).isEqualTo(1L);
+        assertThat(report.getDeletedObjects()).isZero();
+        verify(objectStorage, never()).deleteAll(any());
+        verify(imageBlobService, never()).deleteUnreferenced(any(), any(), any());
+    }
+
+    @Test
+    void 참조_수가_0_인_내용_기반_원본만_잠근_채_삭제한다() throws Exception {
+        ReflectionTestUtils.setField(imageGcService, "dryRun", false);
+        when(imageBlobService.deleteUnreferenced(eq(Set.of("bbb", "ccc")), any(), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<List<ImageBlob>>>getArgument(2).accept(List.of(unreferencedBlob));
+            return List.of(unreferencedBlob);
+        });
+
+        ImageGcReport report = imageGcService.collect();
+
+        verify(objectStorage).deleteAll(List.of("fm-origin/old-uuid.jpg"));
+        verify(objectStorage).deleteAll(List.of("fm-origin/sha256-bbb.jpg"));
+        verify(objectStorage, times(2)).deleteAll(any());
+        assertThat(report.getDeletedObjects()).isEqualTo(2L);
+        assertThat(report.getDeletedBytes()).isEqualTo(70L);
+        assertThat(report.getSkippedBlobs()).isEqualTo(1L);
+    }
+
+    @Test
+    void 본문이_없는_게시물이_있으면_정리를_중단한다() throws Exception {
+        ReflectionTestUtils.setField(imageGcService, "dryRun", false);
+        when(postContentStore.findAll(List.of(1L))).thenReturn(Map.of());
+
+        ImageGcReport report = imageGcService.collect();
+
+        assertThat(report.isAborted()).isTrue();
+        verify(objectStorage, never()).list(anyString(), any(), anyInt());
+        verify(objectStorage, never()).deleteAll(any());
+    }
+}
@@ -0,0 +1,104 @@
+package com.spring.familymoments.domain.awsS3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 저장소의 직접 업로드(PUT), 조회(GET) API
+ * 예약은 Redis 대신 메모리로 대체
+ */
+class LocalObjectStorageControllerTest {
+    private static final String KEY = "fm-origin/photo.jpg";
+    private static final byte[] IMAGE = new byte[]{1, 2, 3};
+
+    @TempDir
+    Path root;
+
+    private LocalObjectStorage objectStorage;
+    private Set<String> reservedKeys;
+    private LocalObjectStorageController controller;
+
+    @BeforeEach
+    void setUp() {
+        objectStorage = new LocalObjectStorage(root.toString(), "http://localhost:8080");
+        reservedKeys = ConcurrentHashMap.newKeySet();
+        controller = new LocalObjectStorageController(objectStorage, new DirectUploadReservationDao(null) {
+            @Override
+            public boolean isReserved(String key) {
+                return reservedKeys.contains(key);
+            }
+        });
+        ReflectionTestUtils.setField(controller, "directUploadMaxBytes", 1024L);
+    }
+
+    @Test
+    void 예약된_key_로_업로드하면_저장소에_저장한다() throws Exception {
+        reservedKeys.add(KEY);
+
+        MockHttpServletResponse response = put(KEY, IMAGE);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(objectStorage.read(KEY, 1024L)).isEqualTo(IMAGE);
+    }
+
+    @Test
+    void 예약되지_않은_key_로는_업로드할_수_없다() throws Exception {
+        MockHttpServletResponse response = put(KEY, IMAGE);
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(objectStorage.getSize(KEY)).isEmpty();
+    }
+
+    @Test
+    void 원본_경로가_아닌_key_로는_업로드할_수_없다() throws Exception {
+        reservedKeys.add("thumbnails/photo.jpg");
+
+        MockHttpServletResponse response = put("thumbnails/photo.jpg", IMAGE);
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(objectStorage.getSize("thumbnails/photo.jpg")).isEmpty();
+    }
+
+    @Test
+    void 제한보다_큰_업로드는_저장하지_않는다() throws Exception {
+        reservedKeys.add(KEY);
+
+        MockHttpServletResponse response = put(KEY, new byte[2048]);
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(objectStorage.getSize(KEY)).isEmpty();
+    }
+
+    @Test
+    void 직접_업로드한_이미지의_썸네일_url_은_원본을_반환한다() throws Exception {
+        reservedKeys.add(KEY);
+        put(KEY, IMAGE);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET",
+                LocalObjectStorageController.PATH_PREFIX + "thumbnails/photo.jpg");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.getObject(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(IMAGE);
+    }
+
+    private MockHttpServletResponse put(String key, byte[] body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", LocalObjectStorageController.PATH_PREFIX + key);
+        request.setContentType("image/jpeg");
+        request.setContent(body);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.putObject(request, response);
+        return response;
+    }
+}
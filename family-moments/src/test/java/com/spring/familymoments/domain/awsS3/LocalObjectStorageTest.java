@@ -0,0 +1,54 @@
+package com.spring.familymoments.domain.awsS3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalObjectStorageTest extends ObjectStorageContractTest {
+    @TempDir
+    Path root;
+
+    @Override
+    protected ObjectStorage createStorage() {
+        return new LocalObjectStorage(root.toString(), "http://localhost:8080");
+    }
+
+    @Test
+    void 저장소_밖을_가리키는_key_는_거부한다() {
+        byte[] content = bytes(10);
+
+        assertThatThrownBy(() -> storage.put("../escape.jpg", new ByteArrayInputStream(content), content.length, CONTENT_TYPE))
+                .isInstanceOf(IOException.class);
+        assertThat(Files.exists(root.resolveSibling("escape.jpg"))).isFalse();
+    }
+
+    @Test
+    void 실패한_업로드의_임시_파일을_남기지_않는다() throws Exception {
+        byte[] content = bytes(STREAM_SIZE);
+
+        assertThatThrownBy(() -> storage.putStream(KEY, new ByteArrayInputStream(content), CONTENT_TYPE, 10))
+                .isInstanceOf(ObjectStorage.TooLargeException.class);
+        try(Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    void range_헤더를_해석한다() {
+        assertThat(LocalObjectStorageController.parseRange("bytes=0-9", 100)).containsExactly(0, 9);
+        assertThat(LocalObjectStorageController.parseRange("bytes=90-", 100)).containsExactly(90, 99);
+        assertThat(LocalObjectStorageController.parseRange("bytes=-10", 100)).containsExactly(90, 99);
+        assertThat(LocalObjectStorageController.parseRange("bytes=50-500", 100)).containsExactly(50, 99);
+        assertThat(LocalObjectStorageController.parseRange("bytes=100-", 100)).isSameAs(LocalObjectStorageController.UNSATISFIABLE);
+        assertThat(LocalObjectStorageController.parseRange("bytes=0-1,5-6", 100)).isNull();
+        assertThat(LocalObjectStorageController.parseRange("items=0-1", 100)).isNull();
+    }
+}
@@ -0,0 +1,194 @@
+package com.spring.familymoments.domain.awsS3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 모든 ObjectStorage 구현이 만족해야 하는 동작
+ * 구현별 테스트는 이 클래스를 상속하고 createStorage 만 구현
+ */
+abstract class ObjectStorageContractTest {
+    protected static final String KEY = "fm-origin/contract.jpg";
+    protected static final String CONTENT_TYPE = "image/jpeg";
+
+    // 구현의 버퍼보다 커서 putStream 이 여러 번 나누어 저장하는 크기
+    protected static final int STREAM_SIZE = 200_000;
+
+    protected ObjectStorage storage;
+
+    protected abstract ObjectStorage createStorage() throws Exception;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = createStorage();
+    }
+
+    @Test
+    void put_후_같은_내용을_읽는다() throws Exception {
+        byte[] content = "image".getBytes(StandardCharsets.UTF_8);
+
+        storage.put(KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+
+        assertThat(storage.read(KEY, Long.MAX_VALUE)).isEqualTo(content);
+        assertThat(storage.getSize(KEY)).contains((long) content.length);
+    }
+
+    @Test
+    void 같은_key_로_put_하면_덮어쓴다() throws Exception {
+        byte[] first = "first".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "second-image".getBytes(StandardCharsets.UTF_8);
+
+        storage.put(KEY, new ByteArrayInputStream(first), first.length, CONTENT_TYPE);
+        storage.put(KEY, new ByteArrayInputStream(second), second.length, CONTENT_TYPE);
+
+        assertThat(storage.read(KEY, Long.MAX_VALUE)).isEqualTo(second);
+    }
+
+    @Test
+    void 작은_스트림을_저장한다() throws Exception {
+        byte[] content = bytes(10);
+
+        long written = storage.putStream(KEY, new ByteArrayInputStream(content), CONTENT_TYPE, Long.MAX_VALUE);
+
+        assertThat(written).isEqualTo(content.length);
+        assertThat(storage.read(KEY, Long.MAX_VALUE)).isEqualTo(content);
+    }
+
+    @Test
+    void 버퍼보다_큰_스트림을_나누어_저장한다() throws Exception {
+        byte[] content = bytes(STREAM_SIZE);
+
+        long written = storage.putStream(KEY, new ByteArrayInputStream(content), CONTENT_TYPE, Long.MAX_VALUE);
+
+        assertThat(written).isEqualTo(content.length);
+        assertThat(storage.read(KEY, Long.MAX_VALUE)).isEqualTo(content);
+    }
+
+    @Test
+    void 빈_스트림은_0_byte_를_저장한다() throws Exception {
+        long written = storage.putStream(KEY, new ByteArrayInputStream(new byte[0]), CONTENT_TYPE, Long.MAX_VALUE);
+
+        assertThat(written).isZero();
+    }
+
+    @Test
+    void 제한을_넘는_스트림은_저장하지_않는다() throws Exception {
+        byte[] content = bytes(STREAM_SIZE);
+
+        assertThatThrownBy(() -> storage.putStream(KEY, new ByteArrayInputStream(content), CONTENT_TYPE, STREAM_SIZE - 1))
+                .isInstanceOf(ObjectStorage.TooLargeException.class);
+        assertThat(storage.getSize(KEY)).isEmpty();
+    }
+
+    @Test
+    void 제한을_넘는_작은_스트림도_저장하지_않는다() throws Exception {
+        byte[] content = bytes(10);
+
+        assertThatThrownBy(() -> storage.putStream(KEY, new ByteArrayInputStream(content), CONTENT_TYPE, 9))
+                .isInstanceOf(ObjectStorage.TooLargeException.class);
+        assertThat(storage.getSize(KEY)).isEmpty();
+    }
+
+    @Test
+    void 없는_객체는_크기가_없고_읽을_수_없다() {
+        assertThatThrownBy(() -> storage.read(KEY, Long.MAX_VALUE))
+                .isInstanceOf(FileNotFoundException.class);
+        assertThat(getSizeUnchecked(KEY)).isEmpty();
+    }
+
+    @Test
+    void 제한보다_큰_객체는_읽지_않는다() throws Exception {
+        byte[] content = bytes(100);
+        storage.put(KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+
+        assertThatThrownBy(() -> storage.read(KEY, 99))
+                .isInstanceOf(ObjectStorage.TooLargeException.class);
+    }
+
+    @Test
+    void 삭제는_여러_번_해도_성공한다() throws Exception {
+        byte[] content = bytes(10);
+        storage.put(KEY, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+
+        storage.delete(KEY);
+        storage.delete(KEY);
+
+        assertThat(storage.getSize(KEY)).isEmpty();
+    }
+
+    @Test
+    void 다른_key_로_옮긴다() throws Exception {
+        byte[] content = bytes(10);
+        storage.put("fm-upload/tmp.jpg", new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+
+        storage.move("fm-upload/tmp.jpg", KEY);
+
+        assertThat(storage.read(KEY, Long.MAX_VALUE)).isEqualTo(content);
+        assertThat(storage.getSize("fm-upload/tmp.jpg")).isEmpty();
+    }
+
+    @Test
+    void 없는_객체는_옮길_수_없다() {
+        assertThatThrownBy(() -> storage.move("fm-upload/missing.jpg", KEY))
+                .isInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    void prefix_의_객체를_key_순서로_나누어_조회한다() throws Exception {
+        for(String key : List.of("fm-origin/c.jpg", "fm-origin/a.jpg", "thumbnails/a.jpg", "fm-origin/b.jpg")) {
+            byte[] content = bytes(10);
+            storage.put(key, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+        }
+
+        List<ObjectStorage.StoredObject> first = storage.list("fm-origin/", null, 2);
+        List<ObjectStorage.StoredObject> second = storage.list("fm-origin/", first.get(1).getKey(), 2);
+
+        assertThat(first).extracting(ObjectStorage.StoredObject::getKey).containsExactly("fm-origin/a.jpg", "fm-origin/b.jpg");
+        assertThat(second).extracting(ObjectStorage.StoredObject::getKey).containsExactly("fm-origin/c.jpg");
+        assertThat(first.get(0).getSize()).isEqualTo(10);
+        assertThat(first.get(0).getLastModified()).isNotNull();
+    }
+
+    @Test
+    void 여러_객체를_한_번에_삭제한다() throws Exception {
+        for(String key : List.of("fm-origin/a.jpg", "fm-origin/b.jpg", "fm-origin/c.jpg")) {
+            byte[] content = bytes(10);
+            storage.put(key, new ByteArrayInputStream(content), content.length, CONTENT_TYPE);
+        }
+
+        storage.deleteAll(List.of("fm-origin/a.jpg", "fm-origin/c.jpg", "fm-origin/missing.jpg"));
+
+        assertThat(storage.list("fm-origin/", null, 10))
+                .extracting(ObjectStorage.StoredObject::getKey).containsExactly("fm-origin/b.jpg");
+    }
+
+    @Test
+    void url_은_key_로_끝난다() {
+        assertThat(storage.getUrl(KEY)).endsWith("/" + KEY);
+    }
+
+    protected static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        for(int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+        return bytes;
+    }
+
+    private Optional<Long> getSizeUnchecked(String key) {
+        try {
+            return storage.getSize(key);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.spring.familymoments.domain.awsS3;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+class S3ObjectStorageTest extends ObjectStorageContractTest {
+    private static final String BUCKET = "family-moments";
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Override
+    protected ObjectStorage createStorage() {
+        return new S3ObjectStorage(new InMemoryAmazonS3(), BUCKET, CHUNK_SIZE);
+    }
+
+    // 테스트에 필요한 S3 API 만 메모리로 구현
+    private static class InMemoryAmazonS3 extends AbstractAmazonS3 {
+        private final NavigableMap<String, byte[]> objects = new ConcurrentSkipListMap<>();
+        private final Map<String, TreeMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest request) {
+            objects.put(request.getKey(), readAll(request.getInputStream()));
+            return new PutObjectResult();
+        }
+
+        @Override
+        public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+            byte[] content = find(key);
+            ObjectMetadata objectMetadata = new ObjectMetadata();
+            objectMetadata.setContentLength(content.length);
+            return objectMetadata;
+        }
+
+        @Override
+        public S3Object getObject(String bucketName, String key) {
+            byte[] content = find(key);
+            S3Object s3Object = new S3Object();
+            s3Object.setKey(key);
+            s3Object.getObjectMetadata().setContentLength(content.length);
+            s3Object.setObjectContent(new ByteArrayInputStream(content));
+            return s3Object;
+        }
+
+        @Override
+        public CopyObjectResult copyObject(CopyObjectRequest request) {
+            objects.put(request.getDestinationKey(), find(request.getSourceKey()));
+            return new CopyObjectResult();
+        }
+
+        @Override
+        public void deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.getKey());
+        }
+
+        @Override
+        public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+            request.getKeys().forEach(key -> objects.remove(key.getKey()));
+            return new DeleteObjectsResult(Collections.emptyList());
+        }
+
+        @Override
+        public ListObjectsV2Result listObjectsV2(ListObjectsV2Request request) {
+            ListObjectsV2Result result = new ListObjectsV2Result();
+            String from = request.getStartAfter() == null ? request.getPrefix() : request.getStartAfter();
+            objects.tailMap(from, false).entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(request.getPrefix()))
+                    .limit(request.getMaxKeys())
+                    .forEach(entry -> {
+                        S3ObjectSummary summary = new S3ObjectSummary();
+                        summary.setKey(entry.getKey());
+                        summary.setSize(entry.getValue().length);
+                        summary.setLastModified(new Date());
+                        result.getObjectSummaries().add(summary);
+                    });
+            return result;
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            String uploadId = UUID.randomUUID().toString();
+            uploads.put(uploadId, new TreeMap<>());
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId(uploadId);
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            byte[] part = readAll(request.getInputStream());
+            if(part.length != request.getPartSize()) {
+                throw new IllegalStateException("part 크기가 다릅니다.");
+            }
+            uploads.get(request.getUploadId()).put(request.getPartNumber(), part);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag(String.valueOf(request.getPartNumber()));
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            uploads.remove(request.getUploadId()).values().forEach(content::writeBytes);
+            objects.put(request.getKey(), content.toByteArray());
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.getUploadId());
+        }
+
+        @Override
+        public URL getUrl(String bucketName, String key) {
+            try {
+                return new URL("https://" + bucketName + ".s3.ap-northeast-2.amazonaws.com/" + key);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        private byte[] find(String key) {
+            byte[] content = objects.get(key);
+            if(content == null) {
+                AmazonS3Exception e = new AmazonS3Exception("Not Found");
+                e.setStatusCode(404);
+                throw e;
+            }
+            return content;
+        }
+
+        private static byte[] readAll(InputStream inputStream) {
+            try {
+                return inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
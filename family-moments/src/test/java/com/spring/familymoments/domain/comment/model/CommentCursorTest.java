@@ -0,0 +1,64 @@
+package com.spring.familymoments.domain.comment.model;
+
+import com.spring.familymoments.config.BaseException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static com.spring.familymoments.config.BaseResponseStatus.COMMENTS_INVALID_CURSOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentCursorTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+
+    @Test
+    void encode_한_cursor_를_같은_값으로_decode_한다() {
+        CommentCursor cursor = CommentCursor.decode(CommentCursor.of(CREATED_AT, 42L).encode());
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(cursor.getCommentId()).isEqualTo(42L);
+    }
+
+    @Test
+    void 초_단위가_0_인_시각도_같은_값으로_decode_한다() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30);
+
+        CommentCursor cursor = CommentCursor.decode(CommentCursor.of(createdAt, 1L).encode());
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void encode_결과는_url_에_그대로_사용할_수_있다() {
+        assertThat(CommentCursor.of(CREATED_AT, Long.MAX_VALUE).encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void base64_가_아닌_cursor_는_거부한다() {
+        assertInvalid("not a cursor!");
+    }
+
+    @Test
+    void 구분자가_없는_cursor_는_거부한다() {
+        assertInvalid(encodeRaw("2024-03-01T12:30"));
+    }
+
+    @Test
+    void 시각이나_commentId_형식이_잘못된_cursor_는_거부한다() {
+        assertInvalid(encodeRaw("yesterday_42"));
+        assertInvalid(encodeRaw("2024-03-01T12:30_abc"));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> CommentCursor.decode(cursor))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", COMMENTS_INVALID_CURSOR);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
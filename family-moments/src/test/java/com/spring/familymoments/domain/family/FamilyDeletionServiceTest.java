@@ -0,0 +1,130 @@
+package com.spring.familymoments.domain.family;
+
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.commentLove.CommentLoveRepository;
+import com.spring.familymoments.domain.family.entity.FamilyDeletionJob;
+import com.spring.familymoments.domain.post.PostCalendarService;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.postLove.LoveIndexService;
+import com.spring.familymoments.domain.postLove.PostLoveRepository;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 가족 삭제 작업의 게시물 chunk 처리와 완료, 실패 후 backoff
+ */
+class FamilyDeletionServiceTest {
+    private static final long JOB_ID = 1L;
+    private static final long FAMILY_ID = 10L;
+    private static final int CHUNK_SIZE = 2;
+
+    private FamilyDeletionJobRepository familyDeletionJobRepository;
+    private PostRepository postRepository;
+    private CommentWithUserRepository commentWithUserRepository;
+    private PostLoveRepository postLoveRepository;
+    private CommentLoveRepository commentLoveRepository;
+    private PostCalendarService postCalendarService;
+    private PostFeedCacheDao postFeedCacheDao;
+    private LoveIndexService loveIndexService;
+    private FamilyDeletionService familyDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        familyDeletionJobRepository = mock(FamilyDeletionJobRepository.class);
+        postRepository = mock(PostRepository.class);
+        commentWithUserRepository = mock(CommentWithUserRepository.class);
+        postLoveRepository = mock(PostLoveRepository.class);
+        commentLoveRepository = mock(CommentLoveRepository.class);
+        postCalendarService = mock(PostCalendarService.class);
+        postFeedCacheDao = mock(PostFeedCacheDao.class);
+        loveIndexService = mock(LoveIndexService.class);
+        familyDeletionService = new FamilyDeletionService(familyDeletionJobRepository, postRepository, commentWithUserRepository,
+                postLoveRepository, commentLoveRepository, postCalendarService, postFeedCacheDao, loveIndexService);
+        ReflectionTestUtils.setField(familyDeletionService, "maxAttempts", 2);
+        ReflectionTestUtils.setField(familyDeletionService, "retryDelayMs", 60_000L);
+    }
+
+    @Test
+    void 게시물_chunk_의_자식_행부터_비활성화하고_진행_위치를_기록한다() {
+        FamilyDeletionJob job = job();
+        List<Long> postIds = List.of(3L, 5L);
+        when(postRepository.findActivePostIdsByFamilyIdAfter(eq(FAMILY_ID), eq(0L), any(Pageable.class))).thenReturn(postIds);
+        when(commentWithUserRepository.findCommentIdsByPostIdIn(postIds)).thenReturn(List.of(30L));
+        when(commentWithUserRepository.inactivateByPostIdIn(postIds)).thenReturn(1);
+        when(postRepository.inactivateByPostIdIn(postIds)).thenReturn(2);
+
+        assertThat(familyDeletionService.processChunk(JOB_ID, CHUNK_SIZE)).isTrue();
+
+        InOrder inOrder = inOrder(commentLoveRepository, commentWithUserRepository, postLoveRepository, postRepository);
+        inOrder.verify(commentLoveRepository).inactivateByPostIdIn(postIds);
+        inOrder.verify(commentWithUserRepository).inactivateByPostIdIn(postIds);
+        inOrder.verify(postLoveRepository).inactivateByPostIdIn(postIds);
+        inOrder.verify(postRepository).inactivateByPostIdIn(postIds);
+        verify(loveIndexService).removeTargets(Target.POST, postIds);
+        verify(loveIndexService).removeTargets(Target.COMMENT, List.of(30L));
+        verify(postFeedCacheDao).evictFamily(FAMILY_ID);
+
+        assertThat(job.getLastPostId()).isEqualTo(5L);
+        assertThat(job.getDeletedPosts()).isEqualTo(2L);
+        assertThat(job.getDeletedComments()).isEqualTo(1L);
+        assertThat(job.getStatus()).isEqualTo(FamilyDeletionJob.Status.PENDING);
+    }
+
+    @Test
+    void 남은_게시물이_없으면_캘린더를_다시_만들고_작업을_끝낸다() {
+        FamilyDeletionJob job = job();
+        when(postRepository.findActivePostIdsByFamilyIdAfter(eq(FAMILY_ID), anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+        familyDeletionService.processChunk(JOB_ID, CHUNK_SIZE);
+
+        assertThat(job.getStatus()).isEqualTo(FamilyDeletionJob.Status.DONE);
+        verify(postCalendarService).rebuild(Set.of(FAMILY_ID));
+        verify(postFeedCacheDao).evictFamily(FAMILY_ID);
+        verify(postRepository, never()).inactivateByPostIdIn(any());
+    }
+
+    @Test
+    void backoff_중인_작업은_처리하지_않는다() {
+        FamilyDeletionJob job = job();
+        job.fail("error", 5, Duration.ofMinutes(1));
+
+        assertThat(familyDeletionService.processChunk(JOB_ID, CHUNK_SIZE)).isFalse();
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void 연속으로_실패하면_FAILED_로_남긴다() {
+        FamilyDeletionJob job = job();
+
+        familyDeletionService.recordFailure(JOB_ID, new IllegalStateException("first"));
+        assertThat(job.getStatus()).isEqualTo(FamilyDeletionJob.Status.PENDING);
+        assertThat(job.getNextAttemptAt()).isNotNull();
+
+        familyDeletionService.recordFailure(JOB_ID, new IllegalStateException("second"));
+        assertThat(job.getStatus()).isEqualTo(FamilyDeletionJob.Status.FAILED);
+        assertThat(job.getLastError()).contains("second");
+    }
+
+    private FamilyDeletionJob job() {
+        FamilyDeletionJob job = FamilyDeletionJob.builder()
+                .jobId(JOB_ID)
+                .familyId(FAMILY_ID)
+                .build();
+        when(familyDeletionJobRepository.findByIdForUpdate(JOB_ID)).thenReturn(Optional.of(job));
+        return job;
+    }
+}
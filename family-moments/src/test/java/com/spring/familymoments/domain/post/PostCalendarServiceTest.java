@@ -0,0 +1,138 @@
+package com.spring.familymoments.domain.post;
+
+import com.spring.familymoments.config.BaseException;
+import com.spring.familymoments.domain.family.FamilyRepository;
+import com.spring.familymoments.domain.family.entity.Family;
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.entity.PostCalendar;
+import com.spring.familymoments.domain.post.model.PostCalendarRes;
+import com.spring.familymoments.domain.post.model.PostDayCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.spring.familymoments.config.BaseResponseStatus.minnie_POSTS_NON_EXISTS_POST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 게시물 작성, 삭제에 따른 캘린더 증감과 백필 전 Post 집계 대체
+ */
+class PostCalendarServiceTest {
+    private static final long FAMILY_ID = 7L;
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 1);
+
+    private PostCalendarRepository postCalendarRepository;
+    private PostCalendarBackfillDao postCalendarBackfillDao;
+    private PostRepository postRepository;
+    private FamilyRepository familyRepository;
+    private PostCalendarService postCalendarService;
+
+    @BeforeEach
+    void setUp() {
+        postCalendarRepository = mock(PostCalendarRepository.class);
+        postCalendarBackfillDao = mock(PostCalendarBackfillDao.class);
+        postRepository = mock(PostRepository.class);
+        familyRepository = mock(FamilyRepository.class);
+        postCalendarService = new PostCalendarService(postCalendarRepository, postCalendarBackfillDao, postRepository, familyRepository);
+    }
+
+    @Test
+    void 게시물_작성일의_게시물_수를_증가시킨다() {
+        postCalendarService.increase(post(DATE.atTime(23, 59)));
+
+        verify(postCalendarRepository).increasePostCount(FAMILY_ID, DATE);
+    }
+
+    @Test
+    void 게시물_삭제시_작성일의_게시물_수를_감소시킨다() {
+        postCalendarService.decrease(post(DATE.atTime(0, 0)));
+
+        verify(postCalendarRepository).decreasePostCount(FAMILY_ID, DATE);
+    }
+
+    @Test
+    void 일괄_삭제시_일자별로_삭제한_게시물_수만큼_감소시킨다() {
+        postCalendarService.decrease(List.of(
+                new PostDayCount(FAMILY_ID, 2024, 3, 1, 3L),
+                new PostDayCount(FAMILY_ID, 2024, 3, 2, 1L)));
+
+        verify(postCalendarRepository).decreasePostCountBy(FAMILY_ID, DATE, 3L);
+        verify(postCalendarRepository).decreasePostCountBy(FAMILY_ID, DATE.plusDays(1), 1L);
+        verifyNoMoreInteractions(postCalendarRepository);
+    }
+
+    @Test
+    void 백필_이후에는_캘린더에서_조회한다() {
+        when(postCalendarBackfillDao.isBuilt()).thenReturn(true);
+        when(postCalendarRepository.findByFamilyIdAndMonth(FAMILY_ID, DATE, LocalDate.of(2024, 3, 31)))
+                .thenReturn(List.of(new PostCalendar(1L, FAMILY_ID, DATE, 2)));
+
+        List<PostCalendarRes> calendar = postCalendarService.getMonthlyCalendar(FAMILY_ID, 2024, 3);
+
+        assertThat(calendar).extracting(PostCalendarRes::getDate, PostCalendarRes::getCount)
+                .containsExactly(tuple(DATE, 2));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    void 백필이_끝나기_전에는_Post_에서_집계한다() {
+        when(postCalendarBackfillDao.isBuilt()).thenReturn(false);
+        when(postRepository.countActiveByDayAndFamilyIdBetween(FAMILY_ID, DATE.atStartOfDay(), LocalDate.of(2024, 4, 1).atStartOfDay()))
+                .thenReturn(List.of(new PostDayCount(FAMILY_ID, 2024, 3, 1, 4L)));
+
+        List<PostCalendarRes> calendar = postCalendarService.getMonthlyCalendar(FAMILY_ID, 2024, 3);
+
+        assertThat(calendar).extracting(PostCalendarRes::getDate, PostCalendarRes::getCount)
+                .containsExactly(tuple(DATE, 4));
+        verifyNoInteractions(postCalendarRepository);
+    }
+
+    @Test
+    void 게시물이_없는_달은_거부한다() {
+        when(postCalendarBackfillDao.isBuilt()).thenReturn(true);
+
+        assertThatThrownBy(() -> postCalendarService.getMonthlyCalendar(FAMILY_ID, 2024, 3))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("status", minnie_POSTS_NON_EXISTS_POST);
+    }
+
+    @Test
+    void 백필은_가족_batch_를_다시_생성하고_다음_기준_familyId_를_반환한다() {
+        when(familyRepository.findFamilyIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+
+        long next = postCalendarService.backfill(0L, 2);
+
+        assertThat(next).isEqualTo(2L);
+        verify(postCalendarRepository).deleteByFamilyId(1L);
+        verify(postCalendarRepository).insertFromPosts(1L);
+        verify(postCalendarRepository).deleteByFamilyId(2L);
+        verify(postCalendarRepository).insertFromPosts(2L);
+    }
+
+    @Test
+    void 마지막_batch_이면_백필_종료를_반환한다() {
+        when(familyRepository.findFamilyIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(3L), List.of());
+
+        assertThat(postCalendarService.backfill(2L, 2)).isEqualTo(PostCalendarService.BACKFILL_DONE);
+        assertThat(postCalendarService.backfill(3L, 2)).isEqualTo(PostCalendarService.BACKFILL_DONE);
+        verify(postCalendarRepository, times(1)).insertFromPosts(anyLong());
+    }
+
+    private static Post post(LocalDateTime createdAt) {
+        Post post = Post.builder()
+                .familyId(Family.builder().familyId(FAMILY_ID).build())
+                .build();
+        ReflectionTestUtils.setField(post, "createdAt", createdAt);
+        return post;
+    }
+}
@@ -0,0 +1,122 @@
+package com.spring.familymoments.domain.post;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 가족별 버전 번호로 피드 페이지 캐시를 무효화하는 동작
+ * Redis 는 get, set, increment 만 메모리로 대체
+ */
+class PostFeedCacheDaoTest {
+    private static final long FAMILY_ID = 7L;
+    private static final TypeReference<List<String>> PAGE_TYPE = new TypeReference<>() {};
+
+    private Map<String, String> redis;
+    private PostFeedCacheDao postFeedCacheDao;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = new ConcurrentHashMap<>();
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any());
+        when(valueOperations.increment(anyString())).thenAnswer(invocation -> Long.valueOf(redis.merge(
+                invocation.getArgument(0), "1", (version, one) -> String.valueOf(Long.parseLong(version) + 1))));
+
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        postFeedCacheDao = new PostFeedCacheDao(redisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(postFeedCacheDao, "ttlSeconds", 600L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 버전이_없으면_0_부터_시작한다() {
+        assertThat(postFeedCacheDao.getVersion(FAMILY_ID)).isZero();
+    }
+
+    @Test
+    void 같은_버전으로_저장한_페이지를_읽는다() {
+        postFeedCacheDao.putPage("FEED", FAMILY_ID, 0L, "first", List.of("a", "b"));
+
+        assertThat(postFeedCacheDao.getPage("FEED", FAMILY_ID, 0L, "first", PAGE_TYPE)).contains(List.of("a", "b"));
+        assertThat(postFeedCacheDao.getPage("ALBUM", FAMILY_ID, 0L, "first", PAGE_TYPE)).isEmpty();
+        assertThat(postFeedCacheDao.getPage("FEED", FAMILY_ID + 1, 0L, "first", PAGE_TYPE)).isEmpty();
+    }
+
+    @Test
+    void 무효화하면_버전이_올라가_이전_페이지를_읽지_않는다() {
+        long version = postFeedCacheDao.getVersion(FAMILY_ID);
+        postFeedCacheDao.putPage("FEED", FAMILY_ID, version, "first", List.of("a"));
+
+        postFeedCacheDao.evictFamily(FAMILY_ID);
+
+        long evictedVersion = postFeedCacheDao.getVersion(FAMILY_ID);
+        assertThat(evictedVersion).isEqualTo(version + 1);
+        assertThat(postFeedCacheDao.getPage("FEED", FAMILY_ID, evictedVersion, "first", PAGE_TYPE)).isEmpty();
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋된_뒤에_버전을_올린다() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        postFeedCacheDao.evictFamily(FAMILY_ID);
+        assertThat(postFeedCacheDao.getVersion(FAMILY_ID)).isZero();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(postFeedCacheDao.getVersion(FAMILY_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    void 트랜잭션이_롤백되면_버전을_올리지_않는다() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        postFeedCacheDao.evictFamily(FAMILY_ID);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(postFeedCacheDao.getVersion(FAMILY_ID)).isZero();
+    }
+
+    @Test
+    void 읽을_수_없는_페이지는_캐시되지_않은_것으로_본다() {
+        postFeedCacheDao.putPage("FEED", FAMILY_ID, 0L, "first", Map.of("not", "a list"));
+
+        assertThat(postFeedCacheDao.getPage("FEED", FAMILY_ID, 0L, "first", PAGE_TYPE)).isEmpty();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> {
+            if(status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        });
+    }
+}
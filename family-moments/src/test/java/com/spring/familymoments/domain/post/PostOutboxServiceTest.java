@@ -0,0 +1,166 @@
+package com.spring.familymoments.domain.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spring.familymoments.domain.post.document.PostDocument;
+import com.spring.familymoments.domain.post.entity.PostOutbox;
+import com.spring.familymoments.domain.post.entity.PostOutbox.EventType;
+import com.spring.familymoments.domain.post.model.PostOutboxPayload;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * outbox 의 version 조건과 claim 후 반영, 삭제 순서
+ * Mongo 는 bulk 연산에 전달된 조건만 확인
+ */
+class PostOutboxServiceTest {
+    private static final long POST_ID = 1L;
+    private static final long FAMILY_ID = 10L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private PostOutboxRepository postOutboxRepository;
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulkOps;
+    private PostFeedCacheDao postFeedCacheDao;
+    private PostOutboxService postOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        postOutboxRepository = mock(PostOutboxRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkOps = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, PostDocument.class)).thenReturn(bulkOps);
+        postFeedCacheDao = mock(PostFeedCacheDao.class);
+
+        postOutboxService = new PostOutboxService(postOutboxRepository, mock(PostDocumentRepository.class), mongoTemplate,
+                postFeedCacheDao, objectMapper);
+        ReflectionTestUtils.setField(postOutboxService, "chunkSize", 500);
+        ReflectionTestUtils.setField(postOutboxService, "claimLeaseMs", 60_000L);
+    }
+
+    @Test
+    void 본문_수정은_document_의_version_이_더_작을_때만_반영한다() throws Exception {
+        postOutboxService.relay(List.of(outbox(1L, EventType.UPDATE_CONTENT,
+                PostOutboxPayload.builder().content("수정").version(3).build())));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOps).updateOne(query.capture(), any(Update.class));
+        assertThat(query.getValue().getQueryObject()).isEqualTo(olderThan("$lt", 3));
+    }
+
+    @Test
+    void 삭제는_같은_version_의_document_도_삭제한다() throws Exception {
+        postOutboxService.relay(List.of(outbox(1L, EventType.DELETE, PostOutboxPayload.builder().version(3).build())));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOps).remove(query.capture());
+        assertThat(query.getValue().getQueryObject()).isEqualTo(olderThan("$lte", 3));
+    }
+
+    @Test
+    void version_이_없는_이전_outbox_는_조건_없이_반영한다() throws Exception {
+        postOutboxService.relay(List.of(outbox(1L, EventType.DELETE, new PostOutboxPayload())));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOps).remove(query.capture());
+        assertThat(query.getValue().getQueryObject()).isEqualTo(new Document("entityId", POST_ID));
+    }
+
+    @Test
+    void variant_는_생성을_시작한_version_의_document_에만_반영한다() throws Exception {
+        postOutboxService.relay(List.of(outbox(1L, EventType.UPDATE_VARIANTS,
+                PostOutboxPayload.builder().variants("THUMBNAIL").version(2).build())));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOps).updateOne(query.capture(), any(Update.class));
+        assertThat(query.getValue().getQueryObject()).isEqualTo(new Document("entityId", POST_ID)
+                .append("$or", List.of(new Document("version", null), new Document("version", 2))));
+    }
+
+    @Test
+    void 생성은_본문을_document_가_없을_때만_저장한다() throws Exception {
+        postOutboxService.relay(List.of(outbox(1L, EventType.UPSERT, PostOutboxPayload.builder()
+                .content("본문").version(0).createdAt(LocalDateTime.of(2024, 3, 1, 0, 0)).build())));
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOps).upsert(any(Query.class), update.capture());
+        Document setOnInsert = (Document) update.getValue().getUpdateObject().get("$setOnInsert");
+        assertThat(setOnInsert).containsEntry("content", "본문").containsEntry("version", 0);
+        assertThat((Document) update.getValue().getUpdateObject().get("$set")).doesNotContainKeys("content", "version");
+    }
+
+    @Test
+    void 반영한_뒤_outbox_를_삭제하고_피드_캐시를_무효화한다() throws Exception {
+        postOutboxService.relay(List.of(
+                outbox(1L, EventType.UPDATE_STATUS, new PostOutboxPayload()),
+                outbox(2L, EventType.UPDATE_COUNT_LOVE, PostOutboxPayload.builder().countLove(5L).build())));
+
+        verify(bulkOps).execute();
+        verify(postOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(postFeedCacheDao).evictFamily(FAMILY_ID);
+    }
+
+    @Test
+    void 반영에_실패하면_outbox_를_남겨_다시_반영한다() throws Exception {
+        when(bulkOps.execute()).thenThrow(new IllegalStateException("mongo down"));
+
+        assertThatThrownBy(() -> postOutboxService.relay(List.of(outbox(1L, EventType.UPDATE_STATUS, new PostOutboxPayload()))))
+                .isInstanceOf(IllegalStateException.class);
+        verify(postOutboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void 가장_오래된_outbox_를_다른_relay_가_반영_중이면_가져가지_않는다() throws Exception {
+        PostOutbox claimed = outbox(1L, EventType.UPDATE_STATUS, new PostOutboxPayload());
+        claimed.claim(LocalDateTime.now().plusMinutes(1));
+        when(postOutboxRepository.findOldestForUpdate(any(Pageable.class)))
+                .thenReturn(new ArrayList<>(List.of(claimed, outbox(2L, EventType.UPDATE_STATUS, new PostOutboxPayload()))));
+
+        assertThat(postOutboxService.claimBatch(10)).isEmpty();
+    }
+
+    @Test
+    void 기한이_지난_outbox_는_다시_가져간다() throws Exception {
+        PostOutbox expired = outbox(1L, EventType.UPDATE_STATUS, new PostOutboxPayload());
+        expired.claim(LocalDateTime.now().minusSeconds(1));
+        PostOutbox pending = outbox(2L, EventType.UPDATE_STATUS, new PostOutboxPayload());
+        when(postOutboxRepository.findOldestForUpdate(any(Pageable.class))).thenReturn(Arrays.asList(expired, pending));
+
+        List<PostOutbox> outboxes = postOutboxService.claimBatch(10);
+
+        assertThat(outboxes).containsExactly(expired, pending);
+        assertThat(outboxes).allMatch(outbox -> outbox.isClaimed(LocalDateTime.now()));
+    }
+
+    private PostOutbox outbox(long outboxId, EventType eventType, PostOutboxPayload payload) throws Exception {
+        return PostOutbox.builder()
+                .outboxId(outboxId)
+                .eventType(eventType)
+                .targetId(POST_ID)
+                .familyId(FAMILY_ID)
+                .payload(objectMapper.writeValueAsString(payload))
+                .build();
+    }
+
+    private static Document olderThan(String operator, int version) {
+        return new Document("entityId", POST_ID)
+                .append("$or", List.of(new Document("version", null), new Document("version", new Document(operator, version))));
+    }
+}
@@ -0,0 +1,119 @@
+package com.spring.familymoments.domain.postLove;
+
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReadModelService;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 좋아요 변화량을 대상별로 합산해 countLove 에 반영하는 동작
+ */
+class LoveCounterServiceTest {
+    private LoveCountDeltaRepository loveCountDeltaRepository;
+    private PostRepository postRepository;
+    private CommentWithUserRepository commentWithUserRepository;
+    private PostFeedCacheDao postFeedCacheDao;
+    private PostReadModelService postReadModelService;
+    private LoveCounterService loveCounterService;
+
+    @BeforeEach
+    void setUp() {
+        loveCountDeltaRepository = mock(LoveCountDeltaRepository.class);
+        postRepository = mock(PostRepository.class);
+        commentWithUserRepository = mock(CommentWithUserRepository.class);
+        postFeedCacheDao = mock(PostFeedCacheDao.class);
+        postReadModelService = mock(PostReadModelService.class);
+        loveCounterService = new LoveCounterService(loveCountDeltaRepository, postRepository, commentWithUserRepository,
+                postFeedCacheDao, postReadModelService);
+    }
+
+    @Test
+    void 좋아요_작성_취소는_변화량_행만_추가한다() {
+        loveCounterService.increase(Target.POST, 1L);
+        loveCounterService.decrease(Target.COMMENT, 2L);
+
+        ArgumentCaptor<LoveCountDelta> captor = ArgumentCaptor.forClass(LoveCountDelta.class);
+        verify(loveCountDeltaRepository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues()).extracting(LoveCountDelta::getTarget, LoveCountDelta::getTargetId, LoveCountDelta::getDelta)
+                .containsExactly(tuple(Target.POST, 1L, 1),
+                        tuple(Target.COMMENT, 2L, -1));
+        verifyNoInteractions(postRepository, commentWithUserRepository);
+    }
+
+    @Test
+    void 게시물별로_합산한_변화량을_같은_값끼리_묶어_반영한다() {
+        List<LoveCountDelta> deltas = List.of(
+                LoveCountDelta.of(Target.POST, 1L, 1),
+                LoveCountDelta.of(Target.POST, 1L, 1),
+                LoveCountDelta.of(Target.POST, 2L, 1),
+                LoveCountDelta.of(Target.POST, 2L, 1),
+                LoveCountDelta.of(Target.POST, 3L, -1));
+        when(loveCountDeltaRepository.findOldestForUpdate(eq(Target.POST), any())).thenReturn(deltas);
+        when(postRepository.findFamilyIdsByPostIds(anyCollection())).thenReturn(List.of(10L));
+
+        int flushed = loveCounterService.flushBatch(Target.POST, 100);
+
+        assertThat(flushed).isEqualTo(5);
+        verify(postRepository).addCountLove(eq(2L), argThat(containsExactly(1L, 2L)));
+        verify(postRepository).addCountLove(eq(-1L), argThat(containsExactly(3L)));
+        verify(postRepository, times(2)).addCountLove(anyLong(), anyCollection());
+        verify(postFeedCacheDao, atLeastOnce()).evictFamily(10L);
+        verify(loveCountDeltaRepository).deleteAllInBatch(deltas);
+    }
+
+    @Test
+    void 합이_0_인_게시물은_갱신하지_않고_read_model_에도_기록하지_않는다() {
+        List<LoveCountDelta> deltas = List.of(
+                LoveCountDelta.of(Target.POST, 1L, 1),
+                LoveCountDelta.of(Target.POST, 1L, -1),
+                LoveCountDelta.of(Target.POST, 2L, 1));
+        when(loveCountDeltaRepository.findOldestForUpdate(eq(Target.POST), any())).thenReturn(deltas);
+        when(postRepository.findFamilyIdsByPostIds(anyCollection())).thenReturn(List.of());
+
+        loveCounterService.flushBatch(Target.POST, 100);
+
+        verify(postRepository).addCountLove(eq(1L), argThat(containsExactly(2L)));
+        verify(postRepository, times(1)).addCountLove(anyLong(), anyCollection());
+        verify(postReadModelService).refreshCountLove(argThat(containsExactly(2L)));
+        verify(loveCountDeltaRepository).deleteAllInBatch(deltas);
+    }
+
+    @Test
+    void 댓글_변화량은_댓글에만_반영한다() {
+        List<LoveCountDelta> deltas = List.of(LoveCountDelta.of(Target.COMMENT, 5L, 1));
+        when(loveCountDeltaRepository.findOldestForUpdate(eq(Target.COMMENT), any())).thenReturn(deltas);
+
+        loveCounterService.flushBatch(Target.COMMENT, 100);
+
+        verify(commentWithUserRepository).addCountLove(eq(1L), argThat(containsExactly(5L)));
+        verifyNoInteractions(postRepository, postFeedCacheDao, postReadModelService);
+        verify(loveCountDeltaRepository).deleteAllInBatch(deltas);
+    }
+
+    @Test
+    void 반영할_변화량이_없으면_아무것도_하지_않는다() {
+        when(loveCountDeltaRepository.findOldestForUpdate(eq(Target.POST), any())).thenReturn(List.of());
+
+        assertThat(loveCounterService.flushBatch(Target.POST, 100)).isZero();
+        verifyNoInteractions(postRepository, postReadModelService);
+        verify(loveCountDeltaRepository, never()).deleteAllInBatch(any());
+    }
+
+    private static ArgumentMatcher<Collection<Long>> containsExactly(Long... ids) {
+        return collection -> collection != null && collection.size() == ids.length && collection.containsAll(List.of(ids));
+    }
+}
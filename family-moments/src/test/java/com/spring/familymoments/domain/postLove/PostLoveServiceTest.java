@@ -0,0 +1,70 @@
+package com.spring.familymoments.domain.postLove;
+
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReadModelService;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.post.PostWithLoveRepository;
+import com.spring.familymoments.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * countLove 를 실제 좋아요 수와 비교해 어긋난 게시물만 보정하는 동작
+ */
+class PostLoveServiceTest {
+    private PostRepository postRepository;
+    private PostFeedCacheDao postFeedCacheDao;
+    private PostReadModelService postReadModelService;
+    private PostLoveService postLoveService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postFeedCacheDao = mock(PostFeedCacheDao.class);
+        postReadModelService = mock(PostReadModelService.class);
+        postLoveService = new PostLoveService(mock(PostLoveRepository.class), mock(UserRepository.class),
+                mock(PostWithLoveRepository.class), postRepository, postFeedCacheDao, mock(LoveCounterService.class),
+                mock(LoveIndexService.class), postReadModelService);
+    }
+
+    @Test
+    void 어긋난_게시물만_보정하고_read_model_과_피드_캐시에_반영한다() {
+        when(postRepository.findPostIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L));
+        when(postRepository.findDriftedCountLovePostIds(List.of(1L, 2L, 3L))).thenReturn(List.of(2L));
+        when(postRepository.findFamilyIdsByPostIds(List.of(2L))).thenReturn(List.of(10L));
+
+        long next = postLoveService.reconcileCountLove(0L, 3);
+
+        assertThat(next).isEqualTo(3L);
+        verify(postRepository).repairCountLove(List.of(2L));
+        verify(postReadModelService).refreshCountLove(List.of(2L));
+        verify(postFeedCacheDao).evictFamily(10L);
+    }
+
+    @Test
+    void 어긋난_게시물이_없으면_갱신하지_않는다() {
+        when(postRepository.findPostIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(postRepository.findDriftedCountLovePostIds(anyCollection())).thenReturn(List.of());
+
+        postLoveService.reconcileCountLove(0L, 3);
+
+        verify(postRepository, never()).repairCountLove(anyCollection());
+        verifyNoInteractions(postReadModelService, postFeedCacheDao);
+    }
+
+    @Test
+    void 마지막_batch_이면_보정_종료를_반환한다() {
+        when(postRepository.findPostIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(1L, 2L), List.of());
+        when(postRepository.findDriftedCountLovePostIds(anyCollection())).thenReturn(List.of());
+
+        assertThat(postLoveService.reconcileCountLove(0L, 3)).isEqualTo(PostLoveService.RECONCILE_DONE);
+        assertThat(postLoveService.reconcileCountLove(2L, 3)).isEqualTo(PostLoveService.RECONCILE_DONE);
+    }
+}
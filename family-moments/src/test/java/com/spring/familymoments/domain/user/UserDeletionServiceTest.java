@@ -0,0 +1,209 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.domain.alarmSetting.AlarmSettingRepository;
+import com.spring.familymoments.domain.awsS3.ImageBlobService;
+import com.spring.familymoments.domain.comment.CommentReportRepository;
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.commentLove.CommentLoveRepository;
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import com.spring.familymoments.domain.post.PostCalendarService;
+import com.spring.familymoments.domain.post.PostContentStore;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReportRepository;
+import com.spring.familymoments.domain.post.PostRepository;
+import com.spring.familymoments.domain.post.entity.Post;
+import com.spring.familymoments.domain.post.model.PostDayCount;
+import com.spring.familymoments.domain.postLove.LoveCounterService;
+import com.spring.familymoments.domain.postLove.LoveIndexService;
+import com.spring.familymoments.domain.postLove.PostLoveRepository;
+import com.spring.familymoments.domain.postLove.entity.LoveCountDelta.Target;
+import com.spring.familymoments.domain.postLove.model.LoveIndexEntry;
+import com.spring.familymoments.domain.socialInfo.SocialUserRepository;
+import com.spring.familymoments.domain.user.entity.UserDeletionJob;
+import com.spring.familymoments.domain.user.entity.UserDeletionJob.Phase;
+import com.spring.familymoments.domain.user.entity.UserDeletionJob.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 회원 탈퇴 작업의 단계별 chunk 처리, 실패 후 backoff
+ */
+class UserDeletionServiceTest {
+    private static final long JOB_ID = 1L;
+    private static final long USER_ID = 100L;
+    private static final int CHUNK_SIZE = 2;
+
+    private UserDeletionJobRepository userDeletionJobRepository;
+    private UserRepository userRepository;
+    private CommentWithUserRepository commentWithUserRepository;
+    private CommentLoveRepository commentLoveRepository;
+    private PostLoveRepository postLoveRepository;
+    private PostRepository postRepository;
+    private PostReportRepository postReportRepository;
+    private CommentReportRepository commentReportRepository;
+    private UserFamilyRepository userFamilyRepository;
+    private AlarmSettingRepository alarmSettingRepository;
+    private SocialUserRepository socialUserRepository;
+    private LoveCounterService loveCounterService;
+    private LoveIndexService loveIndexService;
+    private PostContentStore postContentStore;
+    private ImageBlobService imageBlobService;
+    private PostCalendarService postCalendarService;
+    private PostFeedCacheDao postFeedCacheDao;
+    private UserDeletionService userDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        userDeletionJobRepository = mock(UserDeletionJobRepository.class);
+        userRepository = mock(UserRepository.class);
+        commentWithUserRepository = mock(CommentWithUserRepository.class);
+        commentLoveRepository = mock(CommentLoveRepository.class);
+        postLoveRepository = mock(PostLoveRepository.class);
+        postRepository = mock(PostRepository.class);
+        postReportRepository = mock(PostReportRepository.class);
+        commentReportRepository = mock(CommentReportRepository.class);
+        userFamilyRepository = mock(UserFamilyRepository.class);
+        alarmSettingRepository = mock(AlarmSettingRepository.class);
+        socialUserRepository = mock(SocialUserRepository.class);
+        loveCounterService = mock(LoveCounterService.class);
+        loveIndexService = mock(LoveIndexService.class);
+        postContentStore = mock(PostContentStore.class);
+        imageBlobService = mock(ImageBlobService.class);
+        postCalendarService = mock(PostCalendarService.class);
+        postFeedCacheDao = mock(PostFeedCacheDao.class);
+        userDeletionService = new UserDeletionService(userDeletionJobRepository, userRepository, commentWithUserRepository,
+                commentLoveRepository, postLoveRepository, postRepository, postReportRepository, commentReportRepository,
+                userFamilyRepository, alarmSettingRepository, socialUserRepository, loveCounterService, loveIndexService,
+                postContentStore, imageBlobService, postCalendarService, postFeedCacheDao);
+        ReflectionTestUtils.setField(userDeletionService, "maxAttempts", 2);
+        ReflectionTestUtils.setField(userDeletionService, "retryDelayMs", 60_000L);
+    }
+
+    @Test
+    void 처리한_행이_있으면_같은_단계에_머물며_진행_상황을_기록한다() {
+        UserDeletionJob job = job(Phase.COMMENTS);
+        when(commentWithUserRepository.clearWriterByUserId(USER_ID, CHUNK_SIZE)).thenReturn(2);
+
+        assertThat(userDeletionService.processChunk(JOB_ID, CHUNK_SIZE)).isTrue();
+
+        assertThat(job.getPhase()).isEqualTo(Phase.COMMENTS);
+        assertThat(job.getProcessedRows()).isEqualTo(2L);
+    }
+
+    @Test
+    void 처리할_행이_없으면_다음_단계로_이동한다() {
+        UserDeletionJob job = job(Phase.COMMENTS);
+        when(commentWithUserRepository.clearWriterByUserId(USER_ID, CHUNK_SIZE)).thenReturn(0);
+
+        userDeletionService.processChunk(JOB_ID, CHUNK_SIZE);
+
+        assertThat(job.getPhase()).isEqualTo(Phase.COMMENT_LOVES);
+        assertThat(job.getStatus()).isEqualTo(Status.PENDING);
+    }
+
+    @Test
+    void 좋아요는_좋아요_수와_인덱스에서_빼면서_삭제한다() {
+        job(Phase.POST_LOVES);
+        when(postLoveRepository.findActiveLovesByUserId(eq(USER_ID), any(Pageable.class)))
+                .thenReturn(List.of(new LoveIndexEntry(11L, 1L, USER_ID), new LoveIndexEntry(12L, 2L, USER_ID)));
+
+        userDeletionService.processChunk(JOB_ID, CHUNK_SIZE);
+
+        verify(postLoveRepository).deleteAllByIdInBatch(List.of(11L, 12L));
+        verify(loveCounterService).decrease(Target.POST, 1L);
+        verify(loveCounterService).decrease(Target.POST, 2L);
+        verify(loveIndexService).remove(Target.POST, 1L, USER_ID);
+        verify(loveIndexService).remove(Target.POST, 2L, USER_ID);
+    }
+
+    @Test
+    void 게시물은_본문과_이미지_참조를_정리한_뒤_삭제하고_캘린더를_감소시킨다() {
+        job(Phase.POSTS);
+        List<Post> posts = List.of(Post.builder().postId(1L).build(), Post.builder().postId(2L).build());
+        List<PostDayCount> dayCounts = List.of(new PostDayCount(10L, 2024, 3, 1, 2L));
+        when(postRepository.findPostIdsByWriterId(eq(USER_ID), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(postRepository.findAllById(List.of(1L, 2L))).thenReturn(posts);
+        when(postContentStore.findImageUrls(posts)).thenReturn(List.of("a.jpg"));
+        when(postRepository.findFamilyIdsByPostIds(List.of(1L, 2L))).thenReturn(List.of(10L));
+        when(postRepository.countActiveByDayAndPostIdIn(List.of(1L, 2L))).thenReturn(dayCounts);
+        when(postRepository.deleteByPostIdIn(List.of(1L, 2L))).thenReturn(2);
+
+        userDeletionService.processChunk(JOB_ID, CHUNK_SIZE);
+
+        InOrder inOrder = inOrder(imageBlobService, postContentStore, postRepository, postCalendarService);
+        inOrder.verify(imageBlobService).release(List.of("a.jpg"));
+        inOrder.verify(postContentStore).deleteAll(posts);
+        inOrder.verify(postRepository).countActiveByDayAndPostIdIn(List.of(1L, 2L));
+        inOrder.verify(postRepository).deleteByPostIdIn(List.of(1L, 2L));
+        inOrder.verify(postCalendarService).decrease(dayCounts);
+        verify(postFeedCacheDao).evictFamily(10L);
+    }
+
+    @Test
+    void 마지막_단계에서_유저를_삭제하고_작업을_끝낸다() {
+        UserDeletionJob job = job(Phase.USER);
+
+        userDeletionService.processChunk(JOB_ID, CHUNK_SIZE);
+
+        verify(userRepository).deleteById(USER_ID);
+        assertThat(job.getStatus()).isEqualTo(Status.DONE);
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void backoff_중인_작업은_처리하지_않는다() {
+        UserDeletionJob job = job(Phase.COMMENTS);
+        job.fail("error", 5, Duration.ofMinutes(1));
+
+        assertThat(userDeletionService.processChunk(JOB_ID, CHUNK_SIZE)).isFalse();
+        verifyNoInteractions(commentWithUserRepository);
+    }
+
+    @Test
+    void 연속으로_실패하면_backoff_후_FAILED_로_남긴다() {
+        UserDeletionJob job = job(Phase.COMMENTS);
+
+        userDeletionService.recordFailure(JOB_ID, new IllegalStateException("first"));
+        assertThat(job.getStatus()).isEqualTo(Status.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        userDeletionService.recordFailure(JOB_ID, new IllegalStateException("second"));
+        assertThat(job.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(job.getLastError()).contains("second");
+    }
+
+    @Test
+    void 성공하면_연속_실패_횟수를_초기화한다() {
+        UserDeletionJob job = job(Phase.COMMENTS);
+        userDeletionService.recordFailure(JOB_ID, new IllegalStateException("first"));
+        ReflectionTestUtils.setField(job, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+
+        userDeletionService.processChunk(JOB_ID, CHUNK_SIZE);
+
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getNextAttemptAt()).isNull();
+    }
+
+    private UserDeletionJob job(Phase phase) {
+        UserDeletionJob job = UserDeletionJob.builder()
+                .jobId(JOB_ID)
+                .userId(USER_ID)
+                .phase(phase)
+                .build();
+        when(userDeletionJobRepository.findByIdForUpdate(JOB_ID)).thenReturn(Optional.of(job));
+        return job;
+    }
+}
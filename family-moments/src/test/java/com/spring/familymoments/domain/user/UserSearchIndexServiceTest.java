@@ -0,0 +1,78 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.domain.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 유저 아이디 검색 인덱스의 재구성 전 MySQL 대체와 batch 재구성
+ */
+class UserSearchIndexServiceTest {
+    private UserSearchIndexDao userSearchIndexDao;
+    private UserRepository userRepository;
+    private UserSearchIndexService userSearchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        userSearchIndexDao = mock(UserSearchIndexDao.class);
+        userRepository = mock(UserRepository.class);
+        userSearchIndexService = new UserSearchIndexService(userSearchIndexDao, userRepository);
+        ReflectionTestUtils.setField(userSearchIndexService, "rebuildBatchSize", 2);
+    }
+
+    @Test
+    void 인덱스가_재구성되기_전에는_검색하지_않는다() {
+        when(userSearchIndexDao.isBuilt()).thenReturn(false);
+
+        assertThat(userSearchIndexService.search("fam", 6)).isEmpty();
+        verify(userSearchIndexDao, never()).search(any(), anyInt());
+    }
+
+    @Test
+    void 재구성된_인덱스에서_prefix_로_검색한다() {
+        when(userSearchIndexDao.isBuilt()).thenReturn(true);
+        when(userSearchIndexDao.search("fam", 6)).thenReturn(List.of("family1", "family2"));
+
+        assertThat(userSearchIndexService.search("fam", 6)).contains(List.of("family1", "family2"));
+    }
+
+    @Test
+    void 재구성은_userId_순서로_batch_조회한_뒤_마지막에_BUILT_표시한다() {
+        when(userRepository.findActiveUsersAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(user(1L, "a"), user(2L, "b")));
+        when(userRepository.findActiveUsersAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(user(5L, "c")));
+        when(userRepository.findActiveUsersAfter(eq(5L), any(Pageable.class))).thenReturn(List.of());
+
+        userSearchIndexService.rebuild();
+
+        InOrder inOrder = inOrder(userSearchIndexDao);
+        inOrder.verify(userSearchIndexDao).clear();
+        inOrder.verify(userSearchIndexDao).addAll(List.of("a", "b"));
+        inOrder.verify(userSearchIndexDao).addAll(List.of("c"));
+        inOrder.verify(userSearchIndexDao).markBuilt();
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_인덱스에_반영한다() {
+        userSearchIndexService.add("family1");
+        userSearchIndexService.remove("family2");
+
+        verify(userSearchIndexDao).add("family1");
+        verify(userSearchIndexDao).remove("family2");
+    }
+
+    private static User user(long userId, String id) {
+        return User.builder()
+                .userId(userId)
+                .id(id)
+                .build();
+    }
+}
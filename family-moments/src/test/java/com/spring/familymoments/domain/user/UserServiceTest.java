@@ -0,0 +1,102 @@
+package com.spring.familymoments.domain.user;
+
+import com.spring.familymoments.config.secret.jwt.JwtService;
+import com.spring.familymoments.domain.alarmSetting.AlarmSettingRepository;
+import com.spring.familymoments.domain.alarmSetting.AlarmSettingService;
+import com.spring.familymoments.domain.comment.CommentReportRepository;
+import com.spring.familymoments.domain.comment.CommentWithUserRepository;
+import com.spring.familymoments.domain.commentLove.CommentLoveWithUserRepository;
+import com.spring.familymoments.domain.common.UserFamilyRepository;
+import com.spring.familymoments.domain.family.FamilyRepository;
+import com.spring.familymoments.domain.fcm.FCMService;
+import com.spring.familymoments.domain.post.PostFeedCacheDao;
+import com.spring.familymoments.domain.post.PostReadModelService;
+import com.spring.familymoments.domain.post.PostReportRepository;
+import com.spring.familymoments.domain.post.PostWithUserRepository;
+import com.spring.familymoments.domain.postLove.PostLoveRepository;
+import com.spring.familymoments.domain.redis.RedisService;
+import com.spring.familymoments.domain.socialInfo.SocialUserRepository;
+import com.spring.familymoments.domain.user.entity.User;
+import com.spring.familymoments.domain.user.model.GetSearchUserRes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 유저 검색의 검색 인덱스 조회와 인덱스 재구성 전 MySQL 대체
+ */
+class UserServiceTest {
+    private static final long FAMILY_ID = 10L;
+
+    private final User loginUser = user(1L, "family");
+    private UserRepository userRepository;
+    private UserFamilyRepository userFamilyRepository;
+    private UserSearchIndexService userSearchIndexService;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userFamilyRepository = mock(UserFamilyRepository.class);
+        userSearchIndexService = mock(UserSearchIndexService.class);
+        userService = new UserService(userRepository, mock(PostWithUserRepository.class), mock(FamilyRepository.class),
+                mock(CommentWithUserRepository.class), userFamilyRepository, mock(CommentLoveWithUserRepository.class),
+                mock(PostLoveRepository.class), mock(PostFeedCacheDao.class), mock(PostReadModelService.class),
+                mock(JwtService.class), mock(PasswordEncoder.class), mock(RedisService.class), mock(AlarmSettingService.class),
+                mock(PostReportRepository.class), mock(CommentReportRepository.class), mock(SocialUserRepository.class),
+                mock(AlarmSettingRepository.class), mock(FCMService.class), mock(UserDeletionService.class),
+                userSearchIndexService);
+    }
+
+    @Test
+    void 검색_인덱스의_아이디_순서대로_유저를_조회한다() {
+        when(userSearchIndexService.search("fam", 6)).thenReturn(Optional.of(List.of("family", "family2", "family3")));
+        when(userRepository.findActiveUsersByIdIn(List.of("family", "family2", "family3")))
+                .thenReturn(List.of(user(3L, "family3"), loginUser, user(2L, "family2")));
+        when(userFamilyRepository.findJoinedOrInvitedUserIds(FAMILY_ID, List.of(2L, 3L))).thenReturn(List.of(3L));
+
+        List<GetSearchUserRes> users = userService.searchUserById("fam", FAMILY_ID, loginUser);
+
+        assertThat(users).extracting(GetSearchUserRes::getId, GetSearchUserRes::getStatus)
+                .containsExactly(tuple("family2", 1), tuple("family3", 0));
+        verify(userRepository, never()).searchUserByKeyword(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void 검색_인덱스가_재구성되기_전에는_MySQL_로_검색한다() {
+        when(userSearchIndexService.search("fam", 6)).thenReturn(Optional.empty());
+        when(userRepository.searchUserByKeyword(eq("fam"), any(Pageable.class)))
+                .thenReturn(List.of(loginUser, user(2L, "family2")));
+
+        List<GetSearchUserRes> users = userService.searchUserById("fam", null, loginUser);
+
+        assertThat(users).extracting(GetSearchUserRes::getId).containsExactly("family2");
+        verify(userRepository, never()).findActiveUsersByIdIn(any());
+        verifyNoInteractions(userFamilyRepository);
+    }
+
+    @Test
+    void 검색_인덱스에_없는_아이디는_조회하지_않는다() {
+        when(userSearchIndexService.search("zzz", 6)).thenReturn(Optional.of(List.of()));
+
+        assertThat(userService.searchUserById("zzz", FAMILY_ID, loginUser)).isEmpty();
+        verify(userRepository, never()).findActiveUsersByIdIn(any());
+        verify(userRepository, never()).searchUserByKeyword(anyString(), any(Pageable.class));
+    }
+
+    private static User user(long userId, String id) {
+        return User.builder()
+                .userId(userId)
+                .id(id)
+                .build();
+    }
+}